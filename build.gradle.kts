@@ -61,6 +61,9 @@ dependencies {
 	implementation ("org.redisson:redisson-spring-boot-starter:3.24.3")
 	testImplementation("com.github.codemonstur:embedded-redis:1.0.0")
 
+	// Cache
+	implementation("com.github.ben-manes.caffeine:caffeine")
+
 	testImplementation ("org.testcontainers:junit-jupiter:1.19.7")
 
 	// https://mvnrepository.com/artifact/io.micrometer/micrometer-registry-prometheus
@@ -53,6 +53,17 @@ CREATE TABLE coupon_issue (
                               is_used BOOLEAN NOT NULL
     -- CONSTRAINT fk_coupon FOREIGN KEY (coupon_id) REFERENCES coupon(id) 제거
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_general_ci;
+
+-- CouponIssueDeadLetter (선점은 끝났지만 재시도까지 DB 반영에 실패한 발급)
+CREATE TABLE coupon_issue_dead_letter (
+                                          id BIGINT AUTO_INCREMENT PRIMARY KEY,
+                                          user_id BIGINT NOT NULL,
+                                          coupon_id BIGINT NOT NULL,
+                                          issued_at DATETIME NOT NULL,
+                                          reason VARCHAR(500),
+                                          created_at DATETIME NOT NULL,
+                                          UNIQUE KEY uq_coupon_issue_dead_letter_user_coupon (user_id, coupon_id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_general_ci;
 -- Orders
 CREATE TABLE orders (
                         id VARCHAR(64) PRIMARY KEY,
@@ -97,9 +108,20 @@ CREATE TABLE order_event (
                              id BINARY(16) PRIMARY KEY,
                              aggregate_type VARCHAR(50) NOT NULL,
                              event_type VARCHAR(50) NOT NULL,
-                             payload LONGTEXT NOT NULL,
+                             payload MEDIUMBLOB NOT NULL, -- OutboxPayloadSerializer 바이너리 (이전 JSON 행도 읽기 호환)
                              status VARCHAR(20) NOT NULL,
-                             created_at DATETIME NOT NULL
+                             retry_count INT NOT NULL DEFAULT 0,
+                             created_at DATETIME NOT NULL,
+                             updated_at DATETIME NULL
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_general_ci;
+
+-- OrderConfirmationDeadLetter (재시도까지 확정에 실패한 주문)
+CREATE TABLE order_confirmation_dead_letter (
+                                                id BIGINT AUTO_INCREMENT PRIMARY KEY,
+                                                order_id VARCHAR(64) NOT NULL UNIQUE,
+                                                attempts INT NOT NULL,
+                                                reason VARCHAR(500),
+                                                created_at DATETIME NOT NULL
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_general_ci;
 
 -- BalanceHistory
@@ -122,8 +144,28 @@ CREATE TABLE product_statistics (
                                     PRIMARY KEY (product_id, stat_date)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_general_ci;
 
+-- 판매 통계 보관분 반영 기록 (보관분 확인 실패 시 이중 집계 방지)
+CREATE TABLE product_sales_claim (
+                                     claim_id VARCHAR(128) PRIMARY KEY,
+                                     applied_at DATETIME NOT NULL
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_general_ci;
+
 --
 ALTER TABLE product_stock ADD CONSTRAINT uq_product_size UNIQUE (product_id, size);
+-- 사용자별 쿠폰 1회 발급 (쓰기 버퍼 INSERT IGNORE 중복 제거)
+ALTER TABLE coupon_issue ADD CONSTRAINT uq_coupon_issue_user_coupon UNIQUE (user_id, coupon_id);
+-- 커서 기반 상품 목록 (정렬 키, id)
+CREATE INDEX idx_product_created_at_id ON product (created_at, id);
+CREATE INDEX idx_product_price_id ON product (price, id);
+-- 인기 상품 집계 (기간 범위 + 상품별 합계를 인덱스만으로 처리)
+CREATE INDEX idx_stat_date_product_sales ON product_statistics (stat_date, product_id, sales_count);
+-- outbox relay 선점 (상태별 오래된 순)
+CREATE INDEX idx_order_event_status_created ON order_event (status, created_at);
+-- lease 만료 PROCESSING 재선점 / COMPLETED 보관 기한 정리
+CREATE INDEX idx_order_event_status_updated ON order_event (status, updated_at);
+-- 미확정 주문 복구 (CREATED 주문과 결제 조인)
+CREATE INDEX idx_orders_status ON orders (status);
+CREATE INDEX idx_payment_order_id ON payment (order_id);
 ALTER DATABASE hhplus
   CHARACTER SET = utf8mb4
   COLLATE = utf8mb4_general_ci;
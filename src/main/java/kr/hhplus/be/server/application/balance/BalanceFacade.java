@@ -1,37 +1,33 @@
 package kr.hhplus.be.server.application.balance;
 
-import kr.hhplus.be.server.common.lock.DistributedLock;
 import kr.hhplus.be.server.common.rate.InMemoryRateLimiter;
-import kr.hhplus.be.server.domain.balance.Balance;
+import kr.hhplus.be.server.common.sequencer.KeySequencedExecutor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
-import java.util.Optional;
-
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class BalanceFacade {
 
-    private final BalanceRetryService retryService;
-    private final BalanceHistoryUseCase historyUseCase;
+    private final BalanceUseCase balanceUseCase;
     private final InMemoryRateLimiter rateLimiter;
+    private final KeySequencedExecutor keySequencedExecutor;
 
 
-    @DistributedLock(key = "'balance:charge:' + #criteria.userId")
+    /**
+     * 같은 사용자의 잔액 변경은 userId 기준 순차 실행기로 직렬화한다.
+     * 멱등 체크는 충전 트랜잭션 안에서 이력 INSERT IGNORE로 처리하므로 Redis 락 왕복이 필요 없다.
+     */
     public BalanceResult charge(ChargeBalanceCriteria criteria) {
         rateLimiter.validate(criteria.userId());
 
-        Optional<Balance> duplicated = historyUseCase.findIfDuplicatedRequest(criteria.requestId(), criteria.userId());
-        if (duplicated.isPresent()) {
-            log.warn("[멱등 요청] 이미 처리된 충전: requestId={}, userId={}", criteria.requestId(), criteria.userId());
-            return BalanceResult.fromInfo(BalanceInfo.from(duplicated.get()));
-        }
-        BalanceInfo info = retryService.chargeWithRetry(ChargeBalanceCommand.from(criteria));
-        return BalanceResult.fromInfo(info);
+        return keySequencedExecutor.execute(criteria.userId(), () -> {
+            BalanceInfo info = balanceUseCase.charge(ChargeBalanceCommand.from(criteria));
+            return BalanceResult.fromInfo(info);
+        });
     }
 
 }
-
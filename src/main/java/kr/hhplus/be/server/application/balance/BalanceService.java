@@ -1,19 +1,18 @@
 package kr.hhplus.be.server.application.balance;
 
-import kr.hhplus.be.server.common.lock.DistributedLock;
 import kr.hhplus.be.server.domain.balance.Balance;
 import kr.hhplus.be.server.domain.balance.BalanceException;
+import kr.hhplus.be.server.domain.balance.BalanceHistory;
 import kr.hhplus.be.server.domain.balance.BalanceHistoryRepository;
 import kr.hhplus.be.server.domain.balance.BalanceRepository;
 import kr.hhplus.be.server.common.vo.Money;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.boot.actuate.autoconfigure.tracing.OpenTelemetryTracingAutoConfiguration;
-import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+
 
 @Service
 @RequiredArgsConstructor
@@ -22,25 +21,41 @@ public class BalanceService implements BalanceUseCase {
 
 
     private final BalanceRepository balanceRepository;
-    private final ApplicationEventPublisher eventPublisher;
+    private final BalanceHistoryRepository balanceHistoryRepository;
 
 
+    /**
+     * 잔액 행을 읽지 않고 단일 UPDATE로 충전한다.
+     * 증감 연산을 DB가 원자적으로 처리하므로 사용자 단위 락이나 재시도가 필요 없다.
+     *
+     * <p>충전 이력을 같은 트랜잭션에서 INSERT IGNORE로 먼저 남겨 request_id를 멱등 키로 쓴다.
+     * 이미 처리된 request_id면 잔액을 건드리지 않고 현재 잔액을 돌려주며,
+     * 충전이 실패해 롤백되면 이력도 함께 사라지므로 재시도가 중복으로 막히지 않는다.
+     */
+    @Override
+    @Transactional
     public BalanceInfo charge(ChargeBalanceCommand command) {
         log.info("[비즈니스 로직 시작: 잔액 충전] userId={}, amount={}", command.userId(), command.amount());
 
-        Balance balance = balanceRepository.findByUserId(command.userId())
-                .orElseThrow(() -> new BalanceException.NotFoundException(command.userId()));
-
-        balance.charge(Money.wons(command.amount()));
+        Money amount = Money.wons(command.amount());
+        Balance.Policy.validateMinimumCharge(amount);
 
-        log.info("[DB 저장 직전] userId={}, newAmount={}", command.userId(), balance.getAmount());
+        BalanceHistory history = BalanceHistory.charge(
+                command.userId(), command.amount(), command.reason(), command.requestId()
+        );
+        if (!balanceHistoryRepository.saveIfAbsent(history)) {
+            log.warn("[멱등 요청] 이미 처리된 충전: requestId={}, userId={}", command.requestId(), command.userId());
+            return balanceRepository.findByUserId(command.userId())
+                    .map(BalanceInfo::from)
+                    .orElseThrow(() -> new BalanceException.NotFoundException(command.userId()));
+        }
 
-        balanceRepository.save(balance);
+        long newAmount = balanceRepository.increaseAmount(command.userId(), amount.value())
+                .orElseThrow(() -> new BalanceException.NotFoundException(command.userId()));
 
-        log.info("[비즈니스 로직 끝] 잔액 충전 완료 : userId={}, amount={}", command.userId(), balance.getAmount());
-        eventPublisher.publishEvent(BalanceChargedEvent.from(command));
+        log.info("[비즈니스 로직 끝] 잔액 충전 완료 : userId={}, amount={}", command.userId(), newAmount);
 
-        return BalanceInfo.from(balance);
+        return new BalanceInfo(command.userId(), newAmount, LocalDateTime.now());
     }
 
 
@@ -56,16 +71,16 @@ public class BalanceService implements BalanceUseCase {
 
     @Override
     @Transactional
-//    @DistributedLock(key = "#command.orderId", prefix = "payment:order:")
-//    @Transactional(propagation = Propagation.REQUIRES_NEW)
     public boolean decreaseBalance(DecreaseBalanceCommand command) {
-        Balance balance = balanceRepository.findByUserId(command.userId())
-                .orElseThrow(() -> new BalanceException.NotFoundException(command.userId()));
-
-        balance.decrease(Money.wons(command.amount()));
-
-        balanceRepository.save(balance);
-
-        return true;
+        Money amount = Money.wons(command.amount());
+        if (balanceRepository.decreaseAmountIfEnough(command.userId(), amount.value()).isPresent()) {
+            return true;
+        }
+
+        // 갱신된 행이 없을 때만 원인을 구분하기 위해 조회한다
+        if (balanceRepository.findByUserId(command.userId()).isEmpty()) {
+            throw new BalanceException.NotFoundException(command.userId());
+        }
+        throw new BalanceException.NotEnoughBalanceException();
     }
 }
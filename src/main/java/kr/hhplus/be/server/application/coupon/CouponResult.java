@@ -22,4 +22,18 @@ public record CouponResult(
                 issue.getCoupon().getValidUntil()
         );
     }
+
+    /**
+     * 선점 발급 응답. DB 반영 전이므로 발급 id는 아직 없다.
+     */
+    public static CouponResult reserved(ReservableCoupon coupon, Long userId, LocalDateTime issuedAt) {
+        return new CouponResult(
+                null,
+                userId,
+                coupon.type(),
+                coupon.discountRate(),
+                issuedAt,
+                coupon.validUntil()
+        );
+    }
 }
@@ -1,5 +1,7 @@
 package kr.hhplus.be.server.application.coupon;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import kr.hhplus.be.server.application.order.CreateOrderCommand;
 import kr.hhplus.be.server.common.lock.AopForTransaction;
 import kr.hhplus.be.server.common.lock.DistributedLock;
@@ -13,6 +15,8 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Service
@@ -22,8 +26,17 @@ public class CouponService implements CouponUseCase {
 
     private final CouponRepository couponRepository;
     private final CouponIssueRepository couponIssueRepository;
+    private final CouponIssueReservation couponIssueReservation;
+    private final CouponIssueWriter couponIssueWriter;
     private final Clock clock;
 
+    private static final Duration RESERVABLE_COUPON_TTL = Duration.ofSeconds(10);
+
+    // 선점 요청마다 쿠폰을 조회하지 않도록 선점에 필요한 값만 짧게 캐시한다. (유효기간 변경은 TTL 안에 반영)
+    private final Cache<String, ReservableCoupon> reservableCoupons = Caffeine.newBuilder()
+            .expireAfterWrite(RESERVABLE_COUPON_TTL)
+            .maximumSize(1_000)
+            .build();
 
 
     @DistributedLock(key = "#command.couponCode", prefix = "coupon:issue:")
@@ -54,6 +67,56 @@ public class CouponService implements CouponUseCase {
         return CouponResult.from(issue);
     }
 
+    /**
+     * Redis 선점 기반 선착순 쿠폰 발급.
+     * 수량 차감과 중복 체크는 Redis에서 원자적으로 끝내고, DB 반영은 쓰기 버퍼에 맡긴 뒤 바로 응답한다.
+     */
+    @Override
+    public CouponResult reserveLimitedCoupon(IssueLimitedCouponCommand command) {
+        ReservableCoupon coupon = reservableCoupons.get(command.couponCode(),
+                code -> ReservableCoupon.from(couponRepository.findByCode(code)));
+        if (coupon.isExpired(clock)) {
+            throw new CouponException.ExpiredException();
+        }
+
+        CouponIssueReservation.Result result = couponIssueReservation.reserve(coupon.couponId(), command.userId());
+        if (result == CouponIssueReservation.Result.NOT_INITIALIZED) {
+            coupon = initializeReservation(command.couponCode());
+            result = couponIssueReservation.reserve(coupon.couponId(), command.userId());
+        }
+
+        switch (result) {
+            case RESERVED -> log.info("[쿠폰 선점 성공] userId={}, couponCode={}", command.userId(), command.couponCode());
+            case ALREADY_ISSUED -> throw new CouponException.AlreadyIssuedException(command.userId(), command.couponCode());
+            case EXHAUSTED -> throw new CouponException.AlreadyExhaustedException();
+            default -> throw new IllegalStateException("쿠폰 선점 저장소 초기화 실패: " + command.couponCode());
+        }
+
+        ReservedCouponIssue issue = new ReservedCouponIssue(coupon.couponId(), command.userId(), LocalDateTime.now(clock));
+        try {
+            couponIssueWriter.write(issue);
+        } catch (CouponException.IssueBufferFullException e) {
+            // 쓰기 버퍼가 가득 찬 경우 선점을 되돌리고 거절
+            couponIssueReservation.release(coupon.couponId(), command.userId());
+            throw e;
+        }
+
+        return CouponResult.reserved(coupon, command.userId(), issue.issuedAt());
+    }
+
+    private ReservableCoupon initializeReservation(String couponCode) {
+        // 최신 잔여 수량과 기발급 사용자 기준으로 초기화 (이미 초기화된 경우 무시됨)
+        Coupon latest = couponRepository.findByCode(couponCode);
+        List<Long> issuedUserIds = couponIssueRepository.findUserIdsByCouponId(latest.getId());
+        Duration ttl = Duration.between(LocalDateTime.now(clock), latest.getValidUntil()).plusDays(1);
+
+        couponIssueReservation.initialize(latest.getId(), latest.getRemainingQuantity(), issuedUserIds, ttl);
+
+        ReservableCoupon refreshed = ReservableCoupon.from(latest);
+        reservableCoupons.put(couponCode, refreshed);
+        return refreshed;
+    }
+
 
     @Override
     @Transactional
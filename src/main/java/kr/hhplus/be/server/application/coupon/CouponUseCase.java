@@ -13,6 +13,11 @@ public interface CouponUseCase {
      */
     CouponResult issueLimitedCoupon(IssueLimitedCouponCommand command);
 
+    /**
+     * 선착순 쿠폰을 Redis에서 선점 방식으로 발급합니다. (DB 반영은 비동기 배치)
+     */
+    CouponResult reserveLimitedCoupon(IssueLimitedCouponCommand command);
+
     /**
      * 주문 시 쿠폰의 유효성을 검증하고 할인 금액을 계산합니다.
      */
@@ -0,0 +1,31 @@
+package kr.hhplus.be.server.application.coupon;
+
+import kr.hhplus.be.server.domain.coupon.Coupon;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+
+/**
+ * 선점 발급 경로에서 쓰는 쿠폰 정보. 엔티티 대신 응답과 만료 확인에 필요한 값만 담는다.
+ */
+public record ReservableCoupon(
+        Long couponId,
+        String code,
+        String type,
+        Integer discountRate,
+        LocalDateTime validUntil
+) {
+    public static ReservableCoupon from(Coupon coupon) {
+        return new ReservableCoupon(
+                coupon.getId(),
+                coupon.getCode(),
+                coupon.getType().name(),
+                coupon.getDiscountRate(),
+                coupon.getValidUntil()
+        );
+    }
+
+    public boolean isExpired(Clock clock) {
+        return LocalDateTime.now(clock).isAfter(validUntil);
+    }
+}
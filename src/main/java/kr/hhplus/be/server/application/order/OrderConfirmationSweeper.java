@@ -0,0 +1,45 @@
+package kr.hhplus.be.server.application.order;
+
+import kr.hhplus.be.server.domain.order.OrderRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 결제는 성공했지만 확정되지 않은 주문을 {@link OrderConfirmationWorker}에 다시 적재한다.
+ *
+ * <p>확정 큐는 메모리에만 있으므로 큐 포화로 버려졌거나 프로세스가 종료되며 유실된 주문을 주기적으로 찾아 복구한다.
+ * 결제 후 grace 시간이 지나지 않은 주문은 정상 처리 중일 수 있으므로 건너뛴다.
+ * 중복 적재되어도 워커가 CREATED 주문만 확정하므로 안전하다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrderConfirmationSweeper {
+
+    private final OrderRepository orderRepository;
+    private final OrderConfirmationWorker confirmationWorker;
+
+    @Value("${order.confirmation.sweep.grace-seconds:30}")
+    private long graceSeconds = 30;
+
+    @Value("${order.confirmation.sweep.limit:500}")
+    private int limit = 500;
+
+    @Scheduled(fixedDelayString = "${order.confirmation.sweep.interval-ms:30000}")
+    public void sweep() {
+        List<String> orderIds = orderRepository.findPaidButUnconfirmedIds(
+                LocalDateTime.now().minusSeconds(graceSeconds), limit);
+        if (orderIds.isEmpty()) {
+            return;
+        }
+
+        log.warn("[주문 확정 복구] 미확정 결제 주문 {}건 재적재", orderIds.size());
+        orderIds.forEach(confirmationWorker::enqueue);
+    }
+}
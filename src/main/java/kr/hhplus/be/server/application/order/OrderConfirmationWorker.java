@@ -0,0 +1,267 @@
+package kr.hhplus.be.server.application.order;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import kr.hhplus.be.server.common.lock.AopForTransaction;
+import kr.hhplus.be.server.domain.order.OrderConfirmationDeadLetterRepository;
+import kr.hhplus.be.server.domain.order.OrderRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 결제 완료 주문 확정 워커.
+ *
+ * <p>결제 트랜잭션이 커밋된 뒤 {@link #enqueue}로 주문 id만 큐에 넣는다. 워커 스레드가 batch-size만큼 차거나
+ * 첫 건 이후 linger 시간이 지나면 모은 주문을 한 트랜잭션에서 확정한다.
+ * <ul>
+ *   <li>CREATED 주문만 행 잠금과 함께 골라낸다 (중복 적재·복구 재적재된 주문은 건너뜀)</li>
+ *   <li>{@code UPDATE orders SET status = 'CONFIRMED' WHERE id IN (...)} 한 번으로 확정</li>
+ *   <li>확정된 주문의 외부 전송 outbox 행을 batch INSERT</li>
+ * </ul>
+ *
+ * <p>배치가 max-attempts 까지 실패하면 원인 주문을 가려내기 위해 주문별로 한 번씩 더 시도하고,
+ * 그래도 실패한 주문은 데드레터 테이블에 남긴다. 큐가 가득 차 적재하지 못한 주문과 프로세스 종료로 유실된 주문은
+ * {@link OrderConfirmationSweeper}가 다시 적재한다.
+ */
+@Slf4j
+@Component
+public class OrderConfirmationWorker {
+
+    private static final long RETRY_BACKOFF_MILLIS = 50;
+
+    private final OrderRepository orderRepository;
+    private final OrderEventUseCase orderEventUseCase;
+    private final OrderConfirmationDeadLetterRepository deadLetterRepository;
+    private final AopForTransaction aopForTransaction;
+    private final int workerCount;
+    private final int batchSize;
+    private final long lingerMillis;
+    private final int maxAttempts;
+
+    private final BlockingQueue<PendingConfirmation> queue;
+    private final Timer batchTimer;
+    private final Timer lagTimer;
+    private final DistributionSummary batchSizeSummary;
+    private final Counter confirmedCounter;
+    private final Counter retriedCounter;
+    private final Counter rejectedCounter;
+    private final Counter deadLetterCounter;
+
+    private volatile boolean running = true;
+    private final List<Thread> workers = new ArrayList<>();
+
+    public OrderConfirmationWorker(OrderRepository orderRepository,
+                                   OrderEventUseCase orderEventUseCase,
+                                   OrderConfirmationDeadLetterRepository deadLetterRepository,
+                                   AopForTransaction aopForTransaction,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${order.confirmation.workers:2}") int workerCount,
+                                   @Value("${order.confirmation.batch-size:100}") int batchSize,
+                                   @Value("${order.confirmation.linger-ms:20}") long lingerMillis,
+                                   @Value("${order.confirmation.queue-capacity:10000}") int queueCapacity,
+                                   @Value("${order.confirmation.max-attempts:3}") int maxAttempts) {
+        this.orderRepository = orderRepository;
+        this.orderEventUseCase = orderEventUseCase;
+        this.deadLetterRepository = deadLetterRepository;
+        this.aopForTransaction = aopForTransaction;
+        this.workerCount = workerCount;
+        this.batchSize = batchSize;
+        this.lingerMillis = lingerMillis;
+        this.maxAttempts = maxAttempts;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+
+        meterRegistry.gauge("order.confirmation.queue.size", queue, BlockingQueue::size);
+        this.batchTimer = Timer.builder("order.confirmation.batch")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        this.lagTimer = Timer.builder("order.confirmation.lag")
+                .description("결제 커밋 후 적재부터 주문 확정까지 걸린 시간")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        this.batchSizeSummary = DistributionSummary.builder("order.confirmation.batch.size")
+                .register(meterRegistry);
+        this.confirmedCounter = meterRegistry.counter("order.confirmation.confirmed");
+        this.retriedCounter = meterRegistry.counter("order.confirmation.retried");
+        this.rejectedCounter = meterRegistry.counter("order.confirmation.rejected");
+        this.deadLetterCounter = meterRegistry.counter("order.confirmation.dead_letter");
+    }
+
+    @PostConstruct
+    public void start() {
+        for (int i = 0; i < workerCount; i++) {
+            Thread worker = new Thread(this::runConfirmLoop, "order-confirmation-" + i);
+            worker.setDaemon(true);
+            worker.start();
+            workers.add(worker);
+        }
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        for (Thread worker : workers) {
+            worker.interrupt();
+            worker.join(TimeUnit.SECONDS.toMillis(5));
+        }
+
+        // 종료 전 남은 주문 확정
+        List<PendingConfirmation> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        for (int from = 0; from < remaining.size(); from += batchSize) {
+            confirm(remaining.subList(from, Math.min(from + batchSize, remaining.size())));
+        }
+    }
+
+    /**
+     * 확정할 주문을 큐에 넣는다. 결제 커밋 이후에 호출되므로 기다리거나 예외를 던지지 않고,
+     * 큐가 가득 차면 버린 뒤 복구 스케줄러에 맡긴다.
+     */
+    public boolean enqueue(String orderId) {
+        if (queue.offer(new PendingConfirmation(orderId, System.nanoTime()))) {
+            return true;
+        }
+        rejectedCounter.increment();
+        log.warn("[주문 확정 적재 실패] 큐 포화 - 복구 스케줄러가 재적재 예정: orderId={}", orderId);
+        return false;
+    }
+
+    private void runConfirmLoop() {
+        while (running) {
+            try {
+                List<PendingConfirmation> batch = nextBatch();
+                if (!batch.isEmpty()) {
+                    confirm(batch);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.error("[주문 확정] 워커 루프 예외", e);
+            }
+        }
+    }
+
+    /**
+     * 첫 건이 들어온 시점부터 linger 동안, 또는 batch-size가 찰 때까지 모은다.
+     */
+    private List<PendingConfirmation> nextBatch() throws InterruptedException {
+        List<PendingConfirmation> batch = new ArrayList<>(batchSize);
+        PendingConfirmation first = queue.poll(lingerMillis, TimeUnit.MILLISECONDS);
+        if (first == null) {
+            return batch;
+        }
+        batch.add(first);
+
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(lingerMillis);
+        while (batch.size() < batchSize) {
+            queue.drainTo(batch, batchSize - batch.size());
+            long remainingNanos = deadline - System.nanoTime();
+            if (batch.size() >= batchSize || remainingNanos <= 0) {
+                break;
+            }
+            PendingConfirmation next;
+            try {
+                next = queue.poll(remainingNanos, TimeUnit.NANOSECONDS);
+            } catch (InterruptedException e) {
+                // 종료 중 인터럽트: 이미 꺼낸 건은 버리지 않고 이번 배치로 처리한다
+                Thread.currentThread().interrupt();
+                break;
+            }
+            if (next == null) {
+                break;
+            }
+            batch.add(next);
+        }
+        return batch;
+    }
+
+    private void confirm(List<PendingConfirmation> batch) {
+        List<String> orderIds = batch.stream().map(PendingConfirmation::orderId).distinct().toList();
+        batchSizeSummary.record(orderIds.size());
+
+        Exception lastError = null;
+        for (int attempt = 1; attempt <= maxAttempts; attempt++) {
+            try {
+                confirmOnce(orderIds);
+                recordLag(batch);
+                return;
+            } catch (Exception e) {
+                lastError = e;
+                log.warn("[주문 확정 실패] {}건, attempt={}", orderIds.size(), attempt, e);
+                if (attempt < maxAttempts) {
+                    retriedCounter.increment();
+                    backoff(attempt);
+                }
+            }
+        }
+
+        if (orderIds.size() == 1) {
+            deadLetter(orderIds.get(0), maxAttempts, lastError);
+            return;
+        }
+
+        // 한 주문 때문에 배치 전체가 데드레터로 가지 않도록 주문별로 한 번 더 시도한다
+        for (String orderId : orderIds) {
+            try {
+                confirmOnce(List.of(orderId));
+            } catch (Exception e) {
+                deadLetter(orderId, maxAttempts + 1, e);
+            }
+        }
+        recordLag(batch);
+    }
+
+    private void confirmOnce(List<String> orderIds) {
+        Timer.Sample sample = Timer.start();
+        int confirmed = aopForTransaction.run(() -> {
+            List<String> confirmable = orderRepository.lockConfirmableIds(orderIds);
+            if (confirmable.isEmpty()) {
+                return 0;
+            }
+            orderRepository.confirmAll(confirmable);
+            orderEventUseCase.recordPaymentCompletedEvents(orderRepository.findAllWithItems(confirmable));
+            return confirmable.size();
+        });
+        sample.stop(batchTimer);
+        confirmedCounter.increment(confirmed);
+        log.debug("[주문 확정] 요청 {}건 중 {}건 확정", orderIds.size(), confirmed);
+    }
+
+    private void deadLetter(String orderId, int attempts, Exception cause) {
+        log.error("[주문 확정 최종 실패] 데드레터 기록: orderId={}, attempts={}", orderId, attempts, cause);
+        deadLetterCounter.increment();
+        try {
+            deadLetterRepository.save(orderId, attempts, String.valueOf(cause));
+        } catch (Exception e) {
+            // 데드레터도 남기지 못하면 주문은 CREATED로 남아 복구 스케줄러가 다시 적재한다
+            log.error("[주문 확정 데드레터 기록 실패] orderId={}", orderId, e);
+        }
+    }
+
+    private void recordLag(List<PendingConfirmation> batch) {
+        long now = System.nanoTime();
+        batch.forEach(pending -> lagTimer.record(now - pending.enqueuedAtNanos(), TimeUnit.NANOSECONDS));
+    }
+
+    private void backoff(int attempt) {
+        try {
+            Thread.sleep(RETRY_BACKOFF_MILLIS * attempt);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private record PendingConfirmation(String orderId, long enqueuedAtNanos) {
+    }
+}
@@ -1,11 +1,7 @@
 package kr.hhplus.be.server.application.order;
 
-import kr.hhplus.be.server.domain.order.Order;
-import kr.hhplus.be.server.domain.order.OrderException;
-import kr.hhplus.be.server.domain.order.OrderRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.event.TransactionalEventListener;
 import org.springframework.transaction.event.TransactionPhase;
@@ -16,25 +12,17 @@ import org.springframework.transaction.event.TransactionPhase;
 @RequiredArgsConstructor
 public class OrderEventListener {
 
-    private final OrderRepository orderRepository;
+    private final OrderConfirmationWorker confirmationWorker;
 
 
     /**
-     * 현재는 테스트 용이성을 위해 BEFORE_COMMIT으로 동기 처리.
-     * TODO: 추후 AFTER_COMMIT + @Async로 변경하고 실패 시 보상 트랜잭션 구현 필요
-     * - 메시지 큐 도입 고려
-     * - 실패 시 재시도 로직 추가
+     * 결제 트랜잭션이 커밋된 뒤 주문 id만 확정 큐에 넣는다.
+     * 주문 상태 검증은 결제 트랜잭션에서 이미 끝났으므로 여기서는 거절하지 않는다.
+     * 주문 확정과 outbox 기록은 {@link OrderConfirmationWorker}가 배치로 처리하므로 결제 응답 시간에 포함되지 않는다.
      */
-    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
     public void handlePaymentCompleted(PaymentCompletedEvent event) {
-        log.info("[OrderEventListener] AFTER_COMMIT: 결제 완료 이벤트 수신 - {}", event);
-
-        Order order = orderRepository.findById(event.orderId())
-                .orElseThrow(() -> new OrderException.NotFoundException(event.orderId()));
-
-        order.markConfirmed();
-        orderRepository.save(order);
-
-        log.info("[OrderEventListener] 주문 상태 변경 완료: orderId={}, status={}", order.getId(), order.getStatus());
+        log.debug("[OrderEventListener] AFTER_COMMIT: 결제 완료 이벤트 수신 - {}", event);
+        confirmationWorker.enqueue(event.orderId());
     }
 }
@@ -6,6 +6,8 @@ import kr.hhplus.be.server.domain.outbox.OrderEventRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.util.Collection;
+
 @Service
 @RequiredArgsConstructor
 public class OrderEventService implements OrderEventUseCase {
@@ -16,4 +18,8 @@ public class OrderEventService implements OrderEventUseCase {
         OrderEvent event = OrderEvent.paymentCompleted(order);
         repository.save(event);
     }
+
+    public void recordPaymentCompletedEvents(Collection<Order> orders) {
+        repository.saveAll(orders.stream().map(OrderEvent::paymentCompleted).toList());
+    }
 }
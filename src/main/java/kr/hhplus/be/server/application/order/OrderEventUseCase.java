@@ -2,7 +2,11 @@ package kr.hhplus.be.server.application.order;
 
 import kr.hhplus.be.server.domain.order.Order;
 
+import java.util.Collection;
+
 public interface OrderEventUseCase {
     void recordPaymentCompletedEvent(Order order);
 
+    void recordPaymentCompletedEvents(Collection<Order> orders);
+
 }
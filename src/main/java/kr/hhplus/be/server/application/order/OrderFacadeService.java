@@ -18,32 +18,29 @@ public class OrderFacadeService {
 
     private final OrderItemCreator orderItemCreator;
     private final OrderUseCase orderService;
-    private final OrderEventUseCase orderEventService;
     private final CouponUseCase couponUseCase;
     private final OrderCompensationService compensationService;
 
     public OrderResult createOrder(CreateOrderCommand command) {
-        Order order = null;
+        // 1. OrderItem 생성 (재고 일괄 차감 포함, 분산락 적용)
+        // 실패하면 재고는 전부 롤백된 상태이므로 보상하지 않는다
+        List<OrderItem> orderItems = orderItemCreator.createOrderItems(command.items());
 
+        Order order = null;
         try {
-            // 1. OrderItem 생성 (재고 차감 포함, 분산락 적용)
-            List<OrderItem> orderItems = orderItemCreator.createOrderItems(command.items());
-
             // 2. 총액 계산 + 쿠폰 할인 적용
             Money discountedTotal = couponUseCase.calculateDiscountedTotal(command, orderItems);
 
             // 3. 주문 생성 및 저장 (TX 내부)
+            // 결제 완료 outbox 이벤트는 결제 후 OrderConfirmationWorker가 주문을 확정하며 기록한다
             order = orderService.createOrder(command.userId(), orderItems, discountedTotal);
 
-            // 4. 이벤트 발행 (Outbox 또는 Domain Event 기반)
-            orderEventService.recordPaymentCompletedEvent(order);
-
             return OrderResult.from(order);
 
         } catch (Exception e) {
             log.error("주문 실패 → 보상 트랜잭션 수행 시작", e);
 
-            // 1. 재고 보상
+            // 1. 차감이 커밋된 재고 보상
             compensationService.compensateStock(command.items());
 
             // 2. 주문 생성이 된 경우 상태 변경
@@ -3,11 +3,16 @@ package kr.hhplus.be.server.application.order;
 import kr.hhplus.be.server.application.product.*;
 import kr.hhplus.be.server.common.vo.Money;
 import kr.hhplus.be.server.domain.order.OrderItem;
+import kr.hhplus.be.server.domain.product.Product;
+import kr.hhplus.be.server.domain.product.ProductException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
-import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Component
 @RequiredArgsConstructor
@@ -16,23 +21,43 @@ public class OrderItemCreator {
     private final ProductUseCase productService;
     private final StockService stockService;
 
-    public List<OrderItem> createOrderItems(List<CreateOrderCommand.OrderItemCommand> commands) {
-        List<OrderItem> result = new ArrayList<>();
-
-        for (var item : commands) {
-            // 재고 차감
-            stockService.decrease(DecreaseStockCommand.of(item.productId(), item.size(), item.quantity()));
-
-            // 상품 조회
-            ProductDetailResult product = productService.getProductDetail(
-                    GetProductDetailCommand.of(item.productId(), item.size())
-            );
+    // true면 재고를 JVM 내 원장에서 선점한다 (DB에서 미리 떼어 온 할당량 안에서만 선점)
+    @Value("${stock.ledger.enabled:false}")
+    private boolean ledgerEnabled = false;
 
-            Money unitPrice = Money.wons(product.product().price());
-
-            result.add(OrderItem.of(item.productId(), item.quantity(), item.size(), unitPrice));
+    /**
+     * 상품을 먼저 확인하고 재고는 마지막에 일괄 차감한다.
+     * 예외가 발생하면 재고는 차감되지 않은 상태이므로 호출자는 보상할 재고가 없다.
+     */
+    public List<OrderItem> createOrderItems(List<CreateOrderCommand.OrderItemCommand> commands) {
+        // 상품 일괄 조회
+        List<Long> productIds = commands.stream()
+                .map(CreateOrderCommand.OrderItemCommand::productId)
+                .distinct()
+                .toList();
+        Map<Long, Product> products = productService.findProductsByIds(productIds).stream()
+                .collect(Collectors.toMap(Product::getId, Function.identity()));
+
+        List<OrderItem> orderItems = commands.stream()
+                .map(item -> {
+                    Product product = products.get(item.productId());
+                    if (product == null) {
+                        throw new ProductException.NotFoundException(item.productId());
+                    }
+                    return OrderItem.of(item.productId(), item.quantity(), item.size(), Money.wons(product.getPrice()));
+                })
+                .toList();
+
+        // 재고 일괄 차감 (전부 성공 또는 전부 실패)
+        List<DecreaseStockCommand> stockCommands = commands.stream()
+                .map(item -> DecreaseStockCommand.of(item.productId(), item.size(), item.quantity()))
+                .toList();
+        if (ledgerEnabled) {
+            stockService.reserveAll(stockCommands);
+        } else {
+            stockService.decreaseAll(stockCommands);
         }
 
-        return result;
+        return orderItems;
     }
 }
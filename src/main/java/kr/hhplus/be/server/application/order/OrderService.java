@@ -40,8 +40,7 @@ public class OrderService implements OrderUseCase {
 
     @Transactional
     public Order getOrderForPaymentWithLock(String orderId) {
-//        Order order = orderRepository.findByIdForUpdate(orderId)
-        Order order = orderRepository.findById(orderId)
+        Order order = orderRepository.findByIdForUpdate(orderId)
                 .orElseThrow(() -> new OrderException.NotFoundException(orderId));
         order.validatePayable();
         return order;
@@ -0,0 +1,45 @@
+package kr.hhplus.be.server.application.orderexport;
+
+import kr.hhplus.be.server.domain.outbox.OrderEventRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * 보관 기한이 지난 COMPLETED outbox 이벤트를 정리한다.
+ *
+ * <p>전송이 끝난 행이 계속 쌓이면 테이블과 인덱스가 커져 선점 쿼리와 INSERT가 느려진다.
+ * 한 번에 chunk-size건씩 나눠 삭제해 긴 트랜잭션과 큰 잠금을 피한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrderEventPurgeScheduler {
+
+    private final OrderEventRepository orderEventRepository;
+
+    @Value("${outbox.purge.retention-days:7}")
+    private long retentionDays = 7;
+
+    @Value("${outbox.purge.chunk-size:1000}")
+    private int chunkSize = 1000;
+
+    @Scheduled(cron = "${outbox.purge.cron:0 30 4 * * *}")
+    public void purge() {
+        LocalDateTime before = LocalDateTime.now().minusDays(retentionDays);
+        int total = 0;
+        int deleted;
+        do {
+            deleted = orderEventRepository.deleteCompletedBefore(before, chunkSize);
+            total += deleted;
+        } while (deleted >= chunkSize);
+
+        if (total > 0) {
+            log.info("[outbox 정리] COMPLETED 이벤트 {}건 삭제 (기준: {})", total, before);
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package kr.hhplus.be.server.application.orderexport;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import kr.hhplus.be.server.common.lock.AopForTransaction;
+import kr.hhplus.be.server.domain.orderexport.OrderExportPayload;
+import kr.hhplus.be.server.domain.outbox.OrderEvent;
+import kr.hhplus.be.server.domain.outbox.OrderEventRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * order_event(outbox)의 PENDING 이벤트를 외부 플랫폼으로 전달한다.
+ *
+ * <p>한 주기마다 다음을 반복한다.
+ * <ul>
+ *   <li>짧은 트랜잭션에서 batch-size건을 SKIP LOCKED로 선점해 PROCESSING 처리 (노드가 늘면 선점 대상이 자연히 나뉜다)</li>
+ *   <li>이벤트를 모두 micro-batch 전송 큐에 넣고 주문별 결과를 기다림 (전송 중에는 DB 커넥션을 잡지 않는다)</li>
+ *   <li>성공/실패 id를 각각 한 번의 UPDATE로 반영</li>
+ * </ul>
+ * 전송 도중 노드가 죽어 PROCESSING에 남은 행은 lease가 지나면 다시 선점된다.
+ *
+ * <p>결과는 lease보다 짧은 send-timeout까지만 기다린다. 그때까지 끝나지 않았거나 대기 중 인터럽트되면
+ * 미완료 이벤트를 실패로 반영해, 스케줄러 스레드가 묶이거나 lease 만료로 다른 노드와 중복 선점되는 일을 막는다.
+ */
+@Slf4j
+@Component
+public class OrderEventRelay {
+
+    private final OrderEventRepository orderEventRepository;
+    private final OrderExportUseCase orderExportUseCase;
+    private final AopForTransaction aopForTransaction;
+
+    private final Timer batchTimer;
+    private final Counter sentCounter;
+    private final Counter failedCounter;
+
+    @Value("${outbox.relay.batch-size:100}")
+    private int batchSize = 100;
+
+    @Value("${outbox.relay.max-retries:5}")
+    private int maxRetries = 5;
+
+    @Value("${outbox.relay.lease-seconds:60}")
+    private long leaseSeconds = 60;
+
+    @Value("${outbox.relay.send-timeout-seconds:30}")
+    private long sendTimeoutSeconds = 30;
+
+    @Value("${outbox.relay.max-batches-per-tick:10}")
+    private int maxBatchesPerTick = 10;
+
+    public OrderEventRelay(OrderEventRepository orderEventRepository,
+                           OrderExportUseCase orderExportUseCase,
+                           AopForTransaction aopForTransaction,
+                           MeterRegistry meterRegistry) {
+        this.orderEventRepository = orderEventRepository;
+        this.orderExportUseCase = orderExportUseCase;
+        this.aopForTransaction = aopForTransaction;
+
+        this.batchTimer = Timer.builder("outbox.relay.batch")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        this.sentCounter = meterRegistry.counter("outbox.relay.sent");
+        this.failedCounter = meterRegistry.counter("outbox.relay.failed");
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.relay.interval-ms:1000}")
+    public void relay() {
+        // 꽉 찬 배치가 모두 성공하는 동안은 이어서 비우되, 한 주기에 max-batches-per-tick 배치까지만 처리해
+        // 스케줄러 스레드를 오래 점유하지 않는다. 실패가 섞이면 다음 주기로 넘겨, 실패 이벤트를 곧바로 다시 선점하는 루프를 막는다
+        for (int batches = 0; batches < maxBatchesPerTick; batches++) {
+            if (relayBatch() < batchSize) {
+                return;
+            }
+        }
+        log.debug("[outbox relay] 주기당 최대 {}배치 처리 - 남은 이벤트는 다음 주기에 처리", maxBatchesPerTick);
+    }
+
+    /**
+     * @return 이번 배치에서 전송에 성공한 이벤트 수
+     */
+    public int relayBatch() {
+        Duration lease = Duration.ofSeconds(leaseSeconds);
+        List<OrderEvent> claimed = aopForTransaction.run(() -> orderEventRepository.claimPending(batchSize, lease));
+        if (claimed.isEmpty()) {
+            return 0;
+        }
+
+        Queue<UUID> succeeded = new ConcurrentLinkedQueue<>();
+        Queue<UUID> failed = new ConcurrentLinkedQueue<>();
+        Timer.Sample sample = Timer.start();
+        awaitResults(CompletableFuture.allOf(claimed.stream()
+                .map(event -> send(event, succeeded, failed))
+                .toArray(CompletableFuture[]::new)));
+        sample.stop(batchTimer);
+
+        // 대기 이후 늦게 도착한 결과는 반영하지 않는다. 어느 쪽에도 없는 이벤트는 미완료로 보고 실패 처리
+        List<UUID> completedIds = new ArrayList<>(succeeded);
+        List<UUID> failedIds = new ArrayList<>(failed);
+        Set<UUID> reported = new HashSet<>(completedIds);
+        reported.addAll(failedIds);
+        claimed.stream()
+                .map(OrderEvent::getId)
+                .filter(id -> !reported.contains(id))
+                .forEach(failedIds::add);
+
+        orderEventRepository.markCompleted(completedIds);
+        orderEventRepository.markFailed(failedIds, maxRetries);
+        sentCounter.increment(completedIds.size());
+        failedCounter.increment(failedIds.size());
+
+        log.info("[outbox relay] 선점 {}건, 성공 {}건, 실패 {}건", claimed.size(), completedIds.size(), failedIds.size());
+        return completedIds.size();
+    }
+
+    private void awaitResults(CompletableFuture<Void> all) {
+        try {
+            all.get(sendTimeoutSeconds, TimeUnit.SECONDS);
+        } catch (TimeoutException e) {
+            log.warn("[outbox relay] 전송 결과 대기 시간 초과: {}초", sendTimeoutSeconds);
+        } catch (InterruptedException e) {
+            log.warn("[outbox relay] 전송 결과 대기 중 인터럽트");
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            // send()가 모든 결과를 handle로 흡수하므로 도달하지 않는다
+            log.error("[outbox relay] 전송 결과 대기 예외", e);
+        }
+    }
+
+    private CompletableFuture<Void> send(OrderEvent event, Queue<UUID> succeeded, Queue<UUID> failed) {
+        CompletableFuture<Void> result;
+        try {
+            OrderExportPayload payload = event.decodePayload(OrderExportPayload.class);
+            result = orderExportUseCase.exportAsync(new OrderExportCommand(payload));
+        } catch (Exception e) {
+            result = CompletableFuture.failedFuture(e);
+        }
+        return result.handle((ignored, e) -> {
+            if (e == null) {
+                succeeded.add(event.getId());
+            } else {
+                log.warn("[outbox relay] 전송 실패: eventId={}, retryCount={}", event.getId(), event.getRetryCount(), e);
+                failed.add(event.getId());
+            }
+            return null;
+        });
+    }
+}
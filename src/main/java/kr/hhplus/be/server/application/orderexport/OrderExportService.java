@@ -1,17 +1,32 @@
 package kr.hhplus.be.server.application.orderexport;
 
-import kr.hhplus.be.server.infrastructure.external.ExternalPlatformClient;
+import kr.hhplus.be.server.infrastructure.external.OrderExportDispatcher;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
 @Service
 @RequiredArgsConstructor
 public class OrderExportService implements OrderExportUseCase {
 
-    private final ExternalPlatformClient platformClient;
+    private final OrderExportDispatcher exportDispatcher;
 
     @Override
     public void export(OrderExportCommand command) {
-        platformClient.sendOrder(command.payload());
+        try {
+            exportAsync(command).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public CompletableFuture<Void> exportAsync(OrderExportCommand command) {
+        return exportDispatcher.submit(command.payload());
     }
 }
@@ -1,5 +1,12 @@
 package kr.hhplus.be.server.application.orderexport;
 
+import java.util.concurrent.CompletableFuture;
+
 public interface OrderExportUseCase {
     void export(OrderExportCommand command);
+
+    /**
+     * 전송을 micro-batch 큐에 맡기고, 해당 주문의 전송 결과로 완료되는 future를 돌려준다.
+     */
+    CompletableFuture<Void> exportAsync(OrderExportCommand command);
 }
@@ -2,7 +2,9 @@ package kr.hhplus.be.server.application.payment;
 
 import kr.hhplus.be.server.application.balance.BalanceUseCase;
 import kr.hhplus.be.server.application.balance.DecreaseBalanceCommand;
-import kr.hhplus.be.server.common.lock.DistributedLock;
+import kr.hhplus.be.server.application.order.OrderUseCase;
+import kr.hhplus.be.server.common.lock.AopForTransaction;
+import kr.hhplus.be.server.common.sequencer.KeySequencedExecutor;
 import kr.hhplus.be.server.domain.payment.Payment;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -13,25 +15,43 @@ public class PaymentFacadeService {
 
     private final BalanceUseCase balanceUseCase;
     private final PaymentUseCase paymentUseCase;
-
-
-    @DistributedLock(key = "#command.orderId", prefix = "payment:order:")
+    private final OrderUseCase orderUseCase;
+    private final KeySequencedExecutor keySequencedExecutor;
+    private final AopForTransaction aopForTransaction;
+
+
+    /**
+     * 주문 단위 락 대신 userId 기준으로 직렬화한다.
+     * 같은 사용자의 충전·결제가 한 줄로 처리되고, 주문은 사용자에 속하므로 같은 주문의 중복 결제도 함께 직렬화된다.
+     * 트랜잭션은 순차 실행 스레드에서 시작해 대기 중에 커넥션을 점유하지 않는다.
+     *
+     * <p>주문 확정은 커밋 후 비동기로 처리되므로, 잔액 차감 전에 같은 트랜잭션에서 주문 행을 잠그고
+     * CREATED 상태와 성공한 결제가 없는지를 확인한다. 취소·보상된 주문이나 이미 결제된 주문은 여기서 롤백된다.
+     */
     public PaymentResult requestPayment(RequestPaymentCommand command) {
-        /*
-          1. 잔랙 차감 처리
-         */
-        balanceUseCase.decreaseBalance(
-                DecreaseBalanceCommand.of(command.userId(), command.amount())
-        );
-
-        /*
-          2. 결제 성공 처리
-         */
-        Payment payment = paymentUseCase.recordSuccess(
-                PaymentCommand.from(command)
-        );
-
-        return PaymentResult.from(payment);
+        return keySequencedExecutor.execute(command.userId(), () -> aopForTransaction.run(() -> {
+            /*
+              1. 주문 상태 검증 (행 잠금)
+             */
+            orderUseCase.getOrderForPaymentWithLock(command.orderId());
+            paymentUseCase.validateNotPaid(command.orderId());
+
+            /*
+              2. 잔랙 차감 처리
+             */
+            balanceUseCase.decreaseBalance(
+                    DecreaseBalanceCommand.of(command.userId(), command.amount())
+            );
+
+            /*
+              3. 결제 성공 처리
+             */
+            Payment payment = paymentUseCase.recordSuccess(
+                    PaymentCommand.from(command)
+            );
+
+            return PaymentResult.from(payment);
+        }));
 
     }
 
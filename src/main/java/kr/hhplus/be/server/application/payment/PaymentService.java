@@ -2,7 +2,9 @@ package kr.hhplus.be.server.application.payment;
 
 import kr.hhplus.be.server.application.order.PaymentCompletedEvent;
 import kr.hhplus.be.server.domain.payment.Payment;
+import kr.hhplus.be.server.domain.payment.PaymentException;
 import kr.hhplus.be.server.domain.payment.PaymentRepository;
+import kr.hhplus.be.server.domain.payment.PaymentStatus;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.ApplicationEventPublisher;
@@ -33,4 +35,12 @@ public class PaymentService implements PaymentUseCase {
         return payment;
     }
 
+    @Override
+    @Transactional
+    public void validateNotPaid(String orderId) {
+        if (paymentRepository.existsByOrderIdAndStatus(orderId, PaymentStatus.SUCCESS)) {
+            throw new PaymentException.AlreadyPaidException(orderId);
+        }
+    }
+
 }
\ No newline at end of file
@@ -7,4 +7,9 @@ public interface PaymentUseCase {
 
     Payment recordSuccess(PaymentCommand command);
 
+    /**
+     * 주문에 성공한 결제가 이미 있으면 예외를 던진다.
+     */
+    void validateNotPaid(String orderId);
+
 }
\ No newline at end of file
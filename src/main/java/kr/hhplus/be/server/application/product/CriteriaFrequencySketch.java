@@ -0,0 +1,51 @@
+package kr.hhplus.be.server.application.product;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 요청 빈도 추정용 Count-Min Sketch.
+ * 고정 크기 카운터 배열만 사용하므로 요청 조합 수와 무관하게 메모리가 일정하며, 추정치는 실제보다 작지 않다.
+ */
+class CriteriaFrequencySketch {
+
+    private static final int[] SEEDS = {0x9E3779B9, 0x85EBCA6B, 0xC2B2AE35, 0x27D4EB2F};
+
+    private final int width;
+    private final AtomicLongArray counters;
+
+    CriteriaFrequencySketch(int width) {
+        this.width = width;
+        this.counters = new AtomicLongArray(SEEDS.length * width);
+    }
+
+    void increment(Object item) {
+        int hash = item.hashCode();
+        for (int row = 0; row < SEEDS.length; row++) {
+            counters.incrementAndGet(index(row, hash));
+        }
+    }
+
+    long estimate(Object item) {
+        int hash = item.hashCode();
+        long min = Long.MAX_VALUE;
+        for (int row = 0; row < SEEDS.length; row++) {
+            min = Math.min(min, counters.get(index(row, hash)));
+        }
+        return min;
+    }
+
+    /**
+     * 모든 카운터를 절반으로 줄여 과거 요청의 비중을 낮춘다.
+     */
+    void halve() {
+        for (int i = 0; i < counters.length(); i++) {
+            counters.getAndUpdate(i, count -> count >>> 1);
+        }
+    }
+
+    private int index(int row, int hash) {
+        int h = (hash ^ SEEDS[row]) * 0x5BD1E995;
+        h ^= h >>> 15;
+        return row * width + Math.floorMod(h, width);
+    }
+}
@@ -0,0 +1,13 @@
+package kr.hhplus.be.server.application.product;
+
+import kr.hhplus.be.server.interfaces.product.ProductRequest;
+
+public record GetProductCursorCommand(
+        String cursor,
+        int size,
+        String sort
+) {
+    public static GetProductCursorCommand fromRequest(ProductRequest.CursorRequest request) {
+        return new GetProductCursorCommand(request.cursor(), request.size(), request.sort());
+    }
+}
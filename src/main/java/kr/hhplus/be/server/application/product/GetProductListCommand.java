@@ -6,10 +6,15 @@ import org.springframework.data.domain.Sort;
 public record GetProductListCommand(
         int page,
         int size,
-        String sort
+        String sort,
+        boolean withTotal
 ) {
+    public GetProductListCommand(int page, int size, String sort) {
+        this(page, size, sort, false);
+    }
+
     public static GetProductListCommand fromRequest(ProductRequest.ListRequest request) {
-        return new GetProductListCommand(request.page(), request.size(), request.sort());
+        return new GetProductListCommand(request.page(), request.size(), request.sort(), request.withTotal());
     }
 
     public Sort getSort() {
@@ -24,4 +29,3 @@ public record GetProductListCommand(
                 : Sort.by(Sort.Order.asc(field));
     }
 }
-
@@ -0,0 +1,53 @@
+package kr.hhplus.be.server.application.product;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 실제로 요청된 인기 상품 조회 조건(days/limit)과 빈도를 기록한다.
+ * 웜업 시 가장 많이 요청된 상위 K개 조건을 미리 계산하는 데 사용한다.
+ *
+ * <p>빈도는 Count-Min Sketch로 추정하고, 후보 조건 목록은 최대 {@value #MAX_CANDIDATES}개로 제한한다.
+ */
+@Component
+public class PopularProductCriteriaRegistry {
+
+    static final int MAX_CANDIDATES = 256;
+    private static final int SKETCH_WIDTH = 1024;
+
+    private final CriteriaFrequencySketch sketch = new CriteriaFrequencySketch(SKETCH_WIDTH);
+    private final Set<PopularProductCriteria> candidates = ConcurrentHashMap.newKeySet();
+
+    public void record(PopularProductCriteria criteria) {
+        sketch.increment(criteria);
+        if (candidates.size() < MAX_CANDIDATES) {
+            candidates.add(criteria);
+        }
+    }
+
+    public long frequencyOf(PopularProductCriteria criteria) {
+        return sketch.estimate(criteria);
+    }
+
+    /**
+     * 추정 빈도가 높은 순으로 상위 k개 조건을 반환한다.
+     */
+    public List<PopularProductCriteria> topK(int k) {
+        return candidates.stream()
+                .sorted(Comparator.comparingLong(this::frequencyOf).reversed())
+                .limit(k)
+                .toList();
+    }
+
+    /**
+     * 빈도를 절반으로 줄이고, 더 이상 요청되지 않는 조건을 후보에서 제거한다.
+     */
+    public void decay() {
+        sketch.halve();
+        candidates.removeIf(criteria -> frequencyOf(criteria) == 0);
+    }
+}
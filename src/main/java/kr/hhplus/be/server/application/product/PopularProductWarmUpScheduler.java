@@ -1,33 +1,94 @@
 package kr.hhplus.be.server.application.product;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
+/**
+ * 실제 요청 빈도 상위 K개 인기 상품 조회 조건을 미리 계산해 캐시에 채운다.
+ *
+ * <p>요청이 없던 경우에도 기본 조건({@link PopularProductCriteria#defaultSetting()})은 항상 포함한다.
+ * 웜업 전체 소요 시간과 조건별 계산 시간을 Micrometer 타이머로 기록한다.
+ */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class PopularProductWarmUpScheduler {
 
     private final ProductFacade productFacade;
+    private final PopularProductCriteriaRegistry criteriaRegistry;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${popular-products.warmup.top-k:10}")
+    private int topK;
+
+    @Value("${popular-products.warmup.parallelism:4}")
+    private int parallelism;
 
     @Scheduled(cron = "0 0 3 * * *") // 매일 새벽 3시
     public void warmUpPopularProducts() {
-        List.of(
-                // 하루
-//                new PopularProductCriteria(1, 5),
+        List<PopularProductCriteria> targets = warmUpTargets();
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                parallelism, parallelism, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(targets.size(), 1)),
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        AtomicInteger failed = new AtomicInteger();
+        long start = System.nanoTime();
+
+        try {
+            CompletableFuture.allOf(targets.stream()
+                    .map(criteria -> CompletableFuture.runAsync(() -> warmUp(criteria, failed), executor))
+                    .toArray(CompletableFuture[]::new)
+            ).join();
+        } finally {
+            executor.shutdown();
+        }
 
-                new PopularProductCriteria(3, 5)
-                // 일주일
-//                new PopularProductCriteria(7, 24)
+        long elapsed = System.nanoTime() - start;
+        Timer.builder("product.popular.warmup.duration")
+                .description("인기 상품 웜업 전체 소요 시간")
+                .register(meterRegistry)
+                .record(elapsed, TimeUnit.NANOSECONDS);
 
-                // 한달
-//                new PopularProductCriteria(30, 20)
-        ).forEach(productFacade::getPopularProducts);
+        criteriaRegistry.decay();
+        log.info("인기 상품 웜업 완료 - 대상 {}건, 실패 {}건, {}ms",
+                targets.size(), failed.get(), TimeUnit.NANOSECONDS.toMillis(elapsed));
+    }
+
+    private List<PopularProductCriteria> warmUpTargets() {
+        Set<PopularProductCriteria> targets = new LinkedHashSet<>();
+        targets.add(PopularProductCriteria.defaultSetting());
+        targets.addAll(criteriaRegistry.topK(topK));
+        return new ArrayList<>(targets);
+    }
 
-        log.info("인기 상품 웜업 완료");
+    private void warmUp(PopularProductCriteria criteria, AtomicInteger failed) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            productFacade.refreshPopularProducts(criteria);
+        } catch (Exception e) {
+            // 한 조건의 실패가 다른 조건의 웜업을 막지 않도록 기록만 한다
+            failed.incrementAndGet();
+            log.warn("[인기 상품 웜업 실패] criteria={}", criteria, e);
+        } finally {
+            sample.stop(Timer.builder("product.popular.warmup.compute")
+                    .description("인기 상품 조건별 계산 시간")
+                    .tag("criteria", criteria.days() + ":" + criteria.limit())
+                    .register(meterRegistry));
+        }
     }
-}
\ No newline at end of file
+}
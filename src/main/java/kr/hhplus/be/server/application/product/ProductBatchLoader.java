@@ -0,0 +1,112 @@
+package kr.hhplus.be.server.application.product;
+
+import kr.hhplus.be.server.domain.product.Product;
+import kr.hhplus.be.server.domain.product.ProductRepository;
+import kr.hhplus.be.server.domain.product.ProductStock;
+import kr.hhplus.be.server.domain.product.ProductStockRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 요청 단위 상품/재고 배치 로더 (DataLoader 방식).
+ *
+ * <p>요청된 상품 ID 중 아직 조회하지 않은 것만 {@code findAllById} / {@code IN} 조회 한 번으로 가져오고,
+ * 결과를 요청이 끝날 때까지 메모이즈한다. 같은 요청에서 같은 상품·재고를 다시 읽어도 추가 쿼리가 없다.
+ * 여러 상품을 다루는 호출부(주문 항목 생성, 인기 상품 목록)는 {@link #loadMany}로 ID를 한 번에 넘긴다.
+ *
+ * <p>웹 요청 밖(스케줄러, 비동기 작업)에서는 메모이즈 없이 호출 단위로만 배치 조회한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ProductBatchLoader {
+
+    private static final String CONTEXT_ATTRIBUTE = ProductBatchLoader.class.getName() + ".CONTEXT";
+
+    private final ProductRepository productRepository;
+    private final ProductStockRepository productStockRepository;
+
+    public Optional<Product> load(Long productId) {
+        return Optional.ofNullable(loadMany(List.of(productId)).get(productId));
+    }
+
+    /**
+     * 메모이즈되지 않은 상품만 한 번에 조회한다. 존재하지 않는 상품은 결과에서 빠진다.
+     */
+    public Map<Long, Product> loadMany(Collection<Long> productIds) {
+        LoaderContext context = context();
+        List<Long> missing = productIds.stream()
+                .filter(id -> !context.products.containsKey(id))
+                .distinct()
+                .toList();
+        if (!missing.isEmpty()) {
+            Map<Long, Product> found = productRepository.findAllById(missing).stream()
+                    .collect(Collectors.toMap(Product::getId, product -> product));
+            missing.forEach(id -> context.products.put(id, Optional.ofNullable(found.get(id))));
+        }
+
+        Map<Long, Product> result = new HashMap<>();
+        for (Long productId : productIds) {
+            context.products.get(productId).ifPresent(product -> result.put(productId, product));
+        }
+        return result;
+    }
+
+    public Optional<ProductStock> loadStock(Long productId, int size) {
+        LoaderContext context = context();
+        if (!context.stockLoadedProducts.contains(productId)) {
+            // 상품 단위로 모든 사이즈를 한 번에 적재한다
+            productStockRepository.findAllByProductIds(List.of(productId))
+                    .forEach(stock -> context.stocks.put(new StockKey(stock.getProductId(), stock.getSize()), stock));
+            context.stockLoadedProducts.add(productId);
+        }
+        return Optional.ofNullable(context.stocks.get(new StockKey(productId, size)));
+    }
+
+    /**
+     * 요청 중 재고가 변경된 상품의 메모이즈 값을 버린다.
+     */
+    public void forgetStock(Long productId) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return;
+        }
+        LoaderContext context = (LoaderContext) attributes.getAttribute(CONTEXT_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (context != null) {
+            context.stockLoadedProducts.remove(productId);
+            context.stocks.keySet().removeIf(key -> key.productId().equals(productId));
+        }
+    }
+
+    private LoaderContext context() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return new LoaderContext();
+        }
+        LoaderContext context = (LoaderContext) attributes.getAttribute(CONTEXT_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (context == null) {
+            context = new LoaderContext();
+            attributes.setAttribute(CONTEXT_ATTRIBUTE, context, RequestAttributes.SCOPE_REQUEST);
+        }
+        return context;
+    }
+
+    private record StockKey(Long productId, int size) {
+    }
+
+    private static final class LoaderContext {
+        private final Map<Long, Optional<Product>> products = new HashMap<>();
+        private final Set<Long> stockLoadedProducts = new HashSet<>();
+        private final Map<StockKey, ProductStock> stocks = new HashMap<>();
+    }
+}
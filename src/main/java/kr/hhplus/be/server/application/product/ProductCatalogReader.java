@@ -0,0 +1,41 @@
+package kr.hhplus.be.server.application.product;
+
+import kr.hhplus.be.server.domain.product.ProductException;
+import kr.hhplus.be.server.domain.product.ProductStock;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Component;
+
+/**
+ * 상품 상세 조회용 read-through 캐시.
+ *
+ * <ul>
+ *   <li>productMetadata: 상품 ID 기준 메타데이터 (거의 변하지 않음)</li>
+ *   <li>productStock: (상품 ID, 사이즈) 기준 재고. 재고 변경 커밋 후 {@link StockChangedEvent}로 무효화하고, 짧은 TTL을 안전장치로 둔다.</li>
+ * </ul>
+ */
+@Component
+@RequiredArgsConstructor
+public class ProductCatalogReader {
+
+    private final ProductBatchLoader productBatchLoader;
+
+    @Cacheable(value = "productMetadata", key = "#productId", sync = true)
+    public ProductSnapshot getProduct(Long productId) {
+        return productBatchLoader.load(productId)
+                .map(ProductSnapshot::from)
+                .orElseThrow(() -> new ProductException.NotFoundException(productId));
+    }
+
+    @Cacheable(value = "productStock", key = "#productId + ':' + #size", sync = true)
+    public Integer getStockQuantity(Long productId, int size) {
+        return productBatchLoader.loadStock(productId, size)
+                .map(ProductStock::getStockQuantity)
+                .orElse(0);
+    }
+
+    @CacheEvict(value = "productStock", key = "#productId + ':' + #size")
+    public void evictStock(Long productId, int size) {
+    }
+}
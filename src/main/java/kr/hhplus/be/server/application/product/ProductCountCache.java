@@ -0,0 +1,45 @@
+package kr.hhplus.be.server.application.product;
+
+import kr.hhplus.be.server.domain.product.ProductRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 전체 상품 수 근사값.
+ *
+ * <p>목록 요청마다 {@code COUNT(*)}를 실행하지 않고, 스케줄러가 주기적으로 갱신한 값을 돌려준다.
+ * 갱신 주기만큼 실제 값과 차이가 날 수 있다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductCountCache {
+
+    private static final long NOT_LOADED = -1L;
+
+    private final ProductRepository productRepository;
+
+    private final AtomicLong count = new AtomicLong(NOT_LOADED);
+
+    @Scheduled(fixedDelayString = "${product.count.refresh-interval-ms:60000}")
+    public void refresh() {
+        try {
+            count.set(productRepository.count());
+        } catch (Exception e) {
+            // 갱신 실패 시 이전 값을 유지한다
+            log.warn("[상품 수 갱신 실패]", e);
+        }
+    }
+
+    /**
+     * @return 아직 한 번도 집계되지 않았다면 null
+     */
+    public Long approximateTotal() {
+        long value = count.get();
+        return value == NOT_LOADED ? null : value;
+    }
+}
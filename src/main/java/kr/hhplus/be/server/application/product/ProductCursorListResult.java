@@ -0,0 +1,13 @@
+package kr.hhplus.be.server.application.product;
+
+import java.util.List;
+
+public record ProductCursorListResult(
+        List<ProductInfo> products,
+        String nextCursor,
+        boolean hasNext
+) {
+    public static ProductCursorListResult of(List<ProductInfo> products, String nextCursor) {
+        return new ProductCursorListResult(products, nextCursor, nextCursor != null);
+    }
+}
@@ -10,4 +10,8 @@ public record ProductDetailResult(ProductInfo product) {
     public static ProductDetailResult fromDomain(Product product, int stock) {
         return from(ProductInfo.from(product, stock));
     }
+
+    public static ProductDetailResult of(ProductSnapshot product, int stock) {
+        return from(new ProductInfo(product.id(), product.name(), product.price(), stock));
+    }
 }
@@ -4,6 +4,7 @@ import kr.hhplus.be.server.application.productstatistics.ProductSalesInfo;
 import kr.hhplus.be.server.application.productstatistics.ProductStatisticsUseCase;
 import kr.hhplus.be.server.domain.product.Product;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CachePut;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -27,6 +28,22 @@ public class ProductFacade {
     )
     @Transactional(readOnly = true)
     public List<PopularProductResult> getPopularProducts(PopularProductCriteria criteria) {
+        return loadPopularProducts(criteria);
+    }
+
+    /**
+     * 캐시 적중 여부와 관계없이 다시 계산해 캐시에 덮어쓴다. (웜업용)
+     */
+    @CachePut(
+        value = "popularProducts",
+        key = "'popular:' + #criteria.days() + ':' + #criteria.limit()"
+    )
+    @Transactional(readOnly = true)
+    public List<PopularProductResult> refreshPopularProducts(PopularProductCriteria criteria) {
+        return loadPopularProducts(criteria);
+    }
+
+    private List<PopularProductResult> loadPopularProducts(PopularProductCriteria criteria) {
         List<ProductSalesInfo> stats = statisticsUseCase.getTopSellingProducts(criteria);
 
         // 미리 productId 리스트 추출
@@ -2,10 +2,19 @@ package kr.hhplus.be.server.application.product;
 
 import java.util.List;
 
+/**
+ * @param totalCount 요청 시에만 채워지는 전체 상품 수 근사값. 요청하지 않았거나 아직 집계 전이면 null
+ */
 public record ProductListResult(
-        List<ProductInfo> products
+        List<ProductInfo> products,
+        boolean hasNext,
+        Long totalCount
 ) {
     public static ProductListResult from(List<ProductInfo> infos) {
-        return new ProductListResult(infos);
+        return new ProductListResult(infos, false, null);
+    }
+
+    public static ProductListResult of(List<ProductInfo> infos, boolean hasNext, Long totalCount) {
+        return new ProductListResult(infos, hasNext, totalCount);
     }
 }
@@ -2,11 +2,15 @@ package kr.hhplus.be.server.application.product;
 
 import kr.hhplus.be.server.domain.product.*;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
 
 
 @Service
@@ -15,37 +19,55 @@ public class ProductService implements ProductUseCase {
 
     private final ProductRepository productRepository;
     private final ProductStockRepository productStockRepository;
+    private final ProductCatalogReader productCatalogReader;
+    private final ProductBatchLoader productBatchLoader;
+    private final ProductCountCache productCountCache;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @Transactional(readOnly = true)
     public ProductListResult getProductList(GetProductListCommand command) {
         PageRequest pageRequest = PageRequest.of(command.page(), command.size(), command.getSort());
 
-        var productPage = productRepository.findAll(pageRequest);
+        // Page 대신 Slice로 조회해 매 요청 COUNT(*)를 없앤다. 전체 수는 요청 시에만 근사값으로 제공
+        var productSlice = productRepository.findSlice(pageRequest);
 
-        List<ProductInfo> infos = productPage.getContent().stream()
-                .map(product -> {
-                    List<ProductStock> stocks = productStockRepository.findAllByProductId(product.getId());
-                    int totalStock = stocks.stream()
-                            .mapToInt(ProductStock::getStockQuantity)
-                            .sum();
-                    return ProductInfo.from(product, totalStock);
-                })
-                .toList();
-        return ProductListResult.from(infos);
+        List<ProductInfo> infos = toInfosWithTotalStock(productSlice.getContent());
+        Long totalCount = command.withTotal() ? productCountCache.approximateTotal() : null;
+        return ProductListResult.of(infos, productSlice.hasNext(), totalCount);
     }
 
     @Override
     @Transactional(readOnly = true)
-    public ProductDetailResult getProductDetail(GetProductDetailCommand command) {
-        Product product = productRepository.findById(command.productId())
-                .orElseThrow(() -> new ProductException.NotFoundException(command.productId()));
+    public ProductCursorListResult getProductListByCursor(GetProductCursorCommand command) {
+        ProductSortType sortType = ProductSortType.from(command.sort());
+        ProductCursor cursor = null;
+        if (command.cursor() != null && !command.cursor().isBlank()) {
+            cursor = ProductCursor.decode(command.cursor());
+            if (cursor.sortType() != sortType) {
+                throw new ProductException.InvalidCursorException("커서의 정렬 기준이 요청과 다릅니다.");
+            }
+        }
+
+        // 다음 페이지 존재 여부는 COUNT 대신 한 건 더 조회해서 판단한다
+        List<Product> products = productRepository.findAllByCursor(sortType, cursor, command.size() + 1);
+        boolean hasNext = products.size() > command.size();
+        if (hasNext) {
+            products = products.subList(0, command.size());
+        }
+
+        String nextCursor = hasNext ? ProductCursor.after(sortType, products.get(products.size() - 1)).encode() : null;
+        return ProductCursorListResult.of(toInfosWithTotalStock(products), nextCursor);
+    }
 
-        int stock = productStockRepository.findByProductIdAndSize(product.getId(), command.size())
-                .map(ProductStock::getStockQuantity)
-                .orElse(0);
+    @Override
+    @Transactional(readOnly = true)
+    public ProductDetailResult getProductDetail(GetProductDetailCommand command) {
+        // 메타데이터와 재고를 각각 캐시에서 조회 (재고는 변경 시 무효화)
+        ProductSnapshot product = productCatalogReader.getProduct(command.productId());
+        int stock = productCatalogReader.getStockQuantity(product.id(), command.size());
 
-        return ProductDetailResult.fromDomain(product, stock);
+        return ProductDetailResult.of(product, stock);
     }
 
     @Override
@@ -61,18 +83,37 @@ public class ProductService implements ProductUseCase {
         product.validateOrderable(stock.getStockQuantity());
         stock.decreaseStock(command.quantity());
         productStockRepository.save(stock);
+        eventPublisher.publishEvent(StockChangedEvent.of(command.productId(), command.size()));
         return true;
     }
 
     @Override
     public Product findProduct(Long productId) {
-        return productRepository.findById(productId)
+        return productBatchLoader.load(productId)
                 .orElseThrow(() -> new ProductException.NotFoundException(productId));
     }
 
     @Override
     public List<Product> findProductsByIds(List<Long> productIds) {
-        return productRepository.findAllById(productIds);
+        // 요청 단위로 메모이즈되므로 같은 요청에서 반복 호출해도 추가 쿼리가 없다
+        Map<Long, Product> products = productBatchLoader.loadMany(productIds);
+        return productIds.stream()
+                .distinct()
+                .map(products::get)
+                .filter(Objects::nonNull)
+                .toList();
     }
-}
 
+    // 상품들의 재고 합계를 한 번에 조회 (상품별 조회 N+1 제거)
+    private List<ProductInfo> toInfosWithTotalStock(List<Product> products) {
+        List<Long> productIds = products.stream()
+                .map(Product::getId)
+                .toList();
+        Map<Long, Long> totalStocks = productStockRepository.sumStockByProductIds(productIds).stream()
+                .collect(Collectors.toMap(ProductStockSummary::productId, ProductStockSummary::totalQuantity));
+
+        return products.stream()
+                .map(product -> ProductInfo.from(product, totalStocks.getOrDefault(product.getId(), 0L).intValue()))
+                .toList();
+    }
+}
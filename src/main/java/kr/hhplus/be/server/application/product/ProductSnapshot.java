@@ -0,0 +1,18 @@
+package kr.hhplus.be.server.application.product;
+
+import kr.hhplus.be.server.domain.product.Product;
+
+import java.io.Serializable;
+
+/**
+ * 캐시에 저장하는 상품 메타데이터. 재고는 변경 빈도가 달라 별도 캐시로 분리한다.
+ */
+public record ProductSnapshot(
+        Long id,
+        String name,
+        Long price
+) implements Serializable {
+    public static ProductSnapshot from(Product product) {
+        return new ProductSnapshot(product.getId(), product.getName(), product.getPrice());
+    }
+}
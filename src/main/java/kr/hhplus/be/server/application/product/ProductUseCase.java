@@ -12,6 +12,11 @@ public interface ProductUseCase {
      */
     ProductListResult getProductList(GetProductListCommand command);
 
+    /**
+     * 커서 기반으로 상품 리스트를 조회한다. OFFSET/COUNT 없이 페이지 깊이와 무관하게 일정한 비용으로 조회한다.
+     */
+    ProductCursorListResult getProductListByCursor(GetProductCursorCommand command);
+
     /**
      * 단일 상품 상세 정보를 조회합니다.
      */
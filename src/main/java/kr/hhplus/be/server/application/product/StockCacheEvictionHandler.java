@@ -0,0 +1,32 @@
+package kr.hhplus.be.server.application.product;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StockCacheEvictionHandler {
+
+    private final ProductCatalogReader productCatalogReader;
+    private final ProductBatchLoader productBatchLoader;
+
+    /**
+     * 재고 변경이 커밋된 뒤 재고 캐시와 요청 단위 메모이즈 값을 비운다.
+     * 커밋 전에 비우면 동시 조회가 변경 전 재고를 다시 적재할 수 있다.
+     * 트랜잭션 밖에서 발행된 이벤트는 즉시 처리한다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handle(StockChangedEvent event) {
+        productBatchLoader.forgetStock(event.productId());
+        try {
+            productCatalogReader.evictStock(event.productId(), event.size());
+        } catch (Exception e) {
+            // 무효화 실패 시 재고 캐시 TTL이 지나면 DB 값으로 수렴한다
+            log.warn("[재고 캐시 무효화 실패] 상품 ID: {}, 사이즈: {}", event.productId(), event.size(), e);
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package kr.hhplus.be.server.application.product;
+
+/**
+ * 사이즈별 재고가 변경됐음을 알리는 이벤트. 커밋 이후 재고 캐시 무효화에 사용한다.
+ */
+public record StockChangedEvent(
+        Long productId,
+        int size
+) {
+    public static StockChangedEvent of(Long productId, int size) {
+        return new StockChangedEvent(productId, size);
+    }
+}
@@ -0,0 +1,213 @@
+package kr.hhplus.be.server.application.product;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import kr.hhplus.be.server.common.lock.AopForTransaction;
+import kr.hhplus.be.server.domain.product.ProductStockRepository;
+import kr.hhplus.be.server.domain.product.StockDeduction;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * JVM 내 재고 선점 원장.
+ *
+ * <p>(상품 ID, 사이즈)별로 DB 재고에서 미리 떼어 온 할당량(allotment)을 두고, 선점은 할당량에서 CAS로 빼기만 한다.
+ * 할당량은 {@code UPDATE ... SET stock_quantity = stock_quantity - ? WHERE stock_quantity >= ?}로
+ * DB 재고에서 먼저 차감한 수량이므로, 원장이 내준 선점은 항상 커밋된 DB 재고 안에 있다.
+ * 다른 차감 경로나 다른 인스턴스의 원장과 섞여도 초과 판매되지 않는다.
+ *
+ * <p>할당량이 모자라면 그 SKU만 잠시 직렬화해 DB에서 {@code chunkSize}만큼 더 떼어 오고,
+ * DB 재고가 chunk보다 적으면 필요한 수량만 떼어 온다. 그것도 안 되면 재고 부족이다.
+ * 주기적인 flush는 한 주기 동안 선점이 없던 SKU의 할당량을 batch UPDATE로 DB에 돌려준다.
+ *
+ * <p>할당량은 DB에서 이미 빠져 있으므로 다른 경로에서는 그만큼 재고가 적게 보인다. (최대 SKU당 chunk, 유휴 시 다음 flush에 반환)
+ * 프로세스가 비정상 종료되면 돌려주지 못한 할당량만큼 덜 팔릴 수 있지만, 초과 판매는 일어나지 않는다.
+ */
+@Slf4j
+@Component
+public class StockReservationLedger {
+
+    // 사이즈는 20비트(~1,048,575) 이내로 가정하고 상품 ID와 하나의 long 키로 합친다
+    private static final int SIZE_BITS = 20;
+    private static final long SIZE_MASK = (1L << SIZE_BITS) - 1;
+
+    private final ProductStockRepository productStockRepository;
+    private final AopForTransaction aopForTransaction;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${stock.ledger.chunk-size:20}")
+    private int chunkSize = 20;
+
+    private final Map<Long, Slot> slots = new ConcurrentHashMap<>();
+
+    public StockReservationLedger(ProductStockRepository productStockRepository,
+                                  AopForTransaction aopForTransaction,
+                                  ApplicationEventPublisher eventPublisher,
+                                  MeterRegistry meterRegistry) {
+        this.productStockRepository = productStockRepository;
+        this.aopForTransaction = aopForTransaction;
+        this.eventPublisher = eventPublisher;
+        meterRegistry.gauge("stock.ledger.allotment", slots,
+                s -> s.values().stream().mapToLong(slot -> slot.allotment.get()).sum());
+    }
+
+    /**
+     * 할당량에서 수량을 선점한다. 할당량이 모자라면 DB 재고에서 더 떼어 온다.
+     *
+     * @return DB 재고까지 부족하거나 재고 행이 없으면 false
+     */
+    public boolean reserve(Long productId, int size, int quantity) {
+        Slot slot = slots.computeIfAbsent(key(productId, size), k -> new Slot(productId, size));
+        slot.used = true;
+        if (slot.tryTake(quantity)) {
+            return true;
+        }
+
+        synchronized (slot) {
+            if (slot.tryTake(quantity)) {
+                return true;
+            }
+            int chunk = Math.max(quantity, chunkSize);
+            int acquired;
+            if (acquire(slot, chunk)) {
+                acquired = chunk;
+            } else if (chunk > quantity && acquire(slot, quantity)) {
+                acquired = quantity;
+            } else {
+                return false;
+            }
+            // 떼어 온 수량 중 이번 선점분을 뺀 나머지만 할당량에 더한다
+            slot.allotment.addAndGet(acquired - quantity);
+            return true;
+        }
+    }
+
+    /**
+     * 선점을 취소한다. 수량은 할당량으로 돌아가고, 쓰이지 않으면 다음 flush에 DB로 반환된다.
+     */
+    public void release(Long productId, int size, int quantity) {
+        Slot slot = slots.get(key(productId, size));
+        if (slot == null) {
+            // 선점한 적 없는 SKU는 원장이 떼어 온 재고가 아니다
+            throw new IllegalStateException("선점 이력이 없는 재고 - 상품 ID: " + productId + ", 사이즈: " + size);
+        }
+        slot.allotment.addAndGet(quantity);
+    }
+
+    /**
+     * DB에서 떼어 와 아직 선점되지 않은 수량. 적재되지 않은 SKU는 0.
+     */
+    public int allotment(Long productId, int size) {
+        Slot slot = slots.get(key(productId, size));
+        return slot == null ? 0 : slot.allotment.get();
+    }
+
+    /**
+     * 한 주기 동안 선점이 없던 SKU의 할당량을 DB 재고로 돌려준다.
+     */
+    @Scheduled(fixedDelayString = "${stock.ledger.flush-interval-ms:1000}")
+    public synchronized void flush() {
+        returnAllotments(false);
+    }
+
+    @PreDestroy
+    public synchronized void shutdown() {
+        returnAllotments(true);
+    }
+
+    private void returnAllotments(boolean all) {
+        List<StockDeduction> returns = new ArrayList<>();
+        List<Slot> returned = new ArrayList<>();
+        for (Slot slot : slots.values()) {
+            boolean idle = !slot.used;
+            slot.used = false;
+            if (!all && !idle) {
+                continue;
+            }
+            // getAndSet 이후의 선점은 0을 보고 DB에서 새로 떼어 가므로 반환분과 겹치지 않는다
+            int quantity = slot.allotment.getAndSet(0);
+            if (quantity > 0) {
+                returns.add(StockDeduction.of(slot.productId, slot.size, quantity));
+                returned.add(slot);
+            }
+        }
+        if (returns.isEmpty()) {
+            return;
+        }
+
+        int[] updated;
+        try {
+            updated = aopForTransaction.run(() -> productStockRepository.restoreStocks(returns));
+        } catch (Exception e) {
+            // 반환하지 못한 수량은 할당량으로 되돌려 계속 선점에 쓰고 다음 주기에 다시 반환한다
+            log.warn("[재고 원장 반환 실패] {}건 - 할당량으로 유지", returns.size(), e);
+            for (int i = 0; i < returns.size(); i++) {
+                returned.get(i).allotment.addAndGet(returns.get(i).quantity());
+            }
+            return;
+        }
+
+        for (int i = 0; i < updated.length; i++) {
+            StockDeduction restored = returns.get(i);
+            if (updated[i] == 0) {
+                // 그 사이 재고 행이 삭제되었다. 돌려줄 곳이 없으므로 수량을 남기고 버린다
+                log.error("[재고 원장 반환 불가] 재고 행 없음 - 상품 ID: {}, 사이즈: {}, 수량: {}",
+                        restored.productId(), restored.size(), restored.quantity());
+                continue;
+            }
+            eventPublisher.publishEvent(StockChangedEvent.of(restored.productId(), restored.size()));
+        }
+        log.debug("[재고 원장 반환] {}건", returns.size());
+    }
+
+    /**
+     * DB 재고에서 수량을 조건부 UPDATE로 떼어 온다. 재고가 부족하거나 재고 행이 없으면 false.
+     */
+    private boolean acquire(Slot slot, int quantity) {
+        boolean acquired = aopForTransaction.run(
+                () -> productStockRepository.decreaseIfAvailable(slot.productId, slot.size, quantity));
+        if (acquired) {
+            eventPublisher.publishEvent(StockChangedEvent.of(slot.productId, slot.size));
+        }
+        return acquired;
+    }
+
+    private static long key(Long productId, int size) {
+        return (productId << SIZE_BITS) | (size & SIZE_MASK);
+    }
+
+    private static final class Slot {
+        private final Long productId;
+        private final int size;
+        // DB에서 이미 차감해 두었고 아직 선점되지 않은 수량
+        private final AtomicInteger allotment = new AtomicInteger();
+        // 마지막 flush 이후 선점 시도가 있었는지
+        private volatile boolean used;
+
+        private Slot(Long productId, int size) {
+            this.productId = productId;
+            this.size = size;
+        }
+
+        private boolean tryTake(int quantity) {
+            while (true) {
+                int current = allotment.get();
+                if (current < quantity) {
+                    return false;
+                }
+                if (allotment.compareAndSet(current, current - quantity)) {
+                    return true;
+                }
+            }
+        }
+    }
+}
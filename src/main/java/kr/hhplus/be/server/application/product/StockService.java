@@ -1,18 +1,31 @@
 package kr.hhplus.be.server.application.product;
 
+import kr.hhplus.be.server.common.lock.AopForTransaction;
 import kr.hhplus.be.server.common.lock.DistributedLock;
+import kr.hhplus.be.server.common.lock.DistributedLockExecutor;
 import kr.hhplus.be.server.domain.product.*;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class StockService {
 
     private final ProductStockRepository productStockRepository;
+    private final StockReservationLedger stockReservationLedger;
+    private final DistributedLockExecutor lockExecutor;
+    private final AopForTransaction aopForTransaction;
+    private final ApplicationEventPublisher eventPublisher;
 
     @DistributedLock(
             prefix = "stock:decrease:",
@@ -31,9 +44,97 @@ public class StockService {
         stock.decreaseStock(command.quantity());
 
         productStockRepository.save(stock);
+        eventPublisher.publishEvent(StockChangedEvent.of(command.productId(), command.size()));
         log.info("[비즈니스 로직] 재고 차감 완료 - 상품 ID: {}, 사이즈: {}, 수량: {}", command.productId(), command.size(), command.quantity());
     }
 
+    /**
+     * 주문의 모든 라인 재고를 전부 차감하거나 전부 차감하지 않는다.
+     *
+     * <p>{@link #decrease}와 같은 키로 모든 SKU를 MultiLock으로 한 번에 잠그고,
+     * 한 트랜잭션에서 조건부 batch UPDATE로 차감한다. 한 라인이라도 재고가 부족하면 전체를 롤백한다.
+     */
+    public void decreaseAll(List<DecreaseStockCommand> commands) {
+        // 같은 SKU가 여러 라인에 있으면 수량을 합친다
+        Map<String, StockDeduction> deductions = commands.stream()
+                .collect(Collectors.toMap(
+                        command -> command.productId() + ":" + command.size(),
+                        command -> StockDeduction.of(command.productId(), command.size(), command.quantity()),
+                        (a, b) -> StockDeduction.of(a.productId(), a.size(), a.quantity() + b.quantity())
+                ));
+        List<String> lockKeys = deductions.keySet().stream()
+                .map(key -> "stock:decrease:" + key)
+                .toList();
+
+        lockExecutor.executeAll(lockKeys, () -> aopForTransaction.run(() -> {
+            List<StockDeduction> batch = List.copyOf(deductions.values());
+            int[] updated = productStockRepository.decreaseStocks(batch);
+            for (int i = 0; i < updated.length; i++) {
+                if (updated[i] == 0) {
+                    StockDeduction failed = batch.get(i);
+                    log.info("[비즈니스 로직] 재고 일괄 차감 실패 - 상품 ID: {}, 사이즈: {}, 수량: {}", failed.productId(), failed.size(), failed.quantity());
+                    // 갱신된 행이 없으면 재고 행 부재와 재고 부족을 구분한다
+                    productStockRepository.findByProductIdAndSize(failed.productId(), failed.size())
+                            .orElseThrow(() -> new ProductException.NotFoundException(failed.productId()));
+                    throw new ProductException.InsufficientStockException();
+                }
+            }
+            batch.forEach(deduction -> eventPublisher.publishEvent(StockChangedEvent.of(deduction.productId(), deduction.size())));
+            log.info("[비즈니스 로직] 재고 일괄 차감 완료 - {}개 SKU", batch.size());
+            return null;
+        }));
+    }
+
+    /**
+     * 분산락 없이 조건부 UPDATE 한 번으로 차감한다. (stock_quantity >= quantity 조건을 DB 행 락이 원자적으로 보장)
+     */
+    @Transactional
+    public void decreaseConditionally(DecreaseStockCommand command) {
+        log.info("[비즈니스 로직] 재고 조건부 차감 - 상품 ID: {}, 사이즈: {}, 수량: {}", command.productId(), command.size(), command.quantity());
+        if (productStockRepository.decreaseIfAvailable(command.productId(), command.size(), command.quantity())) {
+            eventPublisher.publishEvent(StockChangedEvent.of(command.productId(), command.size()));
+            return;
+        }
+        // 갱신된 행이 없으면 재고 행 부재와 재고 부족을 구분한다
+        productStockRepository.findByProductIdAndSize(command.productId(), command.size())
+                .orElseThrow(() -> new ProductException.NotFoundException(command.productId()));
+        throw new ProductException.InsufficientStockException();
+    }
+
+    /**
+     * 분산락 없이 JVM 내 재고 원장에서 주문의 모든 라인을 선점한다. (전부 성공 또는 전부 실패)
+     *
+     * <p>원장은 DB 재고에서 미리 떼어 온 할당량 안에서만 선점하므로 초과 판매되지 않는다.
+     * 한 라인이라도 실패하면 앞서 선점한 라인을 원장에 되돌린다.
+     */
+    public void reserveAll(List<DecreaseStockCommand> commands) {
+        Map<String, StockDeduction> deductions = commands.stream()
+                .collect(Collectors.toMap(
+                        command -> command.productId() + ":" + command.size(),
+                        command -> StockDeduction.of(command.productId(), command.size(), command.quantity()),
+                        (a, b) -> StockDeduction.of(a.productId(), a.size(), a.quantity() + b.quantity()),
+                        LinkedHashMap::new
+                ));
+
+        List<StockDeduction> reserved = new ArrayList<>();
+        try {
+            for (StockDeduction deduction : deductions.values()) {
+                if (!stockReservationLedger.reserve(deduction.productId(), deduction.size(), deduction.quantity())) {
+                    log.info("[비즈니스 로직] 재고 선점 실패 - 상품 ID: {}, 사이즈: {}, 수량: {}", deduction.productId(), deduction.size(), deduction.quantity());
+                    // 선점하지 못하면 재고 행 부재와 재고 부족을 구분한다
+                    productStockRepository.findByProductIdAndSize(deduction.productId(), deduction.size())
+                            .orElseThrow(() -> new ProductException.NotFoundException(deduction.productId()));
+                    throw new ProductException.InsufficientStockException();
+                }
+                reserved.add(deduction);
+            }
+        } catch (RuntimeException e) {
+            reserved.forEach(deduction -> stockReservationLedger.release(deduction.productId(), deduction.size(), deduction.quantity()));
+            throw e;
+        }
+        log.info("[비즈니스 로직] 재고 선점 완료 - {}개 SKU", reserved.size());
+    }
+
     @Transactional
     public void increase(IncreaseStockCommand command) {
         log.info("[비즈니스 로직] 재고 증가 - 상품 ID: {}, 사이즈: {}, 수량: {}", command.productId(), command.size(), command.quantity());
@@ -42,6 +143,7 @@ public class StockService {
 
         stock.increaseStock(command.quantity());
         productStockRepository.save(stock);
+        eventPublisher.publishEvent(StockChangedEvent.of(command.productId(), command.size()));
         log.info("[비즈니스 로직] 재고 증가 완료 - 상품 ID: {}, 사이즈: {}, 수량: {}", command.productId(), command.size(), command.quantity());
     }
 }
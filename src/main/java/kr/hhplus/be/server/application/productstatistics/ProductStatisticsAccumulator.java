@@ -0,0 +1,209 @@
+package kr.hhplus.be.server.application.productstatistics;
+
+import jakarta.annotation.PreDestroy;
+import kr.hhplus.be.server.common.lock.AopForTransaction;
+import kr.hhplus.be.server.domain.productstatistics.ClaimedSales;
+import kr.hhplus.be.server.domain.productstatistics.ProductSalesBackup;
+import kr.hhplus.be.server.domain.productstatistics.ProductSalesClaimRepository;
+import kr.hhplus.be.server.domain.productstatistics.ProductSalesDelta;
+import kr.hhplus.be.server.domain.productstatistics.ProductStatisticsId;
+import kr.hhplus.be.server.domain.productstatistics.ProductStatisticsRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 판매 통계 write-behind 누산기.
+ *
+ * <p>판매마다 (상품 ID, 일자) 행을 조회/저장하는 대신 LongAdder에 누적하고,
+ * FLUSH_INTERVAL 마다 {@code INSERT ... ON DUPLICATE KEY UPDATE} batch 한 번으로 DB에 더한다.
+ * 같은 상품의 동시 판매가 같은 행을 두고 경합하지 않으며, 판매당 DB 왕복이 없다.
+ *
+ * <p>batch는 한 트랜잭션으로 반영한다. 실패하면 증분을 Redis 보관소에 옮겨 두고 다음 주기에 다시 반영한다.
+ * 보관소에서 꺼낸 증분은 반영 트랜잭션에 claimId를 함께 기록하고, 커밋 뒤에 보관소에서 지운다.
+ * 반영에 실패하면 꺼낸 증분을 보관소에 원자적으로 되돌린다. 보관소마저 실패하면 메모리에 되돌려 놓는다.
+ *
+ * <p>꺼낸 뒤 확인 전에 프로세스가 종료되어 남은 보관분은 {@link #recoverAbandonedBackup}이 찾아,
+ * 반영 기록이 있으면 지우고 없으면 보관소에 되돌린다. 따라서 비정상 종료 시 최대 한 주기 분량(메모리 누적분)만 유실된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductStatisticsAccumulator {
+
+    /** 떼어낸 뒤 이 시간이 지나도록 확인되지 않은 보관분은 반영 도중 종료된 것으로 본다 */
+    private static final Duration ABANDONED_AFTER = Duration.ofMinutes(5);
+    /** 보관분 키의 보관 기한(7일)보다 길게 반영 기록을 남긴다 */
+    private static final Duration CLAIM_RETENTION = Duration.ofDays(8);
+
+    private final ProductStatisticsRepository repository;
+    private final ProductSalesClaimRepository claimRepository;
+    private final ProductSalesBackup backup;
+    private final AopForTransaction aopForTransaction;
+
+    private final Map<ProductStatisticsId, Sales> pending = new ConcurrentHashMap<>();
+
+    public void add(Long productId, LocalDate date, int quantity, long amount) {
+        Sales sales = pending.computeIfAbsent(new ProductStatisticsId(productId, date), id -> new Sales());
+        sales.count.add(quantity);
+        sales.amount.add(amount);
+    }
+
+    @Scheduled(fixedDelayString = "${product-statistics.flush-interval-ms:1000}")
+    public void flush() {
+        List<ProductSalesDelta> drained = drainPending();
+        ClaimedSales claimed = claimBackup();
+        if (drained.isEmpty() && claimed.isEmpty()) {
+            return;
+        }
+
+        List<ProductSalesDelta> deltas = new ArrayList<>(drained);
+        deltas.addAll(claimed.deltas());
+        List<ProductSalesDelta> merged = merge(deltas);
+        try {
+            // batch 일부만 반영된 채 실패하면 보관소 재반영 시 이중 집계되므로 한 트랜잭션으로 묶는다
+            aopForTransaction.run(() -> {
+                repository.increaseAll(merged);
+                if (!claimed.isEmpty()) {
+                    claimRepository.markApplied(claimed.claimId());
+                }
+                return null;
+            });
+            log.debug("[판매 통계 반영] {}건", merged.size());
+        } catch (Exception e) {
+            log.warn("[판매 통계 반영 실패] {}건 - 보관소로 이동", merged.size(), e);
+            if (!drained.isEmpty()) {
+                keepForRetry(merge(drained));
+            }
+            restoreBackup(claimed);
+            return;
+        }
+        // 커밋된 뒤에만 떼어낸 보관분을 지운다
+        acknowledgeBackup(claimed);
+    }
+
+    /**
+     * 떼어낸 뒤 반영 도중 프로세스가 종료되어 남은 보관분을 복구한다.
+     * 반영 기록이 있으면 커밋 후 확인만 실패한 것이므로 지우고, 없으면 보관소에 되돌려 다음 주기에 반영한다.
+     */
+    @Scheduled(fixedDelayString = "${product-statistics.recovery-interval-ms:60000}")
+    public void recoverAbandonedBackup() {
+        List<String> abandoned;
+        try {
+            abandoned = backup.findAbandonedClaimIds(ABANDONED_AFTER);
+        } catch (Exception e) {
+            log.warn("[판매 통계 보관분 복구 조회 실패]", e);
+            return;
+        }
+        for (String claimId : abandoned) {
+            try {
+                if (claimRepository.isApplied(claimId)) {
+                    backup.acknowledge(claimId);
+                } else {
+                    backup.restore(claimId);
+                }
+            } catch (Exception e) {
+                log.warn("[판매 통계 보관분 복구 실패] claimId={}", claimId, e);
+            }
+        }
+
+        try {
+            claimRepository.deleteAppliedBefore(LocalDateTime.now().minus(CLAIM_RETENTION));
+        } catch (Exception e) {
+            log.warn("[판매 통계 반영 기록 정리 실패]", e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    private List<ProductSalesDelta> drainPending() {
+        List<ProductSalesDelta> deltas = new ArrayList<>();
+        pending.forEach((id, sales) -> {
+            // sumThenReset은 셀 단위 getAndSet이라 동시 add가 유실되지 않는다 (남은 값은 다음 주기에 반영)
+            long count = sales.count.sumThenReset();
+            long amount = sales.amount.sumThenReset();
+            if (count != 0 || amount != 0) {
+                deltas.add(new ProductSalesDelta(id.getProductId(), id.getStatDate(), count, amount));
+            }
+        });
+        // 더 이상 기록되지 않는 이틀 이전 일자의 누산기는 정리한다
+        LocalDate yesterday = LocalDate.now().minusDays(1);
+        pending.entrySet().removeIf(entry -> entry.getKey().getStatDate().isBefore(yesterday) && entry.getValue().isEmpty());
+        return deltas;
+    }
+
+    private ClaimedSales claimBackup() {
+        try {
+            return backup.claim();
+        } catch (Exception e) {
+            log.warn("[판매 통계 보관분 회수 실패]", e);
+            return ClaimedSales.empty();
+        }
+    }
+
+    private void acknowledgeBackup(ClaimedSales claimed) {
+        if (claimed.isEmpty()) {
+            return;
+        }
+        try {
+            backup.acknowledge(claimed.claimId());
+        } catch (Exception e) {
+            // 반영 기록이 남아 있으므로 복구 스케줄러가 다시 반영하지 않고 지운다
+            log.warn("[판매 통계 보관분 확인 실패] claimId={}", claimed.claimId(), e);
+        }
+    }
+
+    private void restoreBackup(ClaimedSales claimed) {
+        if (claimed.isEmpty()) {
+            return;
+        }
+        try {
+            backup.restore(claimed.claimId());
+        } catch (Exception e) {
+            // 반영 기록이 없으므로 복구 스케줄러가 다시 보관소에 되돌린다
+            log.warn("[판매 통계 보관분 복원 실패] claimId={}", claimed.claimId(), e);
+        }
+    }
+
+    private void keepForRetry(List<ProductSalesDelta> deltas) {
+        try {
+            backup.save(deltas);
+        } catch (Exception e) {
+            log.error("[판매 통계 보관 실패] {}건 - 메모리에 유지", deltas.size(), e);
+            deltas.forEach(delta -> {
+                Sales sales = pending.computeIfAbsent(new ProductStatisticsId(delta.productId(), delta.statDate()), id -> new Sales());
+                sales.count.add(delta.salesCount());
+                sales.amount.add(delta.salesAmount());
+            });
+        }
+    }
+
+    private static List<ProductSalesDelta> merge(List<ProductSalesDelta> deltas) {
+        Map<ProductStatisticsId, ProductSalesDelta> merged = new HashMap<>();
+        deltas.forEach(delta -> merged.merge(new ProductStatisticsId(delta.productId(), delta.statDate()), delta, ProductSalesDelta::plus));
+        return List.copyOf(merged.values());
+    }
+
+    private static final class Sales {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder amount = new LongAdder();
+
+        private boolean isEmpty() {
+            return count.sum() == 0 && amount.sum() == 0;
+        }
+    }
+}
@@ -2,9 +2,10 @@ package kr.hhplus.be.server.application.productstatistics;
 
 import kr.hhplus.be.server.application.product.PopularProductCriteria;
 import kr.hhplus.be.server.common.vo.Money;
-import kr.hhplus.be.server.domain.productstatistics.ProductStatistics;
+import kr.hhplus.be.server.domain.productstatistics.ProductSalesRanking;
 import kr.hhplus.be.server.domain.productstatistics.ProductStatisticsRepository;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 
@@ -12,19 +13,27 @@ import java.time.LocalDate;
 import java.util.Collection;
 import java.util.List;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class ProductStatisticsService implements ProductStatisticsUseCase {
 
     private final ProductStatisticsRepository repository;
+    private final ProductSalesRanking salesRanking;
+    private final ProductStatisticsAccumulator statisticsAccumulator;
 
     @Override
     public void record(RecordSalesCommand command) {
         LocalDate today = LocalDate.now();
-        ProductStatistics stats = repository.findByProductIdAndStatDate(command.productId(), today)
-                .orElseGet(() -> ProductStatistics.create(command.productId(), today));
-        stats.addSales(command.quantity(), Money.wons(command.amount()));
-        repository.save(stats);
+        long salesAmount = Money.wons(command.amount()).multiply(command.quantity()).value();
+        statisticsAccumulator.add(command.productId(), today, command.quantity(), salesAmount);
+
+        // 랭킹은 파생 데이터이므로 실패해도 기록은 유지하고, 조회 시 DB 기준으로 다시 적재된다
+        try {
+            salesRanking.increase(command.productId(), today, command.quantity());
+        } catch (Exception e) {
+            log.warn("[판매 랭킹 누적 실패] productId={}, date={}", command.productId(), today, e);
+        }
     }
 
     @Override
@@ -33,7 +42,20 @@ public class ProductStatisticsService implements ProductStatisticsUseCase {
         LocalDate from = today.minusDays(criteria.days());
         int limit = criteria.limit();
 
-        return repository.findTopSellingProducts(from, today, limit);
+        try {
+            loadMissingDays(from, today);
+            return salesRanking.findTop(from, today, limit);
+        } catch (Exception e) {
+            log.warn("[판매 랭킹 조회 실패] DB 집계로 대체 - from={}, to={}", from, today, e);
+            return repository.findTopSellingProducts(from, today, limit);
+        }
+    }
+
+    private void loadMissingDays(LocalDate from, LocalDate to) {
+        for (LocalDate date : salesRanking.findUnloadedDays(from, to)) {
+            List<ProductSalesInfo> dailySales = repository.findTopSellingProducts(date, date, Integer.MAX_VALUE);
+            salesRanking.load(date, dailySales);
+        }
     }
 
 }
@@ -0,0 +1,153 @@
+package kr.hhplus.be.server.common.cache;
+
+import org.springframework.cache.support.NullValue;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 등록된 타입 테이블 기반의 컴팩트 바이너리 캐시 직렬화기.
+ *
+ * <p>포맷: {@code MAGIC(1) | tag(1) | payload}. 객체는 클래스명 대신 1바이트 타입 ID로,
+ * 리스트는 원소 수와 원소 인코딩으로, {@link CacheEnvelope}는 메타데이터 뒤에 값을 이어서 기록한다. JSON의 {@code @class} 속성이 원소·필드마다 반복되지 않는다.
+ *
+ * <p>MAGIC 바이트가 없는 값(전환 이전에 저장된 JSON 등)은 fallback 직렬화기로 읽고,
+ * 등록되지 않은 타입을 쓸 때도 fallback으로 기록한다.
+ */
+public class BinaryRedisSerializer implements RedisSerializer<Object> {
+
+    static final byte MAGIC = (byte) 0xB1;
+
+    private static final byte TAG_NULL = 0;
+    private static final byte TAG_OBJECT = 1;
+    private static final byte TAG_LIST = 2;
+    private static final byte TAG_ENVELOPE = 3;
+
+    private final CacheTypeRegistry registry;
+    private final RedisSerializer<Object> fallback;
+
+    public BinaryRedisSerializer(CacheTypeRegistry registry, RedisSerializer<Object> fallback) {
+        this.registry = registry;
+        this.fallback = fallback;
+    }
+
+    @Override
+    public byte[] serialize(Object value) throws SerializationException {
+        if (!isSupported(value)) {
+            return fallback.serialize(value);
+        }
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream(128);
+            DataOutputStream out = new DataOutputStream(bytes);
+            out.writeByte(MAGIC);
+            writeValue(value, out);
+            out.flush();
+            return bytes.toByteArray();
+        } catch (IOException e) {
+            throw new SerializationException("바이너리 캐시 직렬화 실패: " + value.getClass().getName(), e);
+        }
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        if (bytes[0] != MAGIC) {
+            return fallback.deserialize(bytes);
+        }
+        try {
+            DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes, 1, bytes.length - 1));
+            return readValue(in);
+        } catch (IOException e) {
+            throw new SerializationException("바이너리 캐시 역직렬화 실패", e);
+        }
+    }
+
+    private boolean isSupported(Object value) {
+        if (value == null || value instanceof NullValue) {
+            return true;
+        }
+        if (value instanceof List<?> list) {
+            return list.stream().allMatch(this::isSupported);
+        }
+        if (value instanceof CacheEnvelope envelope) {
+            return isSupported(envelope.value());
+        }
+        return registry.findByType(value.getClass()) != null;
+    }
+
+    private void writeValue(Object value, DataOutput out) throws IOException {
+        if (value == null || value instanceof NullValue) {
+            out.writeByte(TAG_NULL);
+            return;
+        }
+        if (value instanceof List<?> list) {
+            out.writeByte(TAG_LIST);
+            out.writeInt(list.size());
+            for (Object element : list) {
+                writeValue(element, out);
+            }
+            return;
+        }
+        if (value instanceof CacheEnvelope envelope) {
+            out.writeByte(TAG_ENVELOPE);
+            out.writeLong(envelope.computeMillis());
+            out.writeLong(envelope.softExpiresAt());
+            writeValue(envelope.value(), out);
+            return;
+        }
+        CacheTypeRegistry.Entry<?> entry = registry.findByType(value.getClass());
+        out.writeByte(TAG_OBJECT);
+        out.writeByte(entry.typeId());
+        writeObject(entry, value, out);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> void writeObject(CacheTypeRegistry.Entry<T> entry, Object value, DataOutput out) throws IOException {
+        entry.codec().write((T) value, out);
+    }
+
+    private Object readValue(DataInput in) throws IOException {
+        byte tag = in.readByte();
+        switch (tag) {
+            case TAG_NULL:
+                return NullValue.INSTANCE;
+            case TAG_LIST: {
+                int size = in.readInt();
+                List<Object> list = new ArrayList<>(size);
+                for (int i = 0; i < size; i++) {
+                    Object element = readValue(in);
+                    list.add(element instanceof NullValue ? null : element);
+                }
+                return Collections.unmodifiableList(list);
+            }
+            case TAG_ENVELOPE: {
+                long computeMillis = in.readLong();
+                long softExpiresAt = in.readLong();
+                Object value = readValue(in);
+                return new CacheEnvelope(value instanceof NullValue ? null : value, computeMillis, softExpiresAt);
+            }
+            case TAG_OBJECT: {
+                int typeId = in.readUnsignedByte();
+                CacheTypeRegistry.Entry<?> entry = registry.findById(typeId);
+                if (entry == null) {
+                    throw new SerializationException("등록되지 않은 캐시 타입 ID: " + typeId);
+                }
+                return entry.codec().read(in);
+            }
+            default:
+                throw new SerializationException("알 수 없는 캐시 값 태그: " + tag);
+        }
+    }
+}
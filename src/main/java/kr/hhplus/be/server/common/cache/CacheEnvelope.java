@@ -0,0 +1,28 @@
+package kr.hhplus.be.server.common.cache;
+
+import java.io.Serializable;
+
+/**
+ * refresh-ahead 캐시에 저장되는 값 + 메타데이터.
+ *
+ * @param value         캐시된 값
+ * @param computeMillis 값을 다시 계산하는 데 걸린 시간 (XFetch의 delta)
+ * @param softExpiresAt 논리 만료 시각(epoch ms). 이 시각 이후에도 하드 TTL까지는 stale 값으로 응답한다.
+ */
+public record CacheEnvelope(
+        Object value,
+        long computeMillis,
+        long softExpiresAt
+) implements Serializable {
+
+    /**
+     * XFetch 조기 만료 판단: {@code now - delta * beta * ln(random) >= expiry}.
+     * 계산 비용이 클수록, 만료가 가까울수록 먼저 갱신될 확률이 높아진다.
+     *
+     * @param random (0, 1] 범위의 난수
+     */
+    public boolean shouldRefresh(long nowMillis, double beta, double random) {
+        double earlyMillis = -computeMillis * beta * Math.log(random);
+        return nowMillis + earlyMillis >= softExpiresAt;
+    }
+}
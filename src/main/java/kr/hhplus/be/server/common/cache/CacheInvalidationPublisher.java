@@ -0,0 +1,14 @@
+package kr.hhplus.be.server.common.cache;
+
+/**
+ * 다른 노드의 로컬 캐시 무효화를 알린다.
+ */
+public interface CacheInvalidationPublisher {
+
+    /**
+     * @param key null이면 해당 캐시 전체 무효화
+     */
+    void publish(String cacheName, String key);
+
+    CacheInvalidationPublisher NO_OP = (cacheName, key) -> { };
+}
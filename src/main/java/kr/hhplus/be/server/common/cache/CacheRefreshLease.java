@@ -0,0 +1,15 @@
+package kr.hhplus.be.server.common.cache;
+
+import java.time.Duration;
+
+/**
+ * 여러 노드 중 하나만 캐시 갱신을 수행하도록 하는 짧은 리스.
+ */
+@FunctionalInterface
+public interface CacheRefreshLease {
+
+    /**
+     * 리스를 획득하면 true. 리스는 ttl이 지나면 자동으로 풀린다.
+     */
+    boolean tryAcquire(String leaseKey, Duration ttl);
+}
@@ -0,0 +1,38 @@
+package kr.hhplus.be.server.common.cache;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 바이너리 캐시 직렬화에 사용하는 타입 테이블.
+ * 클래스명 대신 1바이트 타입 ID를 기록하므로, 한 번 배포된 ID는 다른 타입에 재사용하지 않는다.
+ */
+public class CacheTypeRegistry {
+
+    private final Map<Class<?>, Entry<?>> byType = new HashMap<>();
+    private final Map<Integer, Entry<?>> byId = new HashMap<>();
+
+    public <T> CacheTypeRegistry register(int typeId, Class<T> type, BinaryCodec<T> codec) {
+        if (typeId < 1 || typeId > 0xFF) {
+            throw new IllegalArgumentException("타입 ID는 1~255 범위여야 합니다: " + typeId);
+        }
+        if (byId.containsKey(typeId) || byType.containsKey(type)) {
+            throw new IllegalArgumentException("이미 등록된 타입입니다: id=" + typeId + ", type=" + type.getName());
+        }
+        Entry<T> entry = new Entry<>(typeId, type, codec);
+        byType.put(type, entry);
+        byId.put(typeId, entry);
+        return this;
+    }
+
+    Entry<?> findByType(Class<?> type) {
+        return byType.get(type);
+    }
+
+    Entry<?> findById(int typeId) {
+        return byId.get(typeId);
+    }
+
+    record Entry<T>(int typeId, Class<T> type, BinaryCodec<T> codec) {
+    }
+}
@@ -0,0 +1,158 @@
+package kr.hhplus.be.server.common.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.cache.Cache;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 캐시 조회 결과(hit/miss), 로딩 시간, 삭제를 캐시 이름별로 기록하는 데코레이터.
+ *
+ * <p>Spring 캐시 인터셉터가 수행하는 조회를 그대로 관찰하므로 추가 조회가 없다.
+ * {@code sync = true} 조회는 호출 스레드에서 로더가 실행됐는지로 miss를 판단하고,
+ * refresh-ahead 등 백그라운드에서 실행된 로딩은 로딩 시간만 기록한다.
+ */
+public class InstrumentedCache implements Cache {
+
+    private final Cache delegate;
+    private final Timer hitTimer;
+    private final Timer missTimer;
+    private final Timer loadSuccessTimer;
+    private final Timer loadFailureTimer;
+    private final Counter evictKeyCounter;
+    private final Counter evictAllCounter;
+
+    public InstrumentedCache(Cache delegate, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        String name = delegate.getName();
+        this.hitTimer = requestTimer(meterRegistry, name, "hit");
+        this.missTimer = requestTimer(meterRegistry, name, "miss");
+        this.loadSuccessTimer = loaderTimer(meterRegistry, name, "success");
+        this.loadFailureTimer = loaderTimer(meterRegistry, name, "failure");
+        this.evictKeyCounter = evictCounter(meterRegistry, name, "key");
+        this.evictAllCounter = evictCounter(meterRegistry, name, "all");
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return delegate.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        long start = System.nanoTime();
+        ValueWrapper wrapper = delegate.get(key);
+        (wrapper != null ? hitTimer : missTimer).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        return wrapper;
+    }
+
+    @Override
+    public <T> T get(Object key, Class<T> type) {
+        long start = System.nanoTime();
+        T value = delegate.get(key, type);
+        (value != null ? hitTimer : missTimer).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        return value;
+    }
+
+    @Override
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        Thread caller = Thread.currentThread();
+        long[] loadNanos = {-1L};
+
+        long start = System.nanoTime();
+        T value = delegate.get(key, () -> {
+            long loadStart = System.nanoTime();
+            boolean success = false;
+            try {
+                T loaded = valueLoader.call();
+                success = true;
+                return loaded;
+            } finally {
+                long elapsed = System.nanoTime() - loadStart;
+                (success ? loadSuccessTimer : loadFailureTimer).record(elapsed, TimeUnit.NANOSECONDS);
+                if (Thread.currentThread() == caller) {
+                    loadNanos[0] = elapsed;
+                }
+            }
+        });
+        long elapsed = System.nanoTime() - start;
+
+        // 조회 지연에서 로딩 시간은 제외한다 (로딩 시간은 cache.loader로 따로 기록)
+        if (loadNanos[0] >= 0) {
+            missTimer.record(elapsed - loadNanos[0], TimeUnit.NANOSECONDS);
+        } else {
+            hitTimer.record(elapsed, TimeUnit.NANOSECONDS);
+        }
+        return value;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        delegate.put(key, value);
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        return delegate.putIfAbsent(key, value);
+    }
+
+    @Override
+    public void evict(Object key) {
+        evictKeyCounter.increment();
+        delegate.evict(key);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        evictKeyCounter.increment();
+        return delegate.evictIfPresent(key);
+    }
+
+    @Override
+    public void clear() {
+        evictAllCounter.increment();
+        delegate.clear();
+    }
+
+    @Override
+    public boolean invalidate() {
+        evictAllCounter.increment();
+        return delegate.invalidate();
+    }
+
+    private static Timer requestTimer(MeterRegistry registry, String cacheName, String result) {
+        return Timer.builder("cache.request")
+                .description("캐시 조회 지연 (로딩 시간 제외)")
+                .tag("cache", cacheName)
+                .tag("result", result)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+
+    private static Timer loaderTimer(MeterRegistry registry, String cacheName, String result) {
+        return Timer.builder("cache.loader")
+                .description("캐시 미스 시 원본 계산 시간")
+                .tag("cache", cacheName)
+                .tag("result", result)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+
+    private static Counter evictCounter(MeterRegistry registry, String cacheName, String scope) {
+        return Counter.builder("cache.evict")
+                .description("캐시 삭제 요청 수")
+                .tag("cache", cacheName)
+                .tag("scope", scope)
+                .register(registry);
+    }
+}
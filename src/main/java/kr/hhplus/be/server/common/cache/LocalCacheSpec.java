@@ -0,0 +1,15 @@
+package kr.hhplus.be.server.common.cache;
+
+import java.time.Duration;
+
+/**
+ * 로컬(near) 캐시 계층 설정. 캐시 이름별로 최대 엔트리 수와 TTL을 둔다.
+ */
+public record LocalCacheSpec(
+        long maximumSize,
+        Duration ttl
+) {
+    public static LocalCacheSpec of(long maximumSize, Duration ttl) {
+        return new LocalCacheSpec(maximumSize, ttl);
+    }
+}
@@ -0,0 +1,50 @@
+package kr.hhplus.be.server.common.cache;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+/**
+ * 캐시 값 직렬화 결과 크기(bytes)를 캐시 이름별로 기록한다.
+ * 직렬화기가 이미 만든 바이트 배열 길이만 재므로 추가 직렬화 비용이 없다.
+ */
+public class MeteredRedisSerializer implements RedisSerializer<Object> {
+
+    private final RedisSerializer<Object> delegate;
+    private final DistributionSummary writeSize;
+    private final DistributionSummary readSize;
+
+    public MeteredRedisSerializer(RedisSerializer<Object> delegate, String cacheName, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.writeSize = payloadSummary(meterRegistry, cacheName, "write");
+        this.readSize = payloadSummary(meterRegistry, cacheName, "read");
+    }
+
+    @Override
+    public byte[] serialize(Object value) throws SerializationException {
+        byte[] bytes = delegate.serialize(value);
+        if (bytes != null) {
+            writeSize.record(bytes.length);
+        }
+        return bytes;
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+        if (bytes != null) {
+            readSize.record(bytes.length);
+        }
+        return delegate.deserialize(bytes);
+    }
+
+    private static DistributionSummary payloadSummary(MeterRegistry registry, String cacheName, String operation) {
+        return DistributionSummary.builder("cache.payload.bytes")
+                .description("캐시 값 직렬화 크기")
+                .baseUnit("bytes")
+                .tag("cache", cacheName)
+                .tag("operation", operation)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(registry);
+    }
+}
@@ -0,0 +1,59 @@
+package kr.hhplus.be.server.common.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.function.BiConsumer;
+
+/**
+ * Redis Pub/Sub으로 로컬 캐시 무효화를 노드 간에 전파한다.
+ *
+ * <p>메시지 형식: {@code nodeId|cacheName|key} (key가 {@code *}이면 캐시 전체). 자신이 보낸 메시지는 무시한다.
+ */
+@Slf4j
+public class RedisCacheInvalidationBroker implements CacheInvalidationPublisher, MessageListener {
+
+    public static final ChannelTopic TOPIC = ChannelTopic.of("cache:invalidation");
+
+    private static final String DELIMITER = "|";
+    private static final String ALL_KEYS = "*";
+
+    private final StringRedisTemplate redisTemplate;
+    private final String nodeId = UUID.randomUUID().toString();
+    private volatile BiConsumer<String, String> localEvictor = (cacheName, key) -> { };
+
+    public RedisCacheInvalidationBroker(StringRedisTemplate redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    public void onInvalidate(BiConsumer<String, String> localEvictor) {
+        this.localEvictor = localEvictor;
+    }
+
+    @Override
+    public void publish(String cacheName, String key) {
+        try {
+            redisTemplate.convertAndSend(TOPIC.getTopic(),
+                    nodeId + DELIMITER + cacheName + DELIMITER + (key == null ? ALL_KEYS : key));
+        } catch (Exception e) {
+            // 전파 실패 시 다른 노드는 로컬 TTL이 지나면 원격 값으로 수렴한다
+            log.warn("[캐시 무효화 전파 실패] cache={}, key={}", cacheName, key, e);
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split("\\|", 3);
+        if (parts.length != 3 || nodeId.equals(parts[0])) {
+            return;
+        }
+        String key = ALL_KEYS.equals(parts[2]) ? null : parts[2];
+        localEvictor.accept(parts[1], key);
+        log.debug("[캐시 무효화 수신] cache={}, key={}", parts[1], key);
+    }
+}
@@ -0,0 +1,32 @@
+package kr.hhplus.be.server.common.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+
+/**
+ * {@code SET NX PX} 기반 갱신 리스. 값을 지우지 않고 TTL로만 풀어, 갱신 직후 다른 노드가 중복 갱신하지 않게 한다.
+ */
+@Slf4j
+public class RedisCacheRefreshLease implements CacheRefreshLease {
+
+    private static final String KEY_PREFIX = "cache:refresh-lease:";
+
+    private final StringRedisTemplate redisTemplate;
+
+    public RedisCacheRefreshLease(StringRedisTemplate redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    @Override
+    public boolean tryAcquire(String leaseKey, Duration ttl) {
+        try {
+            return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(KEY_PREFIX + leaseKey, "1", ttl));
+        } catch (Exception e) {
+            // Redis 장애 시 갱신을 건너뛰고 stale 값을 계속 제공한다
+            log.warn("[캐시 갱신 리스 획득 실패] key={}", leaseKey, e);
+            return false;
+        }
+    }
+}
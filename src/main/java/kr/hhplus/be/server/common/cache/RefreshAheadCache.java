@@ -0,0 +1,170 @@
+package kr.hhplus.be.server.common.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import java.time.Clock;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 만료가 가까운 엔트리를 백그라운드에서 미리 갱신하는 캐시 데코레이터.
+ *
+ * <p>원격 캐시에는 {@link CacheEnvelope}로 저장하고, {@code get(key, loader)} 시점에
+ * XFetch 조기 만료 판단 또는 논리 TTL 경과를 보고 갱신 여부를 정한다. 갱신은 Redis 리스를 잡은 노드 하나만
+ * 백그라운드로 수행하고, 그동안 모든 노드는 기존 값을 그대로 응답한다.
+ *
+ * <p>값이 아예 없는 콜드 미스만 동기 로딩({@code sync = true})으로 처리한다.
+ */
+@Slf4j
+public class RefreshAheadCache implements Cache {
+
+    private final Cache delegate;
+    private final RefreshAheadSpec spec;
+    private final CacheRefreshLease lease;
+    private final Executor refreshExecutor;
+    private final Clock clock;
+
+    private final Set<String> refreshing = ConcurrentHashMap.newKeySet();
+
+    public RefreshAheadCache(Cache delegate,
+                             RefreshAheadSpec spec,
+                             CacheRefreshLease lease,
+                             Executor refreshExecutor,
+                             Clock clock) {
+        this.delegate = delegate;
+        this.spec = spec;
+        this.lease = lease;
+        this.refreshExecutor = refreshExecutor;
+        this.clock = clock;
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return delegate.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        ValueWrapper wrapper = delegate.get(key);
+        if (wrapper == null) {
+            return null;
+        }
+        return new SimpleValueWrapper(unwrap(wrapper.get()));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        Object value = wrapper != null ? wrapper.get() : null;
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException("Cached value is not of required type [" + type.getName() + "]: " + value);
+        }
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper wrapper = delegate.get(key);
+        if (wrapper != null) {
+            if (wrapper.get() instanceof CacheEnvelope envelope
+                    && envelope.shouldRefresh(clock.millis(), spec.beta(), random())) {
+                refreshAsync(key, valueLoader);
+            }
+            return (T) unwrap(wrapper.get());
+        }
+        return (T) unwrap(delegate.get(key, () -> load(valueLoader)));
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        delegate.put(key, envelope(value, 0L));
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        ValueWrapper existing = delegate.putIfAbsent(key, envelope(value, 0L));
+        return existing != null ? new SimpleValueWrapper(unwrap(existing.get())) : null;
+    }
+
+    @Override
+    public void evict(Object key) {
+        delegate.evict(key);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        return delegate.evictIfPresent(key);
+    }
+
+    @Override
+    public void clear() {
+        delegate.clear();
+    }
+
+    @Override
+    public boolean invalidate() {
+        return delegate.invalidate();
+    }
+
+    private void refreshAsync(Object key, Callable<?> valueLoader) {
+        String refreshKey = getName() + "::" + key;
+        // 같은 노드 안에서는 리스 조회 전에 중복 갱신을 걸러낸다
+        if (!refreshing.add(refreshKey)) {
+            return;
+        }
+        if (!lease.tryAcquire(refreshKey, spec.leaseTtl())) {
+            refreshing.remove(refreshKey);
+            return;
+        }
+
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    delegate.put(key, load(valueLoader));
+                    log.debug("[캐시 사전 갱신 완료] key={}", refreshKey);
+                } catch (Exception e) {
+                    // 갱신 실패 시 기존 값이 하드 TTL까지 계속 제공된다
+                    log.warn("[캐시 사전 갱신 실패] key={}", refreshKey, e);
+                } finally {
+                    refreshing.remove(refreshKey);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            refreshing.remove(refreshKey);
+            log.warn("[캐시 사전 갱신 거절] key={}", refreshKey);
+        }
+    }
+
+    private CacheEnvelope load(Callable<?> valueLoader) throws Exception {
+        long start = clock.millis();
+        Object value = valueLoader.call();
+        return envelope(value, clock.millis() - start);
+    }
+
+    private CacheEnvelope envelope(Object value, long computeMillis) {
+        return new CacheEnvelope(value, computeMillis, clock.millis() + spec.softTtl().toMillis());
+    }
+
+    private static Object unwrap(Object stored) {
+        // 전환 이전에 저장된 값은 envelope 없이 그대로 돌려준다
+        return stored instanceof CacheEnvelope envelope ? envelope.value() : stored;
+    }
+
+    private static double random() {
+        // ln(0) 방지를 위해 (0, 1] 범위로 맞춘다
+        return 1.0 - ThreadLocalRandom.current().nextDouble();
+    }
+}
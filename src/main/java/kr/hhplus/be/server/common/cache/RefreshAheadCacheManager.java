@@ -0,0 +1,51 @@
+package kr.hhplus.be.server.common.cache;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.time.Clock;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+
+/**
+ * 캐시 이름별로 {@link RefreshAheadCache}를 씌우는 CacheManager. 설정이 없는 캐시는 그대로 돌려준다.
+ */
+public class RefreshAheadCacheManager implements CacheManager {
+
+    private final CacheManager delegate;
+    private final Map<String, RefreshAheadSpec> specs;
+    private final CacheRefreshLease lease;
+    private final Executor refreshExecutor;
+    private final Clock clock;
+
+    private final Map<String, RefreshAheadCache> caches = new ConcurrentHashMap<>();
+
+    public RefreshAheadCacheManager(CacheManager delegate,
+                                    Map<String, RefreshAheadSpec> specs,
+                                    CacheRefreshLease lease,
+                                    Executor refreshExecutor,
+                                    Clock clock) {
+        this.delegate = delegate;
+        this.specs = Map.copyOf(specs);
+        this.lease = lease;
+        this.refreshExecutor = refreshExecutor;
+        this.clock = clock;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        RefreshAheadSpec spec = specs.get(name);
+        if (spec == null) {
+            return delegate.getCache(name);
+        }
+        return caches.computeIfAbsent(name,
+                cacheName -> new RefreshAheadCache(delegate.getCache(cacheName), spec, lease, refreshExecutor, clock));
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return delegate.getCacheNames();
+    }
+}
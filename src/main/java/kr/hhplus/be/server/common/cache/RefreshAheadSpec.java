@@ -0,0 +1,20 @@
+package kr.hhplus.be.server.common.cache;
+
+import java.time.Duration;
+
+/**
+ * refresh-ahead 캐시 설정.
+ *
+ * @param softTtl  값이 갱신 대상이 되는 논리 TTL. 원격 캐시의 하드 TTL보다 짧아야 stale 응답 구간이 생긴다.
+ * @param beta     XFetch 가중치. 1.0이 기본이며 클수록 더 일찍 갱신한다.
+ * @param leaseTtl 한 노드만 갱신하도록 잡는 Redis 리스의 유효 시간
+ */
+public record RefreshAheadSpec(
+        Duration softTtl,
+        double beta,
+        Duration leaseTtl
+) {
+    public static RefreshAheadSpec of(Duration softTtl, double beta, Duration leaseTtl) {
+        return new RefreshAheadSpec(softTtl, beta, leaseTtl);
+    }
+}
@@ -0,0 +1,115 @@
+package kr.hhplus.be.server.common.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import java.util.concurrent.Callable;
+
+/**
+ * 로컬(Caffeine) → 원격(Redis) 순으로 조회하는 2계층 캐시.
+ *
+ * <p>로컬 계층은 원격 값의 복사본만 들고, 쓰기/삭제는 항상 원격에 먼저 반영한 뒤
+ * 다른 노드의 로컬 계층에 무효화를 전파한다. 키는 문자열로 정규화해 노드 간 무효화 메시지와 맞춘다.
+ */
+public class TwoTierCache implements org.springframework.cache.Cache {
+
+    private final String name;
+    private final Cache<String, Object> local;
+    private final org.springframework.cache.Cache remote;
+    private final CacheInvalidationPublisher invalidationPublisher;
+
+    public TwoTierCache(String name,
+                        Cache<String, Object> local,
+                        org.springframework.cache.Cache remote,
+                        CacheInvalidationPublisher invalidationPublisher) {
+        this.name = name;
+        this.local = local;
+        this.remote = remote;
+        this.invalidationPublisher = invalidationPublisher;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return remote.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        String localKey = toLocalKey(key);
+        Object cached = local.getIfPresent(localKey);
+        if (cached != null) {
+            return new SimpleValueWrapper(cached);
+        }
+
+        ValueWrapper wrapper = remote.get(key);
+        if (wrapper != null && wrapper.get() != null) {
+            local.put(localKey, wrapper.get());
+        }
+        return wrapper;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        Object value = wrapper != null ? wrapper.get() : null;
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException("Cached value is not of required type [" + type.getName() + "]: " + value);
+        }
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        // 로컬 미스 시 원격 캐시의 동기화된 로딩(sync = true)에 위임한다
+        return (T) local.get(toLocalKey(key), k -> remote.get(key, valueLoader));
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        remote.put(key, value);
+        String localKey = toLocalKey(key);
+        if (value != null) {
+            local.put(localKey, value);
+        } else {
+            local.invalidate(localKey);
+        }
+        invalidationPublisher.publish(name, localKey);
+    }
+
+    @Override
+    public void evict(Object key) {
+        remote.evict(key);
+        String localKey = toLocalKey(key);
+        local.invalidate(localKey);
+        invalidationPublisher.publish(name, localKey);
+    }
+
+    @Override
+    public void clear() {
+        remote.clear();
+        local.invalidateAll();
+        invalidationPublisher.publish(name, null);
+    }
+
+    /**
+     * 다른 노드에서 전파된 무효화를 로컬 계층에만 반영한다.
+     */
+    public void evictLocal(String key) {
+        if (key == null) {
+            local.invalidateAll();
+        } else {
+            local.invalidate(key);
+        }
+    }
+
+    private static String toLocalKey(Object key) {
+        return String.valueOf(key);
+    }
+}
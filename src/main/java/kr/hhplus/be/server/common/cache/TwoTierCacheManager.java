@@ -0,0 +1,73 @@
+package kr.hhplus.be.server.common.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 원격 CacheManager 앞에 캐시 이름별 로컬 계층을 두는 CacheManager.
+ * 로컬 설정이 없는 캐시는 원격 캐시를 그대로 돌려준다.
+ *
+ * <p>로컬 계층의 hit/miss/eviction은 Micrometer {@code cache.*} 지표(tier=local)로 노출된다.
+ */
+public class TwoTierCacheManager implements CacheManager {
+
+    private final CacheManager remoteCacheManager;
+    private final Map<String, LocalCacheSpec> localSpecs;
+    private final CacheInvalidationPublisher invalidationPublisher;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, TwoTierCache> twoTierCaches = new ConcurrentHashMap<>();
+
+    public TwoTierCacheManager(CacheManager remoteCacheManager,
+                               Map<String, LocalCacheSpec> localSpecs,
+                               CacheInvalidationPublisher invalidationPublisher,
+                               MeterRegistry meterRegistry) {
+        this.remoteCacheManager = remoteCacheManager;
+        this.localSpecs = Map.copyOf(localSpecs);
+        this.invalidationPublisher = invalidationPublisher;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        LocalCacheSpec spec = localSpecs.get(name);
+        if (spec == null) {
+            return remoteCacheManager.getCache(name);
+        }
+        return twoTierCaches.computeIfAbsent(name, cacheName -> createTwoTierCache(cacheName, spec));
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return remoteCacheManager.getCacheNames();
+    }
+
+    /**
+     * 다른 노드에서 전파된 무효화 메시지를 로컬 계층에 반영한다.
+     */
+    public void evictLocal(String cacheName, String key) {
+        TwoTierCache cache = twoTierCaches.get(cacheName);
+        if (cache != null) {
+            cache.evictLocal(key);
+        }
+    }
+
+    private TwoTierCache createTwoTierCache(String name, LocalCacheSpec spec) {
+        com.github.benmanes.caffeine.cache.Cache<String, Object> local = Caffeine.newBuilder()
+                .maximumSize(spec.maximumSize())
+                .expireAfterWrite(spec.ttl())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, local, name, Tags.of("tier", "local"));
+
+        return new TwoTierCache(name, local, remoteCacheManager.getCache(name), invalidationPublisher);
+    }
+}
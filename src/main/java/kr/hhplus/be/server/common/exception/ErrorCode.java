@@ -62,7 +62,9 @@ public enum ErrorCode {
 
     INVALID_PARAMETER(HttpStatus.BAD_REQUEST, "유효하지 않은 파라미터입니다."),
 
-    TOO_MANY_REQUESTS(HttpStatus.TOO_MANY_REQUESTS, "요청이 너무 많습니다.")
+    TOO_MANY_REQUESTS(HttpStatus.TOO_MANY_REQUESTS, "요청이 너무 많습니다."),
+
+    PROCESSING_TIMEOUT(HttpStatus.SERVICE_UNAVAILABLE, "요청 처리 대기 시간이 초과되었습니다.")
 
 
     ;
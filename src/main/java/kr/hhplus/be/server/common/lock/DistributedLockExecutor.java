@@ -1,7 +1,13 @@
 package kr.hhplus.be.server.common.lock;
 
+import java.util.Collection;
 import java.util.concurrent.Callable;
 
 public interface DistributedLockExecutor {
     <T> T execute(String key, Callable<T> action);
+
+    /**
+     * 여러 키를 한 번에 잠근 뒤 실행한다. 전부 획득하지 못하면 하나도 잡지 않는다.
+     */
+    <T> T executeAll(Collection<String> keys, Callable<T> action);
 }
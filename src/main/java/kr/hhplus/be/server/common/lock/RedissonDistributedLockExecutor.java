@@ -6,6 +6,7 @@ import org.redisson.api.RLock;
 import org.redisson.api.RedissonClient;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
 import java.util.concurrent.Callable;
 import java.util.concurrent.TimeUnit;
 
@@ -44,5 +45,32 @@ public class RedissonDistributedLockExecutor implements DistributedLockExecutor
         }
     }
 
+    @Override
+    public <T> T executeAll(Collection<String> keys, Callable<T> action) {
+        // 정렬된 순서로 잠가 서로 다른 요청 간 교착을 막는다
+        RLock[] locks = keys.stream()
+                .distinct()
+                .sorted()
+                .map(redissonClient::getLock)
+                .toArray(RLock[]::new);
+        RLock multiLock = redissonClient.getMultiLock(locks);
+        boolean isLocked = false;
 
+        try {
+            isLocked = multiLock.tryLock(DEFAULT_WAIT_TIME, TimeUnit.SECONDS);
+            if (!isLocked) {
+                throw new IllegalStateException("락 획득 실패: " + keys);
+            }
+            return action.call();
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new RuntimeException("예상치 못한 예외", e);
+        } finally {
+            if (isLocked) {
+                log.info("락 해제 - keys: {}", keys);
+                multiLock.unlock();
+            }
+        }
+    }
 }
@@ -0,0 +1,16 @@
+package kr.hhplus.be.server.common.sequencer;
+
+import java.util.function.Supplier;
+
+/**
+ * 같은 키의 작업을 프로세스 안에서 한 번에 하나씩, 제출 순서대로 실행한다.
+ * 분산락 없이 키 단위 단일 writer를 보장하며, 다중 노드에서는 키 기준 sticky 라우팅을 전제로 한다.
+ */
+public interface KeySequencedExecutor {
+
+    /**
+     * 키에 배정된 stripe 큐에 작업을 넣고 완료될 때까지 기다린 뒤 결과를 반환한다.
+     * 작업에서 발생한 RuntimeException은 그대로 전파된다.
+     */
+    <T> T execute(Object key, Supplier<T> action);
+}
@@ -0,0 +1,23 @@
+package kr.hhplus.be.server.common.sequencer;
+
+import kr.hhplus.be.server.common.exception.BusinessException;
+import kr.hhplus.be.server.common.exception.ErrorCode;
+import lombok.Getter;
+
+/**
+ * 순차 실행 결과를 제한 시간 안에 받지 못했을 때 발생한다.
+ *
+ * <p>{@link #isCancelled()}가 true면 작업은 실행되지 않는다. false면 이미 실행 중이었으므로 반영 여부를 알 수 없고,
+ * 호출자는 멱등 키로 재시도해야 한다.
+ */
+@Getter
+public class SequencerTimeoutException extends BusinessException {
+
+    private final boolean cancelled;
+
+    public SequencerTimeoutException(Object key, long timeoutMillis, boolean cancelled) {
+        super(ErrorCode.PROCESSING_TIMEOUT,
+                "순차 실행 대기 시간 초과(" + timeoutMillis + "ms): key=" + key + (cancelled ? ", 작업 취소됨" : ", 처리 여부 불확실"));
+        this.cancelled = cancelled;
+    }
+}
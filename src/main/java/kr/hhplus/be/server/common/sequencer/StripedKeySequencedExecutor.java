@@ -0,0 +1,215 @@
+package kr.hhplus.be.server.common.sequencer;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 키 해시로 고른 stripe마다 큐 하나와 전용 스레드 하나를 두는 순차 실행기.
+ *
+ * <p>같은 키는 항상 같은 stripe로 가므로 직렬화되고, 다른 키는 stripe 수만큼 병렬로 처리된다.
+ * Java 17 환경이라 가상 스레드 대신 stripe당 daemon 플랫폼 스레드를 사용한다.
+ * stripe 스레드가 DB 작업을 수행하므로 stripe 수는 커넥션 풀 크기보다 작게 유지한다.
+ *
+ * <p>큐가 가득 차면 OFFER_TIMEOUT 동안만 기다린 뒤 거절한다. (back-pressure)
+ * 호출자는 결과를 await-timeout 동안만 기다린다. 한 stripe의 느린 작업이 같은 stripe의 모든 호출자를 붙잡지 않도록
+ * 시간이 지나면 {@link SequencerTimeoutException}을 던지고, 아직 시작되지 않은 작업은 취소해 실행하지 않는다.
+ * 같은 stripe 스레드 안에서 다시 제출된 작업은 교착을 피하기 위해 바로 실행한다.
+ */
+@Slf4j
+@Component
+public class StripedKeySequencedExecutor implements KeySequencedExecutor {
+
+    private static final long OFFER_TIMEOUT_MILLIS = 100;
+    private static final long POLL_TIMEOUT_MILLIS = 100;
+
+    private final Stripe[] stripes;
+    private final long awaitTimeoutMillis;
+    private final Timer waitTimer;
+    private final Timer executionTimer;
+    private final Counter rejectedCounter;
+    private final Counter timeoutCounter;
+
+    private volatile boolean running = true;
+
+    public StripedKeySequencedExecutor(@Value("${sequencer.stripes:8}") int stripeCount,
+                                       @Value("${sequencer.queue-capacity:1000}") int queueCapacity,
+                                       @Value("${sequencer.await-timeout-ms:3000}") long awaitTimeoutMillis,
+                                       MeterRegistry meterRegistry) {
+        if (stripeCount <= 0 || queueCapacity <= 0 || awaitTimeoutMillis <= 0) {
+            throw new IllegalArgumentException("stripe 수, 큐 용량, 대기 시간은 1 이상이어야 합니다.");
+        }
+        this.awaitTimeoutMillis = awaitTimeoutMillis;
+        this.stripes = new Stripe[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new Stripe(i, new LinkedBlockingQueue<>(queueCapacity));
+        }
+
+        meterRegistry.gauge("sequencer.queue.depth", stripes,
+                s -> Arrays.stream(s).mapToInt(stripe -> stripe.queue.size()).sum());
+        meterRegistry.gauge("sequencer.queue.depth.max", stripes,
+                s -> Arrays.stream(s).mapToInt(stripe -> stripe.queue.size()).max().orElse(0));
+        this.waitTimer = Timer.builder("sequencer.wait")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        this.executionTimer = Timer.builder("sequencer.execution")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        this.rejectedCounter = meterRegistry.counter("sequencer.rejected");
+        this.timeoutCounter = meterRegistry.counter("sequencer.timeout");
+    }
+
+    @PostConstruct
+    public void start() {
+        for (Stripe stripe : stripes) {
+            stripe.thread = new Thread(() -> runLoop(stripe), "key-sequencer-" + stripe.index);
+            stripe.thread.setDaemon(true);
+            stripe.thread.start();
+        }
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        // 이미 큐에 들어간 작업은 호출자가 기다리고 있으므로 비울 때까지 처리한 뒤 종료한다
+        running = false;
+        for (Stripe stripe : stripes) {
+            stripe.thread.join(TimeUnit.SECONDS.toMillis(5));
+        }
+    }
+
+    @Override
+    public <T> T execute(Object key, Supplier<T> action) {
+        Stripe stripe = stripeOf(key);
+        if (Thread.currentThread() == stripe.thread) {
+            return action.get();
+        }
+
+        Task<T> task = new Task<>(action);
+        offer(stripe, task, key);
+        return await(task, key);
+    }
+
+    private Stripe stripeOf(Object key) {
+        int h = Objects.hashCode(key);
+        return stripes[Math.floorMod(h ^ (h >>> 16), stripes.length)];
+    }
+
+    private void offer(Stripe stripe, Task<?> task, Object key) {
+        try {
+            if (running && stripe.queue.offer(task, OFFER_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+                return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        rejectedCounter.increment();
+        throw new IllegalStateException("순차 실행 큐 포화: key=" + key);
+    }
+
+    private <T> T await(Task<T> task, Object key) {
+        try {
+            return task.result.get(awaitTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            timeoutCounter.increment();
+            boolean cancelled = task.cancel();
+            log.warn("[순차 실행 대기 시간 초과] key={}, cancelled={}", key, cancelled);
+            throw new SequencerTimeoutException(key, awaitTimeoutMillis, cancelled);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("순차 실행 대기 중 인터럽트", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException("예상치 못한 예외", cause);
+        }
+    }
+
+    private void runLoop(Stripe stripe) {
+        while (running || !stripe.queue.isEmpty()) {
+            Task<?> task;
+            try {
+                task = stripe.queue.poll(POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            if (task != null) {
+                run(task);
+            }
+        }
+    }
+
+    private <T> void run(Task<T> task) {
+        waitTimer.record(System.nanoTime() - task.enqueuedAt, TimeUnit.NANOSECONDS);
+        if (!task.start()) {
+            // 호출자가 대기 시간 초과로 취소한 작업
+            return;
+        }
+        long start = System.nanoTime();
+        try {
+            task.result.complete(task.action.get());
+        } catch (Throwable e) {
+            task.result.completeExceptionally(e);
+        } finally {
+            executionTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private static final class Stripe {
+        private final int index;
+        private final BlockingQueue<Task<?>> queue;
+        private volatile Thread thread;
+
+        private Stripe(int index, BlockingQueue<Task<?>> queue) {
+            this.index = index;
+            this.queue = queue;
+        }
+    }
+
+    private static final class Task<T> {
+        private static final int NEW = 0;
+        private static final int RUNNING = 1;
+        private static final int CANCELLED = 2;
+
+        private final Supplier<T> action;
+        private final CompletableFuture<T> result = new CompletableFuture<>();
+        private final long enqueuedAt = System.nanoTime();
+        private final AtomicInteger state = new AtomicInteger(NEW);
+
+        private Task(Supplier<T> action) {
+            this.action = action;
+        }
+
+        private boolean start() {
+            return state.compareAndSet(NEW, RUNNING);
+        }
+
+        /**
+         * @return 아직 시작되지 않아 취소했으면 true, 이미 실행 중이거나 끝났으면 false
+         */
+        private boolean cancel() {
+            return state.compareAndSet(NEW, CANCELLED);
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package kr.hhplus.be.server.config;
+
+import kr.hhplus.be.server.application.product.PopularProductResult;
+import kr.hhplus.be.server.application.product.ProductSnapshot;
+import kr.hhplus.be.server.common.cache.BinaryCodec;
+import kr.hhplus.be.server.common.cache.CacheTypeRegistry;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * 바이너리 캐시 직렬화 대상 타입과 타입 ID 목록.
+ * 이미 배포된 ID는 변경하거나 재사용하지 않는다.
+ */
+public final class CacheValueCodecs {
+
+    private static final int POPULAR_PRODUCT_RESULT_V1 = 1;
+    private static final int PRODUCT_SNAPSHOT_V1 = 2;
+
+    private CacheValueCodecs() {
+    }
+
+    public static CacheTypeRegistry registry() {
+        return new CacheTypeRegistry()
+                .register(POPULAR_PRODUCT_RESULT_V1, PopularProductResult.class, new PopularProductResultCodec())
+                .register(PRODUCT_SNAPSHOT_V1, ProductSnapshot.class, new ProductSnapshotCodec());
+    }
+
+    static class PopularProductResultCodec implements BinaryCodec<PopularProductResult> {
+
+        @Override
+        public void write(PopularProductResult value, DataOutput out) throws IOException {
+            BinaryCodec.writeNullableLong(value.id(), out);
+            BinaryCodec.writeNullableString(value.name(), out);
+            out.writeLong(value.price());
+            BinaryCodec.writeNullableLong(value.salesCount(), out);
+        }
+
+        @Override
+        public PopularProductResult read(DataInput in) throws IOException {
+            return new PopularProductResult(
+                    BinaryCodec.readNullableLong(in),
+                    BinaryCodec.readNullableString(in),
+                    in.readLong(),
+                    BinaryCodec.readNullableLong(in)
+            );
+        }
+    }
+
+    static class ProductSnapshotCodec implements BinaryCodec<ProductSnapshot> {
+
+        @Override
+        public void write(ProductSnapshot value, DataOutput out) throws IOException {
+            BinaryCodec.writeNullableLong(value.id(), out);
+            BinaryCodec.writeNullableString(value.name(), out);
+            BinaryCodec.writeNullableLong(value.price(), out);
+        }
+
+        @Override
+        public ProductSnapshot read(DataInput in) throws IOException {
+            return new ProductSnapshot(
+                    BinaryCodec.readNullableLong(in),
+                    BinaryCodec.readNullableString(in),
+                    BinaryCodec.readNullableLong(in)
+            );
+        }
+    }
+}
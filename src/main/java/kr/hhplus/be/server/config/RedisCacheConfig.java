@@ -5,28 +5,150 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.jsontype.BasicPolymorphicTypeValidator;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.MeterRegistry;
+import kr.hhplus.be.server.common.cache.BinaryRedisSerializer;
+import kr.hhplus.be.server.common.cache.InstrumentedCacheManager;
+import kr.hhplus.be.server.common.cache.LocalCacheSpec;
+import kr.hhplus.be.server.common.cache.MeteredRedisSerializer;
+import kr.hhplus.be.server.common.cache.RedisCacheInvalidationBroker;
+import kr.hhplus.be.server.common.cache.RedisCacheRefreshLease;
+import kr.hhplus.be.server.common.cache.RefreshAheadCacheManager;
+import kr.hhplus.be.server.common.cache.RefreshAheadSpec;
+import kr.hhplus.be.server.common.cache.TwoTierCacheManager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
+import java.time.Clock;
 import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ThreadPoolExecutor;
 
 
 @Configuration
 @Profile("!test")
 public class RedisCacheConfig {
 
+    @Value("${cache.binary-serializer-caches:popularProducts,productMetadata}")
+    private Set<String> binarySerializerCaches;
+
+    @Bean
+    public RedisCacheInvalidationBroker cacheInvalidationBroker(StringRedisTemplate stringRedisTemplate) {
+        return new RedisCacheInvalidationBroker(stringRedisTemplate);
+    }
+
     @Bean
-    public RedisCacheManager cacheManager(RedisConnectionFactory connectionFactory, Jackson2ObjectMapperBuilder builder) {
+    public RedisMessageListenerContainer cacheInvalidationListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                            RedisCacheInvalidationBroker broker) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(broker, RedisCacheInvalidationBroker.TOPIC);
+        return container;
+    }
+
+    /**
+     * Redis 캐시 앞에 로컬 near 캐시를 둔 2계층 CacheManager.
+     * 하루 한 번 바뀌는 인기 상품은 로컬 계층에서 바로 응답하고, 노드 간 정합성은 Pub/Sub 무효화로 맞춘다.
+     *
+     * <p>인기 상품은 논리 TTL(24h)이 지나거나 XFetch 조기 만료에 걸리면 한 노드만 백그라운드로 갱신하고,
+     * 하드 TTL(25h)까지는 기존 값을 계속 응답해 만료 시점의 DB 스탬피드를 막는다.
+     *
+     * <p>가장 바깥에서 캐시 이름별 hit/miss·로딩 시간·삭제를 기록한다.
+     */
+    @Bean
+    public CacheManager cacheManager(RedisConnectionFactory connectionFactory,
+                                     Jackson2ObjectMapperBuilder builder,
+                                     RedisCacheInvalidationBroker broker,
+                                     StringRedisTemplate stringRedisTemplate,
+                                     Clock clock,
+                                     MeterRegistry meterRegistry) {
+        Map<String, LocalCacheSpec> localSpecs = Map.of(
+                "popularProducts", LocalCacheSpec.of(1_000, Duration.ofMinutes(10)),
+                "productMetadata", LocalCacheSpec.of(10_000, Duration.ofMinutes(5)),
+                // 재고는 Pub/Sub 무효화가 늦게 도착하는 경우를 대비해 로컬 TTL을 짧게 둔다
+                "productStock", LocalCacheSpec.of(10_000, Duration.ofSeconds(2))
+        );
+        Map<String, RefreshAheadSpec> refreshAheadSpecs = Map.of(
+                "popularProducts", RefreshAheadSpec.of(Duration.ofHours(24), 1.0, Duration.ofSeconds(30))
+        );
+
+        RefreshAheadCacheManager refreshAheadCacheManager = new RefreshAheadCacheManager(
+                redisCacheManager(connectionFactory, builder, meterRegistry), refreshAheadSpecs,
+                new RedisCacheRefreshLease(stringRedisTemplate), cacheRefreshExecutor(), clock);
+
+        TwoTierCacheManager cacheManager = new TwoTierCacheManager(
+                refreshAheadCacheManager, localSpecs, broker, meterRegistry);
+        broker.onInvalidate(cacheManager::evictLocal);
+        return new InstrumentedCacheManager(cacheManager, meterRegistry);
+    }
+
+    /**
+     * 캐시 사전 갱신 전용 풀. 갱신이 밀리면 거절하고 기존 값을 계속 제공한다.
+     * Executor 빈으로 등록하면 기본 applicationTaskExecutor 자동 구성이 빠지므로 내부에서만 사용한다.
+     */
+    private ThreadPoolTaskExecutor cacheRefreshExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(2);
+        executor.setQueueCapacity(100);
+        executor.setDaemon(true);
+        executor.setThreadNamePrefix("cache-refresh-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.initialize();
+        return executor;
+    }
+
+    private RedisCacheManager redisCacheManager(RedisConnectionFactory connectionFactory,
+                                                Jackson2ObjectMapperBuilder builder,
+                                                MeterRegistry meterRegistry) {
+        RedisSerializer<Object> jsonSerializer = jsonValueSerializer(builder);
+        RedisSerializer<Object> binarySerializer = new BinaryRedisSerializer(CacheValueCodecs.registry(), jsonSerializer);
+
+        Duration defaultTtl = Duration.ofMinutes(30);
+        Map<String, Duration> cacheTtls = new HashMap<>();
+        cacheTtls.put("popularProducts", Duration.ofHours(25));
+        cacheTtls.put("productMetadata", Duration.ofHours(1));
+        cacheTtls.put("productStock", Duration.ofSeconds(30));
+        binarySerializerCaches.forEach(cacheName -> cacheTtls.putIfAbsent(cacheName, defaultTtl));
+
+        // 캐시 이름별 값 직렬화기 선택: 지정된 캐시만 바이너리 포맷으로 저장한다.
+        Map<String, RedisCacheConfiguration> cacheConfigs = new HashMap<>();
+        cacheTtls.forEach((cacheName, ttl) -> cacheConfigs.put(cacheName, cacheConfiguration(ttl,
+                new MeteredRedisSerializer(binarySerializerCaches.contains(cacheName) ? binarySerializer : jsonSerializer,
+                        cacheName, meterRegistry))));
+
+        RedisCacheManager redisCacheManager = RedisCacheManager.builder(connectionFactory)
+                .cacheDefaults(cacheConfiguration(defaultTtl, new MeteredRedisSerializer(jsonSerializer, "default", meterRegistry)))
+                .withInitialCacheConfigurations(cacheConfigs)
+                .build();
+        redisCacheManager.afterPropertiesSet();
+        return redisCacheManager;
+    }
+
+    private static RedisCacheConfiguration cacheConfiguration(Duration ttl, RedisSerializer<Object> valueSerializer) {
+        return RedisCacheConfiguration.defaultCacheConfig()
+                .entryTtl(ttl)
+                .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(valueSerializer));
+    }
+
+    /**
+     * 기본 캐시 값 직렬화기. {@code @class} 타입 정보를 포함한 JSON으로 저장한다.
+     */
+    public static RedisSerializer<Object> jsonValueSerializer(Jackson2ObjectMapperBuilder builder) {
         ObjectMapper objectMapper = builder
                 .modules(new JavaTimeModule())
                 .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
@@ -40,21 +162,6 @@ public class RedisCacheConfig {
                 JsonTypeInfo.As.PROPERTY
         );
 
-        RedisSerializer<Object> serializer = new GenericJackson2JsonRedisSerializer(objectMapper);
-
-        RedisCacheConfiguration defaultConfig = RedisCacheConfiguration.defaultCacheConfig()
-                .entryTtl(Duration.ofMinutes(30))
-                .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(serializer));
-
-        Map<String, RedisCacheConfiguration> cacheConfigs = new HashMap<>();
-        cacheConfigs.put("popularProducts", RedisCacheConfiguration.defaultCacheConfig()
-                .entryTtl(Duration.ofHours(24))
-                .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(serializer))
-        );
-
-        return RedisCacheManager.builder(connectionFactory)
-                .cacheDefaults(defaultConfig)
-                .withInitialCacheConfigurations(cacheConfigs)
-                .build();
+        return new GenericJackson2JsonRedisSerializer(objectMapper);
     }
 }
@@ -10,4 +10,10 @@ public interface BalanceHistoryRepository {
     boolean existsByUserIdAndReason(Long userId, String reason);
 
     boolean existsByRequestId(String s);
+
+    /**
+     * request_id가 없을 때만 이력을 저장한다.
+     * @return 저장했으면 true, 같은 request_id 이력이 이미 있으면 false
+     */
+    boolean saveIfAbsent(BalanceHistory history);
 }
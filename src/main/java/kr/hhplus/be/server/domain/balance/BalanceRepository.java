@@ -13,4 +13,18 @@ public interface BalanceRepository{
      */
     Optional<Balance> findByUserId(Long userId);
 
+    /**
+     * 단일 UPDATE로 잔액을 증가시키고 갱신된 잔액을 반환한다.
+     *
+     * @return 잔액 행이 없으면 empty
+     */
+    Optional<Long> increaseAmount(Long userId, long amount);
+
+    /**
+     * 잔액이 충분할 때만 단일 조건부 UPDATE로 차감하고 갱신된 잔액을 반환한다.
+     *
+     * @return 잔액 행이 없거나 잔액이 부족하면 empty
+     */
+    Optional<Long> decreaseAmountIfEnough(Long userId, long amount);
+
 }
\ No newline at end of file
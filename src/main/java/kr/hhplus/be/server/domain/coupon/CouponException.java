@@ -37,4 +37,10 @@ public class CouponException extends BusinessException {
         }
     }
 
+    public static class IssueBufferFullException extends BusinessException {
+        public IssueBufferFullException() {
+            super(ErrorCode.TOO_MANY_REQUESTS, "쿠폰 발급 요청이 많아 잠시 후 다시 시도해주세요.");
+        }
+    }
+
 }
@@ -0,0 +1,9 @@
+package kr.hhplus.be.server.domain.coupon;
+
+public interface CouponIssueDeadLetterRepository {
+
+    /**
+     * 재시도까지 DB 반영에 실패한 선점 발급을 기록한다. 선점은 유지되며, 기록된 건은 이후 재반영 대상이다.
+     */
+    void save(ReservedCouponIssue issue, String reason);
+}
@@ -1,5 +1,6 @@
 package kr.hhplus.be.server.domain.coupon;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface CouponIssueRepository {
@@ -11,4 +12,6 @@ public interface CouponIssueRepository {
     long count();
     long countByCouponCode(String code);
 
+    List<Long> findUserIdsByCouponId(Long couponId);
+
 }
@@ -0,0 +1,34 @@
+package kr.hhplus.be.server.domain.coupon;
+
+import java.time.Duration;
+import java.util.Collection;
+
+/**
+ * 선착순 쿠폰의 발급 슬롯을 원자적으로 선점하는 저장소.
+ * 잔여 수량 차감과 사용자 중복 발급 체크를 한 번의 연산으로 처리한다.
+ */
+public interface CouponIssueReservation {
+
+    /**
+     * 잔여 수량을 1 차감하고 사용자를 발급 목록에 추가한다.
+     */
+    Result reserve(Long couponId, Long userId);
+
+    /**
+     * 선점 저장소가 비어 있을 때 DB 기준 잔여 수량과 기발급 사용자로 초기화한다.
+     * 이미 초기화된 경우 아무것도 하지 않는다.
+     */
+    void initialize(Long couponId, int remainingQuantity, Collection<Long> issuedUserIds, Duration ttl);
+
+    /**
+     * 선점을 취소하고 잔여 수량을 되돌린다. (영속화 실패 시 보상용)
+     */
+    void release(Long couponId, Long userId);
+
+    enum Result {
+        RESERVED,
+        ALREADY_ISSUED,
+        EXHAUSTED,
+        NOT_INITIALIZED
+    }
+}
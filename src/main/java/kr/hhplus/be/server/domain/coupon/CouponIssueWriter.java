@@ -1,6 +1,13 @@
 package kr.hhplus.be.server.domain.coupon;
 
+/**
+ * 선점이 끝난 쿠폰 발급 이력을 비동기로 영속화하는 쓰기 버퍼.
+ */
 public interface CouponIssueWriter {
-    CouponIssue save(CouponIssue issue); // 바꿔주세요
-    boolean hasIssued(Long userId, Long couponId);
-}
\ No newline at end of file
+
+    /**
+     * 발급 이력을 버퍼에 적재한다.
+     * coupon_issue INSERT 와 coupon.remaining_quantity 차감은 이후 배치로 반영된다.
+     */
+    void write(ReservedCouponIssue issue);
+}
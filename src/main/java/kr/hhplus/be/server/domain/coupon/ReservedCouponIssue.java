@@ -0,0 +1,14 @@
+package kr.hhplus.be.server.domain.coupon;
+
+import java.time.LocalDateTime;
+
+/**
+ * Redis 선점이 끝나 DB 반영을 기다리는 쿠폰 발급.
+ * 쓰기 버퍼는 쿠폰 엔티티 없이 id만으로 coupon_issue 행을 만든다.
+ */
+public record ReservedCouponIssue(
+        Long couponId,
+        Long userId,
+        LocalDateTime issuedAt
+) {
+}
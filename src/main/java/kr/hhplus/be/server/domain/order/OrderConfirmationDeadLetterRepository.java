@@ -0,0 +1,9 @@
+package kr.hhplus.be.server.domain.order;
+
+public interface OrderConfirmationDeadLetterRepository {
+
+    /**
+     * 재시도까지 확정에 실패한 주문을 기록한다. 이미 기록된 주문이면 시도 횟수와 사유를 갱신한다.
+     */
+    void save(String orderId, int attempts, String reason);
+}
@@ -1,7 +1,9 @@
 package kr.hhplus.be.server.domain.order;
 
 
+import java.time.LocalDateTime;
 import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface OrderRepository{
@@ -25,4 +27,23 @@ public interface OrderRepository{
 
     Optional<Order> findByIdWithItems(String orderId);
 
+    /**
+     * 주어진 주문 중 CREATED 상태인 주문의 id만 행 잠금(FOR UPDATE)과 함께 조회한다.
+     * 같은 주문이 동시에 두 번 확정되지 않도록 호출자의 트랜잭션 안에서 사용한다.
+     */
+    List<String> lockConfirmableIds(Collection<String> orderIds);
+
+    /**
+     * CREATED 상태인 주문을 UPDATE 한 번으로 CONFIRMED 처리하고 변경된 행 수를 돌려준다.
+     */
+    int confirmAll(Collection<String> orderIds);
+
+    List<Order> findAllWithItems(Collection<String> orderIds);
+
+    /**
+     * paidBefore 이전에 결제가 성공했는데 아직 CREATED 상태인 주문 id를 최대 limit건 조회한다.
+     * 확정 데드레터에 기록된 주문은 제외한다.
+     */
+    List<String> findPaidButUnconfirmedIds(LocalDateTime paidBefore, int limit);
+
 }
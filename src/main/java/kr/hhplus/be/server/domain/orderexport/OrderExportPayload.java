@@ -1,5 +1,6 @@
 package kr.hhplus.be.server.domain.orderexport;
 
+import com.fasterxml.jackson.annotation.JsonCreator;
 import kr.hhplus.be.server.domain.order.Order;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -7,7 +8,7 @@ import lombok.Getter;
 import java.util.List;
 
 @Getter
-@AllArgsConstructor(staticName = "of")
+@AllArgsConstructor(staticName = "of", onConstructor_ = @JsonCreator)
 public class OrderExportPayload {
     private final String orderId;
     private final Long userId;
@@ -15,7 +16,7 @@ public class OrderExportPayload {
     private final long totalAmount;
 
     @Getter
-    @AllArgsConstructor(staticName = "of")
+    @AllArgsConstructor(staticName = "of", onConstructor_ = @JsonCreator)
     public static class OrderItemPayload {
         private final Long productId;
         private final int quantity;
@@ -1,7 +1,5 @@
 package kr.hhplus.be.server.domain.outbox;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.persistence.*;
 import kr.hhplus.be.server.domain.order.Order;
 import kr.hhplus.be.server.domain.orderexport.OrderExportPayload;
@@ -28,45 +26,62 @@ public class OrderEvent {
     private String eventType;      // ex: "PAYMENT_COMPLETED"
 
 
-    @Column(name = "payload", columnDefinition = "LONGTEXT", nullable = false)
-    private String payload;
+    @Lob
+    @Column(name = "payload", columnDefinition = "MEDIUMBLOB", nullable = false)
+    private byte[] payload;
 
     @Enumerated(EnumType.STRING)
     @Column(nullable = false)
     private EventStatus status;
 
+    @Column(nullable = false)
+    private int retryCount;
+
     @Column(nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
-    private static final ObjectMapper objectMapper = new ObjectMapper();
+    private LocalDateTime updatedAt;
+
+    private static final OutboxPayloadSerializer payloadSerializer = OrderEventPayloadCodecs.serializer();
 
     public static OrderEvent paymentCompleted(Order order) {
         OrderExportPayload exportPayload = OrderExportPayload.from(order);
         return new OrderEvent(
                 UUID.randomUUID(),
                 "ORDER",
-                "PAYMENT_COMPLETED",
-                toJson(exportPayload),
+                OrderEventPayloadCodecs.PAYMENT_COMPLETED,
+                payloadSerializer.serialize(OrderEventPayloadCodecs.PAYMENT_COMPLETED, exportPayload),
                 EventStatus.PENDING,
                 LocalDateTime.now()
         );
     }
 
-    private OrderEvent(UUID id, String aggregateType, String eventType, String payload, EventStatus status, LocalDateTime createdAt) {
+    /**
+     * 저장소에서 읽은 행으로 이벤트를 복원한다.
+     */
+    public static OrderEvent restore(UUID id, String aggregateType, String eventType, byte[] payload,
+                                     EventStatus status, int retryCount, LocalDateTime createdAt, LocalDateTime updatedAt) {
+        OrderEvent event = new OrderEvent(id, aggregateType, eventType, payload, status, createdAt);
+        event.retryCount = retryCount;
+        event.updatedAt = updatedAt;
+        return event;
+    }
+
+    private OrderEvent(UUID id, String aggregateType, String eventType, byte[] payload, EventStatus status, LocalDateTime createdAt) {
         this.id = id;
         this.aggregateType = aggregateType;
         this.eventType = eventType;
         this.payload = payload;
         this.status = status;
         this.createdAt = createdAt;
+        this.updatedAt = createdAt;
     }
 
-    private static String toJson(Object payload) {
-        try {
-            return objectMapper.writeValueAsString(payload);
-        } catch (JsonProcessingException e) {
-            throw new RuntimeException("Payload 직렬화 실패", e);
-        }
+    /**
+     * eventType에 등록된 코덱으로 payload를 복원한다.
+     */
+    public <T> T decodePayload(Class<T> type) {
+        return payloadSerializer.deserialize(eventType, payload, type);
     }
 
     public void markAsProcessedSuccessfully() {
@@ -0,0 +1,85 @@
+package kr.hhplus.be.server.domain.outbox;
+
+import kr.hhplus.be.server.domain.orderexport.OrderExportPayload;
+import kr.hhplus.be.server.domain.orderexport.OrderExportPayload.OrderItemPayload;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * order_event eventType별 payload 코덱 목록.
+ * 코덱 버전을 올릴 때는 이전 버전 read 분기를 남겨 둔다.
+ */
+public final class OrderEventPayloadCodecs {
+
+    public static final String PAYMENT_COMPLETED = "PAYMENT_COMPLETED";
+
+    /**
+     * 이보다 작은 payload는 압축 이득보다 CPU 비용이 커서 그대로 둔다.
+     */
+    private static final int COMPRESSION_THRESHOLD_BYTES = 512;
+
+    private OrderEventPayloadCodecs() {
+    }
+
+    public static OutboxPayloadSerializer serializer() {
+        return new OutboxPayloadSerializer(COMPRESSION_THRESHOLD_BYTES)
+                .register(PAYMENT_COMPLETED, new OrderExportPayloadCodec());
+    }
+
+    static class OrderExportPayloadCodec implements OutboxPayloadCodec<OrderExportPayload> {
+
+        private static final int V1 = 1;
+
+        @Override
+        public Class<OrderExportPayload> type() {
+            return OrderExportPayload.class;
+        }
+
+        @Override
+        public int version() {
+            return V1;
+        }
+
+        @Override
+        public void write(OrderExportPayload value, DataOutput out) throws IOException {
+            OutboxPayloadCodec.writeNullableString(value.getOrderId(), out);
+            OutboxPayloadCodec.writeNullableVarLong(value.getUserId(), out);
+            OutboxPayloadCodec.writeVarLong(value.getTotalAmount(), out);
+
+            List<OrderItemPayload> items = value.getItems() == null ? List.of() : value.getItems();
+            OutboxPayloadCodec.writeVarLong(items.size(), out);
+            for (OrderItemPayload item : items) {
+                OutboxPayloadCodec.writeNullableVarLong(item.getProductId(), out);
+                OutboxPayloadCodec.writeVarLong(item.getQuantity(), out);
+                OutboxPayloadCodec.writeVarLong(item.getSize(), out);
+                OutboxPayloadCodec.writeVarLong(item.getPrice(), out);
+            }
+        }
+
+        @Override
+        public OrderExportPayload read(int version, DataInput in) throws IOException {
+            if (version != V1) {
+                throw new IOException("지원하지 않는 PAYMENT_COMPLETED payload 버전: " + version);
+            }
+            String orderId = OutboxPayloadCodec.readNullableString(in);
+            Long userId = OutboxPayloadCodec.readNullableVarLong(in);
+            long totalAmount = OutboxPayloadCodec.readVarLong(in);
+
+            int itemCount = (int) OutboxPayloadCodec.readVarLong(in);
+            List<OrderItemPayload> items = new ArrayList<>(itemCount);
+            for (int i = 0; i < itemCount; i++) {
+                items.add(OrderItemPayload.of(
+                        OutboxPayloadCodec.readNullableVarLong(in),
+                        (int) OutboxPayloadCodec.readVarLong(in),
+                        (int) OutboxPayloadCodec.readVarLong(in),
+                        OutboxPayloadCodec.readVarLong(in)
+                ));
+            }
+            return OrderExportPayload.of(orderId, userId, items, totalAmount);
+        }
+    }
+}
@@ -1,12 +1,42 @@
 package kr.hhplus.be.server.domain.outbox;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 public interface OrderEventRepository {
     void save(OrderEvent event);
+
+    /**
+     * 여러 이벤트를 JDBC batch INSERT 한 번으로 저장한다.
+     */
+    void saveAll(List<OrderEvent> events);
     Optional<OrderEvent> findById(UUID id);
-    List<OrderEvent> findPendingEvents();
-    void markAsSent(UUID id);
+
+    /**
+     * 선점 후 lease가 지난 PROCESSING 이벤트를 먼저, 남은 자리만큼 PENDING 이벤트를 오래된 순으로 최대 limit건 선점한다.
+     * 다른 relay가 잠근 행은 건너뛰고(SKIP LOCKED), 선점한 행은 PROCESSING으로 바꾼다.
+     * 호출자의 트랜잭션 안에서 실행되어야 한다.
+     */
+    List<OrderEvent> claimPending(int limit, Duration lease);
+
+    /**
+     * before 이전에 완료된 COMPLETED 이벤트를 최대 limit건 삭제한다.
+     *
+     * @return 삭제된 행 수
+     */
+    int deleteCompletedBefore(LocalDateTime before, int limit);
+
+    /**
+     * 전송에 성공한 이벤트를 한 번의 UPDATE로 COMPLETED 처리한다.
+     */
+    void markCompleted(Collection<UUID> ids);
+
+    /**
+     * 전송에 실패한 이벤트의 재시도 횟수를 올리고, maxRetries에 도달하면 FAILED, 아니면 다시 PENDING으로 돌린다.
+     */
+    void markFailed(Collection<UUID> ids, int maxRetries);
 }
@@ -0,0 +1,73 @@
+package kr.hhplus.be.server.domain.outbox;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * outbox 이벤트 한 종류의 payload 바이너리 인코딩 규칙.
+ *
+ * <p>필드 순서가 곧 스키마다. 필드를 바꿀 때는 {@link #version()}을 올리고,
+ * {@link #read}에서 이전 버전으로 기록된 행도 계속 읽을 수 있어야 한다. (relay 대기 중인 행이 남아 있을 수 있다)
+ */
+public interface OutboxPayloadCodec<T> {
+
+    Class<T> type();
+
+    /**
+     * 새로 기록할 때 사용하는 인코딩 버전 (1~255).
+     */
+    int version();
+
+    void write(T value, DataOutput out) throws IOException;
+
+    T read(int version, DataInput in) throws IOException;
+
+    /**
+     * 음수가 아닌 값을 7비트 단위 가변 길이로 기록한다. 수량, 금액처럼 작은 값이 대부분인 필드용.
+     */
+    static void writeVarLong(long value, DataOutput out) throws IOException {
+        if (value < 0) {
+            throw new IllegalArgumentException("가변 길이 인코딩은 음수를 지원하지 않습니다: " + value);
+        }
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    static long readVarLong(DataInput in) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = in.readByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("가변 길이 정수 형식이 올바르지 않습니다.");
+    }
+
+    static void writeNullableVarLong(Long value, DataOutput out) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            writeVarLong(value, out);
+        }
+    }
+
+    static Long readNullableVarLong(DataInput in) throws IOException {
+        return in.readBoolean() ? readVarLong(in) : null;
+    }
+
+    static void writeNullableString(String value, DataOutput out) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    static String readNullableString(DataInput in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+}
@@ -0,0 +1,115 @@
+package kr.hhplus.be.server.domain.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.module.paramnames.ParameterNamesModule;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * eventType별 코덱으로 outbox payload를 바이너리로 기록/복원한다.
+ *
+ * <pre>
+ * MAGIC(1) | FLAGS(1) | CODEC_VERSION(1) | body
+ * </pre>
+ * 인코딩된 body가 압축 임계값 이상이면 Deflate로 압축하고, 실제로 줄어든 경우에만 FLAGS에 표시한다.
+ * MAGIC으로 시작하지 않는 행은 이전 JSON 형식으로 보고 JSON으로 읽는다. (전환 전에 쌓인 PENDING 행 호환)
+ */
+public class OutboxPayloadSerializer {
+
+    static final byte MAGIC = (byte) 0xB5;
+    static final int FLAG_DEFLATE = 0x01;
+    private static final int HEADER_SIZE = 3;
+
+    private static final ObjectMapper LEGACY_JSON = JsonMapper.builder()
+            .addModule(new ParameterNamesModule())
+            .build();
+
+    private final Map<String, OutboxPayloadCodec<?>> codecs = new HashMap<>();
+    private final int compressionThreshold;
+
+    public OutboxPayloadSerializer(int compressionThreshold) {
+        this.compressionThreshold = compressionThreshold;
+    }
+
+    public <T> OutboxPayloadSerializer register(String eventType, OutboxPayloadCodec<T> codec) {
+        if (codec.version() < 1 || codec.version() > 0xFF) {
+            throw new IllegalArgumentException("코덱 버전은 1~255 범위여야 합니다: " + codec.version());
+        }
+        if (codecs.putIfAbsent(eventType, codec) != null) {
+            throw new IllegalArgumentException("이미 등록된 이벤트 타입입니다: " + eventType);
+        }
+        return this;
+    }
+
+    public byte[] serialize(String eventType, Object value) {
+        OutboxPayloadCodec<Object> codec = codecOf(eventType);
+        try {
+            ByteArrayOutputStream body = new ByteArrayOutputStream(128);
+            codec.write(codec.type().cast(value), new DataOutputStream(body));
+
+            byte[] raw = body.toByteArray();
+            byte[] compressed = raw.length >= compressionThreshold ? deflate(raw) : null;
+            boolean useCompressed = compressed != null && compressed.length < raw.length;
+            byte[] payload = useCompressed ? compressed : raw;
+
+            byte[] result = new byte[HEADER_SIZE + payload.length];
+            result[0] = MAGIC;
+            result[1] = (byte) (useCompressed ? FLAG_DEFLATE : 0);
+            result[2] = (byte) codec.version();
+            System.arraycopy(payload, 0, result, HEADER_SIZE, payload.length);
+            return result;
+        } catch (IOException e) {
+            throw new IllegalStateException("Payload 직렬화 실패: eventType=" + eventType, e);
+        }
+    }
+
+    public <T> T deserialize(String eventType, byte[] bytes, Class<T> type) {
+        try {
+            if (bytes.length == 0 || bytes[0] != MAGIC) {
+                return LEGACY_JSON.readValue(bytes, type);
+            }
+
+            OutboxPayloadCodec<Object> codec = codecOf(eventType);
+            int flags = bytes[1];
+            int version = bytes[2] & 0xFF;
+            InputStream body = new ByteArrayInputStream(bytes, HEADER_SIZE, bytes.length - HEADER_SIZE);
+            if ((flags & FLAG_DEFLATE) != 0) {
+                body = new InflaterInputStream(body);
+            }
+            return type.cast(codec.read(version, new DataInputStream(body)));
+        } catch (IOException e) {
+            throw new IllegalStateException("Payload 역직렬화 실패: eventType=" + eventType, e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private OutboxPayloadCodec<Object> codecOf(String eventType) {
+        OutboxPayloadCodec<?> codec = codecs.get(eventType);
+        if (codec == null) {
+            throw new IllegalArgumentException("등록되지 않은 이벤트 타입입니다: " + eventType);
+        }
+        return (OutboxPayloadCodec<Object>) codec;
+    }
+
+    private static byte[] deflate(byte[] raw) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(raw.length / 2 + 16);
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try (DeflaterOutputStream deflating = new DeflaterOutputStream(out, deflater)) {
+            deflating.write(raw);
+        } finally {
+            deflater.end();
+        }
+        return out.toByteArray();
+    }
+}
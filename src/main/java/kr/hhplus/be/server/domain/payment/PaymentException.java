@@ -35,6 +35,12 @@ public class PaymentException extends BusinessException {
         }
     }
 
+    public static class AlreadyPaidException extends BusinessException {
+        public AlreadyPaidException(String orderId) {
+            super(ErrorCode.PAYMENT_ALREADY_PROCESSED, "이미 결제된 주문입니다: " + orderId);
+        }
+    }
+
     public static class ExternalSystemException extends BusinessException {
         public ExternalSystemException(String reason) {
             super(ErrorCode.EXTERNAL_SYSTEM_ERROR, reason);
@@ -17,4 +17,10 @@ public interface PaymentRepository {
     Optional<Payment> findById(String id);
 
     Optional<Payment> findByOrderId(String id);
+
+    /**
+     * 주문에 주어진 상태의 결제가 있는지 확인한다.
+     * 주문 확정이 비동기로 처리되므로 확정 전 중복 결제는 주문 상태가 아닌 결제 이력으로 판단한다.
+     */
+    boolean existsByOrderIdAndStatus(String orderId, PaymentStatus status);
 }
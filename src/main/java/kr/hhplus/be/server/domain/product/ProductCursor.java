@@ -0,0 +1,50 @@
+package kr.hhplus.be.server.domain.product;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * 커서 기반 상품 목록의 다음 페이지 시작 위치. (정렬 키 값, id)
+ *
+ * <p>클라이언트에는 내부 구조를 노출하지 않도록 Base64 URL-safe 토큰으로 주고받는다.
+ */
+public record ProductCursor(
+        ProductSortType sortType,
+        LocalDateTime createdAt,
+        Long price,
+        Long id
+) {
+    private static final String DELIMITER = "|";
+
+    public static ProductCursor after(ProductSortType sortType, Product last) {
+        return new ProductCursor(sortType, last.getCreatedAt(), last.getPrice(), last.getId());
+    }
+
+    public String encode() {
+        String value = switch (sortType) {
+            case CREATED_AT_DESC -> createdAt.toString();
+            case PRICE_ASC, PRICE_DESC -> String.valueOf(price);
+        };
+        String raw = sortType.name() + DELIMITER + value + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static ProductCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|");
+            if (parts.length != 3) {
+                throw new IllegalArgumentException(raw);
+            }
+            ProductSortType sortType = ProductSortType.valueOf(parts[0]);
+            Long id = Long.valueOf(parts[2]);
+            return switch (sortType) {
+                case CREATED_AT_DESC -> new ProductCursor(sortType, LocalDateTime.parse(parts[1]), null, id);
+                case PRICE_ASC, PRICE_DESC -> new ProductCursor(sortType, null, Long.valueOf(parts[1]), id);
+            };
+        } catch (RuntimeException e) {
+            throw new ProductException.InvalidCursorException("유효하지 않은 커서입니다.");
+        }
+    }
+}
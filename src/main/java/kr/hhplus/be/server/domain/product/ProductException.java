@@ -35,6 +35,18 @@ public class ProductException extends BusinessException {
             super(ErrorCode.INVALID_INPUT_VALUE, "아직 출시되지 않은 상품입니다. (상품 ID: " + productId + ")");
         }
     }
+    public static class InvalidCursorException extends BusinessException {
+        public InvalidCursorException(String message) {
+            super(ErrorCode.INVALID_PARAMETER, message);
+        }
+    }
+
+    public static class InvalidPageSizeException extends BusinessException {
+        public InvalidPageSizeException(int maxSize) {
+            super(ErrorCode.INVALID_PARAMETER, "페이지 크기는 1 이상 " + maxSize + " 이하만 가능합니다.");
+        }
+    }
+
     public static class OutOfStockException extends BusinessException {
         public OutOfStockException(Long productId) {
             super(ErrorCode.INSUFFICIENT_STOCK, "재고가 부족한 상품입니다. (상품 ID: " + productId + ")");
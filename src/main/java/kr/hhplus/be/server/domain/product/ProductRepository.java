@@ -3,6 +3,7 @@ package kr.hhplus.be.server.domain.product;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 import java.util.List;
 import java.util.Optional;
@@ -10,8 +11,22 @@ import java.util.Optional;
 public interface ProductRepository{
     Page<Product> findAll(Pageable pageable);
 
+    /**
+     * 한 건을 더 읽어 다음 페이지 존재 여부만 판단한다. (COUNT 쿼리 없음)
+     */
+    Slice<Product> findSlice(Pageable pageable);
+
+    long count();
+
     Product save(Product domain);
     Optional<Product> findById(Long aLong);
 
     List<Product> findAllById(List<Long> productIds);
+
+    /**
+     * 커서 이후의 상품을 정렬 순서대로 limit 개 조회한다. (OFFSET, COUNT 없음)
+     *
+     * @param cursor null이면 첫 페이지
+     */
+    List<Product> findAllByCursor(ProductSortType sortType, ProductCursor cursor, int limit);
 }
@@ -0,0 +1,30 @@
+package kr.hhplus.be.server.domain.product;
+
+import java.util.Arrays;
+
+/**
+ * 커서 기반 상품 목록에서 지원하는 정렬.
+ * 모든 정렬은 동일 값 간 순서를 고정하기 위해 id를 보조 키로 사용한다.
+ */
+public enum ProductSortType {
+    CREATED_AT_DESC("createdAt,desc"),
+    PRICE_ASC("price,asc"),
+    PRICE_DESC("price,desc");
+
+    private final String param;
+
+    ProductSortType(String param) {
+        this.param = param;
+    }
+
+    public static ProductSortType from(String sort) {
+        if (sort == null || sort.isBlank()) {
+            return CREATED_AT_DESC;
+        }
+        String normalized = sort.contains(",") ? sort : sort + ",asc";
+        return Arrays.stream(values())
+                .filter(type -> type.param.equalsIgnoreCase(normalized.replace(" ", "")))
+                .findFirst()
+                .orElseThrow(() -> new ProductException.InvalidCursorException("지원하지 않는 정렬입니다: " + sort));
+    }
+}
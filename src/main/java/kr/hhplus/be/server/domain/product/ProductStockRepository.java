@@ -1,5 +1,6 @@
 package kr.hhplus.be.server.domain.product;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -7,9 +8,40 @@ public interface ProductStockRepository {
     ProductStock save(ProductStock stock);
 
     List<ProductStock> findAllByProductId(Long productId);
+
+    /**
+     * 여러 상품의 사이즈별 재고 행을 IN 조회 한 번으로 가져온다.
+     */
+    List<ProductStock> findAllByProductIds(Collection<Long> productIds);
+
+    /**
+     * 여러 상품의 사이즈별 재고를 상품 단위로 합산한다. (GROUP BY 한 번)
+     * 재고 행이 없는 상품은 결과에 포함되지 않는다.
+     */
+    List<ProductStockSummary> sumStockByProductIds(Collection<Long> productIds);
     Optional<ProductStock> findByProductIdAndSize(Long productId, int size);
 
     Optional<ProductStock> findByProductIdAndSizeForUpdate(Long productId, int size);
 
     Optional<ProductStock> findByProductId(Long id);
+
+    /**
+     * 재고가 충분할 때만 단일 조건부 UPDATE로 차감한다.
+     *
+     * @return 차감된 행이 있으면 true
+     */
+    boolean decreaseIfAvailable(Long productId, int size, int quantity);
+
+    /**
+     * 여러 상품 사이즈의 재고를 한 번의 batch UPDATE로 차감한다.
+     * 재고가 부족한 행은 갱신되지 않으며, 반환 배열의 해당 위치가 0이 된다.
+     * 행별 갱신 수를 알 수 없는 결과(SUCCESS_NO_INFO)는 예외로 거부한다.
+     */
+    int[] decreaseStocks(List<StockDeduction> deductions);
+
+    /**
+     * 차감했던 수량을 한 번의 batch UPDATE로 재고에 되돌린다.
+     * 재고 행이 없으면 반환 배열의 해당 위치가 0이 된다. 행별 갱신 수를 알 수 없는 결과는 예외로 거부한다.
+     */
+    int[] restoreStocks(List<StockDeduction> deductions);
 }
@@ -0,0 +1,10 @@
+package kr.hhplus.be.server.domain.product;
+
+/**
+ * 상품별 전체 사이즈 재고 합계
+ */
+public record ProductStockSummary(
+        Long productId,
+        Long totalQuantity
+) {
+}
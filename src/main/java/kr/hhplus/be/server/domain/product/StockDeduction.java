@@ -0,0 +1,14 @@
+package kr.hhplus.be.server.domain.product;
+
+/**
+ * 상품 사이즈 단위 재고 차감량
+ */
+public record StockDeduction(
+        Long productId,
+        int size,
+        int quantity
+) {
+    public static StockDeduction of(Long productId, int size, int quantity) {
+        return new StockDeduction(productId, size, quantity);
+    }
+}
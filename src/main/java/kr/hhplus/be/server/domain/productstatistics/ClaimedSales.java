@@ -0,0 +1,21 @@
+package kr.hhplus.be.server.domain.productstatistics;
+
+import java.util.List;
+
+/**
+ * 보관소에서 떼어낸 판매 통계 증분. DB 반영이 커밋된 뒤 {@link ProductSalesBackup#acknowledge}로 지운다.
+ */
+public record ClaimedSales(
+        String claimId,
+        List<ProductSalesDelta> deltas
+) {
+    private static final ClaimedSales EMPTY = new ClaimedSales(null, List.of());
+
+    public static ClaimedSales empty() {
+        return EMPTY;
+    }
+
+    public boolean isEmpty() {
+        return claimId == null;
+    }
+}
@@ -0,0 +1,35 @@
+package kr.hhplus.be.server.domain.productstatistics;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * DB 반영에 실패한 판매 통계 증분을 보관하는 내구성 저장소.
+ * DB가 복구되면 보관된 증분을 꺼내 다시 반영한다.
+ */
+public interface ProductSalesBackup {
+
+    void save(List<ProductSalesDelta> deltas);
+
+    /**
+     * 보관된 증분을 모두 떼어낸다. 떼어낸 증분은 새로 보관되는 증분과 섞이지 않고,
+     * {@link #acknowledge} 또는 {@link #restore} 전까지 저장소에 남는다.
+     */
+    ClaimedSales claim();
+
+    /**
+     * 떼어낸 증분을 저장소에서 지운다. DB 반영이 커밋된 뒤에 호출한다.
+     */
+    void acknowledge(String claimId);
+
+    /**
+     * 떼어낸 증분을 다시 보관 대상에 합친다. 합치기와 삭제는 원자적으로 처리되어 두 번 합쳐지지 않는다.
+     */
+    void restore(String claimId);
+
+    /**
+     * 떼어낸 지 olderThan 이상 지났는데 확인도 복원도 되지 않은 보관분의 claimId를 조회한다.
+     * 회수 후 반영 도중 프로세스가 종료된 경우 남는다.
+     */
+    List<String> findAbandonedClaimIds(Duration olderThan);
+}
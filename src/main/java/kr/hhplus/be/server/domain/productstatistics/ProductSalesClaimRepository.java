@@ -0,0 +1,22 @@
+package kr.hhplus.be.server.domain.productstatistics;
+
+import java.time.LocalDateTime;
+
+/**
+ * 보관소에서 떼어낸 판매 통계 증분({@link ClaimedSales})의 DB 반영 기록.
+ * 커밋은 되었지만 보관분 확인(삭제)에 실패한 경우, 복구 시 다시 반영하지 않도록 판단하는 근거가 된다.
+ */
+public interface ProductSalesClaimRepository {
+
+    /**
+     * 보관분이 반영되었음을 기록한다. 증분 반영과 같은 트랜잭션에서 호출한다.
+     */
+    void markApplied(String claimId);
+
+    boolean isApplied(String claimId);
+
+    /**
+     * appliedBefore 이전에 기록된 반영 기록을 지우고 지운 행 수를 돌려준다.
+     */
+    int deleteAppliedBefore(LocalDateTime appliedBefore);
+}
@@ -0,0 +1,17 @@
+package kr.hhplus.be.server.domain.productstatistics;
+
+import java.time.LocalDate;
+
+/**
+ * 일자별 상품 판매 통계에 더할 증분
+ */
+public record ProductSalesDelta(
+        Long productId,
+        LocalDate statDate,
+        long salesCount,
+        long salesAmount
+) {
+    public ProductSalesDelta plus(ProductSalesDelta other) {
+        return new ProductSalesDelta(productId, statDate, salesCount + other.salesCount, salesAmount + other.salesAmount);
+    }
+}
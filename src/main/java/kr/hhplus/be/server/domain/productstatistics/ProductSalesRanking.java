@@ -0,0 +1,34 @@
+package kr.hhplus.be.server.domain.productstatistics;
+
+import kr.hhplus.be.server.application.productstatistics.ProductSalesInfo;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 일자별 상품 판매량 랭킹 저장소.
+ * DB(product_statistics)가 원본이며, 랭킹은 언제든 DB로부터 다시 적재할 수 있는 파생 데이터다.
+ */
+public interface ProductSalesRanking {
+
+    /**
+     * 해당 일자의 상품 판매량을 누적한다.
+     */
+    void increase(Long productId, LocalDate date, long quantity);
+
+    /**
+     * 기간(from ~ to, 양 끝 포함) 중 아직 DB 기준으로 적재되지 않은 일자를 한 번에 조회한다.
+     */
+    List<LocalDate> findUnloadedDays(LocalDate from, LocalDate to);
+
+    /**
+     * 해당 일자 랭킹에 DB 집계 값을 합친다. 상품별로 DB 값과 누적 값 중 큰 쪽을 남기므로
+     * 아직 DB에 반영되지 않은 누적분은 지워지지 않는다.
+     */
+    void load(LocalDate date, List<ProductSalesInfo> dailySales);
+
+    /**
+     * 기간(from ~ to, 양 끝 포함) 동안의 판매량 상위 상품을 조회한다.
+     */
+    List<ProductSalesInfo> findTop(LocalDate from, LocalDate to, int limit);
+}
@@ -26,6 +26,12 @@ public interface ProductStatisticsRepository {
      */
     List<ProductStatistics> saveAll(List<ProductStatistics> stats);
 
+    /**
+     * 판매 통계 증분을 batch upsert로 누적한다. (INSERT ... ON DUPLICATE KEY UPDATE)
+     * 행이 없으면 생성하고, 있으면 판매량/금액에 더한다.
+     */
+    void increaseAll(List<ProductSalesDelta> deltas);
+
     /**
      * 지정된 기간 내 판매량 상위 상품들을 조회한다.
      * 판매량 기반 인기 상품 목록 조회 기능에서 사용.
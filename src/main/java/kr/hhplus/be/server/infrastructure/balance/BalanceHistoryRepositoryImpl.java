@@ -3,15 +3,21 @@ package kr.hhplus.be.server.infrastructure.balance;
 import kr.hhplus.be.server.domain.balance.BalanceHistory;
 import kr.hhplus.be.server.domain.balance.BalanceHistoryRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 
+import java.sql.Timestamp;
 import java.util.List;
 
 @Repository
 @RequiredArgsConstructor
 public class BalanceHistoryRepositoryImpl implements BalanceHistoryRepository {
 
+    private static final String INSERT_IGNORE_SQL = "INSERT IGNORE INTO balance_history"
+            + " (user_id, request_id, amount, type, reason, created_at) VALUES (?, ?, ?, ?, ?, ?)";
+
     private final BalanceHistoryJpaRepository balanceHistoryJpaRepository;
+    private final JdbcTemplate jdbcTemplate;
 
     @Override
     public void save(BalanceHistory history) {
@@ -33,5 +39,19 @@ public class BalanceHistoryRepositoryImpl implements BalanceHistoryRepository {
         return balanceHistoryJpaRepository.existsByRequestId(s);
     }
 
+    /**
+     * 사전 조회 없이 request_id UNIQUE 제약으로 중복을 거른다. 무시된 행은 0건으로 돌아온다.
+     */
+    @Override
+    public boolean saveIfAbsent(BalanceHistory history) {
+        return jdbcTemplate.update(INSERT_IGNORE_SQL,
+                history.getUserId(),
+                history.getRequestId(),
+                history.getAmount(),
+                history.getType().name(),
+                history.getReason(),
+                Timestamp.valueOf(history.getCreatedAt())) > 0;
+    }
+
 
 }
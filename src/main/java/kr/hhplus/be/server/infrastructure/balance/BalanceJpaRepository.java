@@ -2,9 +2,36 @@ package kr.hhplus.be.server.infrastructure.balance;
 
 import kr.hhplus.be.server.domain.balance.Balance;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 public interface BalanceJpaRepository extends JpaRepository<Balance, Long> {
     Optional<Balance> findByUserId(Long userId);
+
+    @Query("SELECT b.amount FROM Balance b WHERE b.userId = :userId")
+    Optional<Long> findAmountByUserId(@Param("userId") Long userId);
+
+    @Modifying(clearAutomatically = true)
+    @Query("""
+            UPDATE Balance b
+               SET b.amount = b.amount + :amount, b.updatedAt = :now
+             WHERE b.userId = :userId
+            """)
+    int increaseAmount(@Param("userId") Long userId,
+                       @Param("amount") long amount,
+                       @Param("now") LocalDateTime now);
+
+    @Modifying(clearAutomatically = true)
+    @Query("""
+            UPDATE Balance b
+               SET b.amount = b.amount - :amount, b.updatedAt = :now
+             WHERE b.userId = :userId AND b.amount >= :amount
+            """)
+    int decreaseAmountIfEnough(@Param("userId") Long userId,
+                               @Param("amount") long amount,
+                               @Param("now") LocalDateTime now);
 }
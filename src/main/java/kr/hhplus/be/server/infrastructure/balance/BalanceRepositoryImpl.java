@@ -1,10 +1,11 @@
 package kr.hhplus.be.server.infrastructure.balance;
 
-import jakarta.persistence.EntityManager;
 import kr.hhplus.be.server.domain.balance.Balance;
 import kr.hhplus.be.server.domain.balance.BalanceRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 @Repository
@@ -23,4 +24,21 @@ public class BalanceRepositoryImpl implements BalanceRepository {
         return jpaRepository.findByUserId(userId);
     }
 
+    @Override
+    public Optional<Long> increaseAmount(Long userId, long amount) {
+        if (jpaRepository.increaseAmount(userId, amount, LocalDateTime.now()) == 0) {
+            return Optional.empty();
+        }
+        // UPDATE가 잡은 행 락이 트랜잭션 끝까지 유지되므로 같은 트랜잭션에서 읽은 값이 곧 갱신 결과다
+        return jpaRepository.findAmountByUserId(userId);
+    }
+
+    @Override
+    public Optional<Long> decreaseAmountIfEnough(Long userId, long amount) {
+        if (jpaRepository.decreaseAmountIfEnough(userId, amount, LocalDateTime.now()) == 0) {
+            return Optional.empty();
+        }
+        return jpaRepository.findAmountByUserId(userId);
+    }
+
 }
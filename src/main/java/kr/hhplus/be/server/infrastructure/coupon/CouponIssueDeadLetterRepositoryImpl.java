@@ -0,0 +1,36 @@
+package kr.hhplus.be.server.infrastructure.coupon;
+
+import kr.hhplus.be.server.domain.coupon.CouponIssueDeadLetterRepository;
+import kr.hhplus.be.server.domain.coupon.ReservedCouponIssue;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+@Repository
+@RequiredArgsConstructor
+public class CouponIssueDeadLetterRepositoryImpl implements CouponIssueDeadLetterRepository {
+
+    private static final int MAX_REASON_LENGTH = 500;
+
+    private static final String UPSERT_SQL = "INSERT INTO coupon_issue_dead_letter"
+            + " (user_id, coupon_id, issued_at, reason, created_at) VALUES (?, ?, ?, ?, ?)"
+            + " ON DUPLICATE KEY UPDATE reason = VALUES(reason)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void save(ReservedCouponIssue issue, String reason) {
+        String truncated = reason == null || reason.length() <= MAX_REASON_LENGTH
+                ? reason
+                : reason.substring(0, MAX_REASON_LENGTH);
+        jdbcTemplate.update(UPSERT_SQL,
+                issue.userId(),
+                issue.couponId(),
+                Timestamp.valueOf(issue.issuedAt()),
+                truncated,
+                Timestamp.valueOf(LocalDateTime.now()));
+    }
+}
@@ -5,6 +5,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface CouponIssueJpaRepository extends JpaRepository<CouponIssue, Long> {
@@ -17,4 +18,7 @@ public interface CouponIssueJpaRepository extends JpaRepository<CouponIssue, Lon
     @Query("SELECT ci FROM CouponIssue ci JOIN FETCH ci.coupon WHERE ci.userId = :userId AND ci.coupon.id = :couponId")
     Optional<CouponIssue> findByUserIdAndCouponId(@Param("userId") Long userId, @Param("couponId") Long couponId);
 
+    @Query("SELECT ci.userId FROM CouponIssue ci WHERE ci.coupon.id = :couponId")
+    List<Long> findUserIdsByCouponId(@Param("couponId") Long couponId);
+
 }
@@ -5,6 +5,7 @@ import kr.hhplus.be.server.domain.coupon.CouponIssueRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -37,4 +38,9 @@ public class CouponIssueRepositoryImpl implements CouponIssueRepository {
     public long countByCouponCode(String code) {
         return jpaRepository.countByCouponCode(code);
     }
+
+    @Override
+    public List<Long> findUserIdsByCouponId(Long couponId) {
+        return jpaRepository.findUserIdsByCouponId(couponId);
+    }
 }
@@ -1,21 +1,253 @@
 package kr.hhplus.be.server.infrastructure.coupon;
 
-import kr.hhplus.be.server.domain.coupon.Coupon;
-import kr.hhplus.be.server.domain.coupon.CouponIssue;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import kr.hhplus.be.server.common.lock.AopForTransaction;
+import kr.hhplus.be.server.domain.coupon.CouponException;
+import kr.hhplus.be.server.domain.coupon.CouponIssueDeadLetterRepository;
 import kr.hhplus.be.server.domain.coupon.CouponIssueWriter;
+import kr.hhplus.be.server.domain.coupon.ReservedCouponIssue;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 쿠폰 발급 이력 쓰기 버퍼.
+ *
+ * <p>요청 스레드는 bounded 큐에 적재만 하고, 전용 flush 스레드가 BATCH_SIZE 만큼 차거나 LINGER 시간이 지나면
+ * 한 트랜잭션에서 쿠폰별로 다음을 수행한다.
+ * <ul>
+ *   <li>coupon_issue multi-row INSERT IGNORE (IDENTITY 전략이라 Hibernate batch insert 불가 → JDBC 직접 사용)</li>
+ *   <li>실제로 저장된 행 수만큼 remaining_quantity 차감</li>
+ * </ul>
+ * (user_id, coupon_id) UNIQUE 제약으로 재시도·재적재된 발급은 한 번만 저장되고 수량도 한 번만 차감된다.
+ *
+ * <p>큐가 가득 차면 OFFER_TIMEOUT 동안만 기다린 뒤 {@link CouponException.IssueBufferFullException}으로 거절한다. (back-pressure)
+ * 사용자에게는 이미 발급 성공을 응답했으므로 재시도까지 실패한 배치도 선점을 되돌리지 않는다.
+ * 발급별로 한 번씩 더 저장해 보고, 그래도 실패한 발급만 데드레터에 남긴다.
+ */
+@Slf4j
 @Repository
 public class CouponIssueWriterImpl implements CouponIssueWriter {
-    @Override
-    public boolean hasIssued(Long userId, Long couponId) {
-        // TODO: 사용자 중복 발급 여부 확인 로직 구현 예정
-        throw new UnsupportedOperationException("Not implemented yet");
+
+    private static final int QUEUE_CAPACITY = 10_000;
+    private static final int BATCH_SIZE = 500;
+    private static final long LINGER_MILLIS = 50;
+    private static final long OFFER_TIMEOUT_MILLIS = 100;
+    private static final int MAX_FLUSH_ATTEMPTS = 3;
+
+    private static final String INSERT_PREFIX = "INSERT IGNORE INTO coupon_issue (user_id, coupon_id, issued_at, is_used) VALUES ";
+    private static final String DECREASE_REMAINING_SQL = "UPDATE coupon SET remaining_quantity = remaining_quantity - ? WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final AopForTransaction aopForTransaction;
+    private final CouponIssueDeadLetterRepository deadLetterRepository;
+
+    private final BlockingQueue<ReservedCouponIssue> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+    private final Timer flushTimer;
+    private final DistributionSummary batchSizeSummary;
+    private final Counter rejectedCounter;
+    private final Counter duplicateCounter;
+    private final Counter deadLetterCounter;
+
+    private volatile boolean running = true;
+    private Thread flushThread;
+
+    public CouponIssueWriterImpl(JdbcTemplate jdbcTemplate,
+                                 AopForTransaction aopForTransaction,
+                                 CouponIssueDeadLetterRepository deadLetterRepository,
+                                 MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.aopForTransaction = aopForTransaction;
+        this.deadLetterRepository = deadLetterRepository;
+
+        meterRegistry.gauge("coupon.issue.writer.queue.size", queue, BlockingQueue::size);
+        this.flushTimer = Timer.builder("coupon.issue.writer.flush")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        this.batchSizeSummary = DistributionSummary.builder("coupon.issue.writer.batch.size")
+                .register(meterRegistry);
+        this.rejectedCounter = meterRegistry.counter("coupon.issue.writer.rejected");
+        this.duplicateCounter = meterRegistry.counter("coupon.issue.writer.duplicate");
+        this.deadLetterCounter = meterRegistry.counter("coupon.issue.writer.dead_letter");
+    }
+
+    @PostConstruct
+    public void start() {
+        flushThread = new Thread(this::runFlushLoop, "coupon-issue-writer");
+        flushThread.setDaemon(true);
+        flushThread.start();
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        if (flushThread != null) {
+            flushThread.interrupt();
+            flushThread.join(TimeUnit.SECONDS.toMillis(5));
+        }
+
+        // 종료 전 남은 이력 저장
+        List<ReservedCouponIssue> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        for (int from = 0; from < remaining.size(); from += BATCH_SIZE) {
+            flush(remaining.subList(from, Math.min(from + BATCH_SIZE, remaining.size())));
+        }
     }
 
     @Override
-    public CouponIssue save(CouponIssue issue) {
-        return null;
+    public void write(ReservedCouponIssue issue) {
+        if (running) {
+            try {
+                if (queue.offer(issue, OFFER_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+                    // stop()의 drain 이후에 들어간 건은 저장되지 않으므로 되찾아 거절한다
+                    if (running || !queue.remove(issue)) {
+                        return;
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        rejectedCounter.increment();
+        throw new CouponException.IssueBufferFullException();
+    }
+
+    private void runFlushLoop() {
+        while (running) {
+            try {
+                List<ReservedCouponIssue> batch = nextBatch();
+                if (!batch.isEmpty()) {
+                    flush(batch);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.error("[쿠폰 발급 이력 저장] flush 루프 예외", e);
+            }
+        }
+    }
+
+    /**
+     * 첫 건이 들어온 시점부터 LINGER 동안, 또는 BATCH_SIZE가 찰 때까지 모은다.
+     */
+    private List<ReservedCouponIssue> nextBatch() throws InterruptedException {
+        List<ReservedCouponIssue> batch = new ArrayList<>(BATCH_SIZE);
+        ReservedCouponIssue first = queue.poll(LINGER_MILLIS, TimeUnit.MILLISECONDS);
+        if (first == null) {
+            return batch;
+        }
+        batch.add(first);
+
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(LINGER_MILLIS);
+        while (batch.size() < BATCH_SIZE) {
+            queue.drainTo(batch, BATCH_SIZE - batch.size());
+            long remainingNanos = deadline - System.nanoTime();
+            if (batch.size() >= BATCH_SIZE || remainingNanos <= 0) {
+                break;
+            }
+            ReservedCouponIssue next;
+            try {
+                next = queue.poll(remainingNanos, TimeUnit.NANOSECONDS);
+            } catch (InterruptedException e) {
+                // 종료 중 인터럽트: 이미 꺼낸 건은 버리지 않고 이번 배치로 처리한다
+                Thread.currentThread().interrupt();
+                break;
+            }
+            if (next == null) {
+                break;
+            }
+            batch.add(next);
+        }
+        return batch;
     }
 
+    private void flush(List<ReservedCouponIssue> batch) {
+        for (int attempt = 1; attempt <= MAX_FLUSH_ATTEMPTS; attempt++) {
+            try {
+                persist(batch);
+                return;
+            } catch (Exception e) {
+                log.warn("[쿠폰 발급 이력 저장 실패] {}건, attempt={}", batch.size(), attempt, e);
+            }
+        }
+
+        // 한 발급 때문에 배치 전체가 데드레터로 가지 않도록 발급별로 한 번 더 시도한다
+        for (ReservedCouponIssue issue : batch) {
+            try {
+                persist(List.of(issue));
+            } catch (Exception e) {
+                deadLetter(issue, e);
+            }
+        }
+    }
+
+    private void persist(List<ReservedCouponIssue> batch) {
+        Timer.Sample sample = Timer.start();
+        int inserted = aopForTransaction.run(() -> {
+            int total = 0;
+            for (Map.Entry<Long, List<ReservedCouponIssue>> entry : groupByCoupon(batch).entrySet()) {
+                int rows = insertIgnoringDuplicates(entry.getValue());
+                if (rows > 0) {
+                    jdbcTemplate.update(DECREASE_REMAINING_SQL, rows, entry.getKey());
+                }
+                total += rows;
+            }
+            return total;
+        });
+        sample.stop(flushTimer);
+
+        batchSizeSummary.record(batch.size());
+        duplicateCounter.increment(batch.size() - inserted);
+        log.debug("[쿠폰 발급 이력 저장] {}건 중 {}건 저장", batch.size(), inserted);
+    }
+
+    private void deadLetter(ReservedCouponIssue issue, Exception cause) {
+        log.error("[쿠폰 발급 이력 저장 최종 실패] 데드레터 기록: couponId={}, userId={}",
+                issue.couponId(), issue.userId(), cause);
+        deadLetterCounter.increment();
+        try {
+            deadLetterRepository.save(issue, String.valueOf(cause));
+        } catch (Exception e) {
+            log.error("[쿠폰 발급 데드레터 기록 실패] couponId={}, userId={}, issuedAt={}",
+                    issue.couponId(), issue.userId(), issue.issuedAt(), e);
+        }
+    }
+
+    private Map<Long, List<ReservedCouponIssue>> groupByCoupon(List<ReservedCouponIssue> batch) {
+        return batch.stream()
+                .collect(Collectors.groupingBy(ReservedCouponIssue::couponId, LinkedHashMap::new, Collectors.toList()));
+    }
+
+    /**
+     * @return 실제로 저장된 행 수 (이미 발급된 (user_id, coupon_id)는 무시되어 세지 않는다)
+     */
+    private int insertIgnoringDuplicates(List<ReservedCouponIssue> issues) {
+        StringBuilder sql = new StringBuilder(INSERT_PREFIX);
+        List<Object> params = new ArrayList<>(issues.size() * 4);
+        for (int i = 0; i < issues.size(); i++) {
+            ReservedCouponIssue issue = issues.get(i);
+            sql.append(i == 0 ? "(?, ?, ?, ?)" : ", (?, ?, ?, ?)");
+            params.add(issue.userId());
+            params.add(issue.couponId());
+            params.add(Timestamp.valueOf(issue.issuedAt()));
+            params.add(false);
+        }
+        return jdbcTemplate.update(sql.toString(), params.toArray());
+    }
 }
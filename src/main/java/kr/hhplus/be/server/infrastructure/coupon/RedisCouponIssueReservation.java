@@ -0,0 +1,113 @@
+package kr.hhplus.be.server.infrastructure.coupon;
+
+import kr.hhplus.be.server.domain.coupon.CouponIssueReservation;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Lua 스크립트 기반 선착순 쿠폰 선점.
+ *
+ * <p>쿠폰마다 잔여 수량 카운터({@code coupon:{id}:remaining})와 발급 사용자 Set({@code coupon:{id}:issued})을 두고,
+ * 중복 체크 → 수량 확인 → 차감 → 사용자 등록을 하나의 스크립트로 실행한다.
+ * Redis 단일 스레드 실행이 원자성을 보장하므로 쿠폰 코드 단위 분산락이 필요 없다.
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class RedisCouponIssueReservation implements CouponIssueReservation {
+
+    private static final long RESERVED = 0L;
+    private static final long ALREADY_ISSUED = 1L;
+    private static final long EXHAUSTED = 2L;
+
+    private static final RedisScript<Long> RESERVE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+                return -1
+            end
+            if redis.call('SISMEMBER', KEYS[2], ARGV[1]) == 1 then
+                return 1
+            end
+            if tonumber(redis.call('GET', KEYS[1])) <= 0 then
+                return 2
+            end
+            redis.call('DECR', KEYS[1])
+            redis.call('SADD', KEYS[2], ARGV[1])
+            if redis.call('TTL', KEYS[2]) < 0 then
+                redis.call('EXPIRE', KEYS[2], redis.call('TTL', KEYS[1]))
+            end
+            return 0
+            """, Long.class);
+
+    private static final RedisScript<Long> INITIALIZE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('SET', KEYS[1], ARGV[2], 'NX', 'EX', ARGV[1]) then
+                for i = 3, #ARGV do
+                    redis.call('SADD', KEYS[2], ARGV[i])
+                end
+                if #ARGV >= 3 then
+                    redis.call('EXPIRE', KEYS[2], ARGV[1])
+                end
+                return 1
+            end
+            return 0
+            """, Long.class);
+
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('SREM', KEYS[2], ARGV[1]) == 1 then
+                redis.call('INCR', KEYS[1])
+                return 1
+            end
+            return 0
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    @Override
+    public Result reserve(Long couponId, Long userId) {
+        Long code = redisTemplate.execute(RESERVE_SCRIPT, keys(couponId), String.valueOf(userId));
+        if (code == null || code < 0) {
+            return Result.NOT_INITIALIZED;
+        }
+        if (code == RESERVED) {
+            return Result.RESERVED;
+        }
+        if (code == ALREADY_ISSUED) {
+            return Result.ALREADY_ISSUED;
+        }
+        if (code == EXHAUSTED) {
+            return Result.EXHAUSTED;
+        }
+        throw new IllegalStateException("알 수 없는 쿠폰 선점 결과: " + code);
+    }
+
+    @Override
+    public void initialize(Long couponId, int remainingQuantity, Collection<Long> issuedUserIds, Duration ttl) {
+        List<String> args = new ArrayList<>(issuedUserIds.size() + 2);
+        args.add(String.valueOf(Math.max(ttl.toSeconds(), 1L)));
+        args.add(String.valueOf(remainingQuantity));
+        issuedUserIds.forEach(userId -> args.add(String.valueOf(userId)));
+
+        Long initialized = redisTemplate.execute(INITIALIZE_SCRIPT, keys(couponId), args.toArray());
+        log.info("[쿠폰 선점 초기화] couponId={}, remaining={}, issued={}, initialized={}",
+                couponId, remainingQuantity, issuedUserIds.size(), initialized);
+    }
+
+    @Override
+    public void release(Long couponId, Long userId) {
+        redisTemplate.execute(RELEASE_SCRIPT, keys(couponId), String.valueOf(userId));
+    }
+
+    private List<String> keys(Long couponId) {
+        // 해시 태그로 두 키를 같은 슬롯에 배치 (Redis Cluster 대응)
+        String tag = "coupon:{" + couponId + "}";
+        return List.of(tag + ":remaining", tag + ":issued");
+    }
+}
@@ -2,6 +2,28 @@ package kr.hhplus.be.server.infrastructure.external;
 
 import kr.hhplus.be.server.domain.orderexport.OrderExportPayload;
 
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
 public interface ExternalPlatformClient {
     void sendOrder(OrderExportPayload payload);
+
+    /**
+     * 여러 주문을 한 번의 호출로 전송한다. 일부만 실패하면 실패한 주문 id를 결과에 담는다.
+     * 호출 자체가 실패하면 예외를 던진다.
+     *
+     * <p>기본 구현은 일괄 API가 없는 플랫폼을 위해 건별 전송으로 대신한다.
+     */
+    default OrderExportBatchResult sendOrders(List<OrderExportPayload> payloads) {
+        Set<String> failed = new HashSet<>();
+        for (OrderExportPayload payload : payloads) {
+            try {
+                sendOrder(payload);
+            } catch (RuntimeException e) {
+                failed.add(payload.getOrderId());
+            }
+        }
+        return new OrderExportBatchResult(failed);
+    }
 }
@@ -2,13 +2,67 @@ package kr.hhplus.be.server.infrastructure.external;
 
 import kr.hhplus.be.server.domain.orderexport.OrderExportPayload;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 외부 플랫폼 대역.
+ *
+ * <p>호출당 고정 지연(base-latency-ms)과 주문당 추가 지연(per-item-latency-ms), 주문 단위 실패 확률(failure-rate)을
+ * 설정으로 흉내 내어 로컬에서 건별 전송과 일괄 전송의 차이를 측정할 수 있게 한다. 기본값은 모두 0이다.
+ */
 @Slf4j
 @Component
 public class FakeExternalPlatformClient implements ExternalPlatformClient {
+
+    private final long baseLatencyMillis;
+    private final long perItemLatencyMillis;
+    private final double failureRate;
+
+    public FakeExternalPlatformClient(@Value("${external.fake.base-latency-ms:0}") long baseLatencyMillis,
+                                      @Value("${external.fake.per-item-latency-ms:0}") long perItemLatencyMillis,
+                                      @Value("${external.fake.failure-rate:0.0}") double failureRate) {
+        this.baseLatencyMillis = baseLatencyMillis;
+        this.perItemLatencyMillis = perItemLatencyMillis;
+        this.failureRate = failureRate;
+    }
+
     @Override
     public void sendOrder(OrderExportPayload payload) {
-        log.info("[FAKE] 외부 플랫폼으로 주문 전송됨: {}", payload);
+        OrderExportBatchResult result = sendOrders(List.of(payload));
+        if (!result.isSucceeded(payload.getOrderId())) {
+            throw new IllegalStateException("[FAKE] 외부 플랫폼 전송 실패: " + payload.getOrderId());
+        }
+    }
+
+    @Override
+    public OrderExportBatchResult sendOrders(List<OrderExportPayload> payloads) {
+        simulateLatency(baseLatencyMillis + perItemLatencyMillis * payloads.size());
+
+        Set<String> failed = new HashSet<>();
+        for (OrderExportPayload payload : payloads) {
+            if (failureRate > 0 && ThreadLocalRandom.current().nextDouble() < failureRate) {
+                failed.add(payload.getOrderId());
+            }
+        }
+        log.info("[FAKE] 외부 플랫폼으로 주문 {}건 전송됨 (실패 {}건)", payloads.size(), failed.size());
+        return new OrderExportBatchResult(failed);
+    }
+
+    private void simulateLatency(long millis) {
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("[FAKE] 전송 중 인터럽트", e);
+        }
     }
 }
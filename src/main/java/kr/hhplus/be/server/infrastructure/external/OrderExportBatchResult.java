@@ -0,0 +1,18 @@
+package kr.hhplus.be.server.infrastructure.external;
+
+import java.util.Collections;
+import java.util.Set;
+
+/**
+ * 일괄 전송 결과. 실패한 주문만 담고, 나머지는 모두 성공으로 본다.
+ */
+public record OrderExportBatchResult(Set<String> failedOrderIds) {
+
+    public static OrderExportBatchResult allSucceeded() {
+        return new OrderExportBatchResult(Collections.emptySet());
+    }
+
+    public boolean isSucceeded(String orderId) {
+        return !failedOrderIds.contains(orderId);
+    }
+}
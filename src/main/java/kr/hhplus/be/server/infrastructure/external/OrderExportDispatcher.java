@@ -0,0 +1,192 @@
+package kr.hhplus.be.server.infrastructure.external;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import kr.hhplus.be.server.domain.orderexport.OrderExportPayload;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 외부 플랫폼 주문 전송 micro-batching.
+ *
+ * <p>호출자는 bounded 큐에 적재하고 future를 받는다. sender 스레드가 batch-size만큼 차거나
+ * 첫 건 이후 linger 시간이 지나면 모은 주문을 {@link ExternalPlatformClient#sendOrders}로 한 번에 보낸다.
+ * 결과는 주문별로 future에 반영하므로 일부 실패가 같은 배치의 다른 주문에 영향을 주지 않는다.
+ *
+ * <p>sender 스레드를 여러 개 두어 한 배치의 네트워크 대기 중에도 다음 배치를 보낼 수 있다.
+ * 큐가 가득 차면 OFFER_TIMEOUT 동안만 기다린 뒤 실패한 future를 돌려준다. (back-pressure)
+ */
+@Slf4j
+@Component
+public class OrderExportDispatcher {
+
+    private static final int QUEUE_CAPACITY = 10_000;
+    private static final long OFFER_TIMEOUT_MILLIS = 100;
+
+    private final ExternalPlatformClient platformClient;
+    private final int batchSize;
+    private final long lingerMillis;
+    private final int senderCount;
+
+    private final BlockingQueue<PendingExport> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+    private final Timer sendTimer;
+    private final DistributionSummary batchSizeSummary;
+    private final Counter rejectedCounter;
+    private final Counter failedCounter;
+
+    private volatile boolean running = true;
+    private final List<Thread> senders = new ArrayList<>();
+
+    public OrderExportDispatcher(ExternalPlatformClient platformClient,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${external.export.batch-size:50}") int batchSize,
+                                 @Value("${external.export.linger-ms:20}") long lingerMillis,
+                                 @Value("${external.export.senders:2}") int senderCount) {
+        this.platformClient = platformClient;
+        this.batchSize = batchSize;
+        this.lingerMillis = lingerMillis;
+        this.senderCount = senderCount;
+
+        meterRegistry.gauge("external.export.queue.size", queue, BlockingQueue::size);
+        this.sendTimer = Timer.builder("external.export.send")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        this.batchSizeSummary = DistributionSummary.builder("external.export.batch.size")
+                .register(meterRegistry);
+        this.rejectedCounter = meterRegistry.counter("external.export.rejected");
+        this.failedCounter = meterRegistry.counter("external.export.failed");
+    }
+
+    @PostConstruct
+    public void start() {
+        for (int i = 0; i < senderCount; i++) {
+            Thread sender = new Thread(this::runSendLoop, "order-export-sender-" + i);
+            sender.setDaemon(true);
+            sender.start();
+            senders.add(sender);
+        }
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        for (Thread sender : senders) {
+            sender.interrupt();
+            sender.join(TimeUnit.SECONDS.toMillis(5));
+        }
+
+        // 종료 전 남은 주문 전송
+        List<PendingExport> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        for (int from = 0; from < remaining.size(); from += batchSize) {
+            send(remaining.subList(from, Math.min(from + batchSize, remaining.size())));
+        }
+    }
+
+    public CompletableFuture<Void> submit(OrderExportPayload payload) {
+        PendingExport pending = new PendingExport(payload);
+        try {
+            if (queue.offer(pending, OFFER_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+                return pending.result();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        rejectedCounter.increment();
+        return CompletableFuture.failedFuture(
+                new IllegalStateException("외부 전송 큐 포화: orderId=" + payload.getOrderId()));
+    }
+
+    private void runSendLoop() {
+        while (running) {
+            try {
+                List<PendingExport> batch = nextBatch();
+                if (!batch.isEmpty()) {
+                    send(batch);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.error("[외부 주문 전송] send 루프 예외", e);
+            }
+        }
+    }
+
+    /**
+     * 첫 건이 들어온 시점부터 linger 동안, 또는 batch-size가 찰 때까지 모은다.
+     */
+    private List<PendingExport> nextBatch() throws InterruptedException {
+        List<PendingExport> batch = new ArrayList<>(batchSize);
+        PendingExport first = queue.poll(lingerMillis, TimeUnit.MILLISECONDS);
+        if (first == null) {
+            return batch;
+        }
+        batch.add(first);
+
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(lingerMillis);
+        while (batch.size() < batchSize) {
+            queue.drainTo(batch, batchSize - batch.size());
+            long remainingNanos = deadline - System.nanoTime();
+            if (batch.size() >= batchSize || remainingNanos <= 0) {
+                break;
+            }
+            PendingExport next;
+            try {
+                next = queue.poll(remainingNanos, TimeUnit.NANOSECONDS);
+            } catch (InterruptedException e) {
+                // 종료 중 인터럽트: 이미 꺼낸 건은 버리지 않고 이번 배치로 전송해 future를 완료시킨다
+                Thread.currentThread().interrupt();
+                break;
+            }
+            if (next == null) {
+                break;
+            }
+            batch.add(next);
+        }
+        return batch;
+    }
+
+    private void send(List<PendingExport> batch) {
+        List<OrderExportPayload> payloads = batch.stream().map(PendingExport::payload).toList();
+        OrderExportBatchResult result;
+        try {
+            result = sendTimer.recordCallable(() -> platformClient.sendOrders(payloads));
+        } catch (Exception e) {
+            log.warn("[외부 주문 전송 실패] 배치 {}건 전체 실패", batch.size(), e);
+            failedCounter.increment(batch.size());
+            batch.forEach(pending -> pending.result().completeExceptionally(e));
+            return;
+        }
+        batchSizeSummary.record(batch.size());
+
+        for (PendingExport pending : batch) {
+            String orderId = pending.payload().getOrderId();
+            if (result.isSucceeded(orderId)) {
+                pending.result().complete(null);
+            } else {
+                failedCounter.increment();
+                pending.result().completeExceptionally(
+                        new IllegalStateException("외부 플랫폼 전송 실패: orderId=" + orderId));
+            }
+        }
+    }
+
+    private record PendingExport(OrderExportPayload payload, CompletableFuture<Void> result) {
+        private PendingExport(OrderExportPayload payload) {
+            this(payload, new CompletableFuture<>());
+        }
+    }
+}
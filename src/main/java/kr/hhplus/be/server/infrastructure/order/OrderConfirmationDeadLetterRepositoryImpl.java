@@ -0,0 +1,30 @@
+package kr.hhplus.be.server.infrastructure.order;
+
+import kr.hhplus.be.server.domain.order.OrderConfirmationDeadLetterRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+@Repository
+@RequiredArgsConstructor
+public class OrderConfirmationDeadLetterRepositoryImpl implements OrderConfirmationDeadLetterRepository {
+
+    private static final int MAX_REASON_LENGTH = 500;
+
+    private static final String UPSERT_SQL = "INSERT INTO order_confirmation_dead_letter"
+            + " (order_id, attempts, reason, created_at) VALUES (?, ?, ?, ?)"
+            + " ON DUPLICATE KEY UPDATE attempts = attempts + VALUES(attempts), reason = VALUES(reason)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void save(String orderId, int attempts, String reason) {
+        String truncated = reason == null || reason.length() <= MAX_REASON_LENGTH
+                ? reason
+                : reason.substring(0, MAX_REASON_LENGTH);
+        jdbcTemplate.update(UPSERT_SQL, orderId, attempts, truncated, Timestamp.valueOf(LocalDateTime.now()));
+    }
+}
@@ -1,33 +1,167 @@
 package kr.hhplus.be.server.infrastructure.order;
 
+import kr.hhplus.be.server.domain.outbox.EventStatus;
 import kr.hhplus.be.server.domain.outbox.OrderEvent;
 import kr.hhplus.be.server.domain.outbox.OrderEventRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
 import org.springframework.stereotype.Repository;
 
+import java.nio.ByteBuffer;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 
+/**
+ * order_event(outbox) JDBC 저장소.
+ *
+ * <p>선점은 {@code SELECT ... FOR UPDATE SKIP LOCKED}로 다른 relay가 잡은 행을 건너뛰고,
+ * lease 만료 PROCESSING과 PENDING을 각각 (status, 정렬 컬럼) 인덱스를 타는 쿼리로 나눠 조회한다.
+ * 상태 변경은 id 목록 단위 UPDATE 한 번으로 처리한다.
+ * id는 BINARY(16)에 UUID 상위/하위 64비트를 순서대로 저장한다. ({@code UUID_TO_BIN(uuid)}와 동일)
+ */
 @Repository
+@RequiredArgsConstructor
 public class OrderEventRepositoryImpl implements OrderEventRepository {
+
+    private static final String COLUMNS =
+            "id, aggregate_type, event_type, payload, status, retry_count, created_at, updated_at";
+
+    private static final String INSERT_SQL =
+            "INSERT INTO order_event (" + COLUMNS + ") VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    // 두 선점 쿼리 모두 등치 조건 + 정렬 컬럼이 인덱스 순서와 같아 COMPLETED 행을 훑거나 잠그지 않는다
+    private static final String CLAIM_EXPIRED_SQL = "SELECT " + COLUMNS + " FROM order_event"
+            + " WHERE status = 'PROCESSING' AND updated_at < ?"
+            + " ORDER BY updated_at LIMIT ? FOR UPDATE SKIP LOCKED"; // idx_order_event_status_updated
+
+    private static final String CLAIM_PENDING_SQL = "SELECT " + COLUMNS + " FROM order_event"
+            + " WHERE status = 'PENDING'"
+            + " ORDER BY created_at LIMIT ? FOR UPDATE SKIP LOCKED"; // idx_order_event_status_created
+
+    private static final String DELETE_COMPLETED_SQL = "DELETE FROM order_event"
+            + " WHERE status = 'COMPLETED' AND updated_at < ? LIMIT ?"; // idx_order_event_status_updated
+
+    private static final RowMapper<OrderEvent> ROW_MAPPER = (rs, rowNum) -> OrderEvent.restore(
+            toUuid(rs.getBytes("id")),
+            rs.getString("aggregate_type"),
+            rs.getString("event_type"),
+            rs.getBytes("payload"),
+            EventStatus.valueOf(rs.getString("status")),
+            rs.getInt("retry_count"),
+            rs.getTimestamp("created_at").toLocalDateTime(),
+            Optional.ofNullable(rs.getTimestamp("updated_at")).map(Timestamp::toLocalDateTime).orElse(null)
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
     @Override
     public void save(OrderEvent event) {
+        jdbcTemplate.update(INSERT_SQL, insertParams(event));
+    }
 
+    @Override
+    public void saveAll(List<OrderEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, events.stream().map(OrderEventRepositoryImpl::insertParams).toList());
     }
 
     @Override
     public Optional<OrderEvent> findById(UUID id) {
-        return Optional.empty();
+        return jdbcTemplate.query("SELECT " + COLUMNS + " FROM order_event WHERE id = ?", ROW_MAPPER, toBytes(id))
+                .stream()
+                .findFirst();
+    }
+
+    @Override
+    public List<OrderEvent> claimPending(int limit, Duration lease) {
+        LocalDateTime now = LocalDateTime.now();
+        List<OrderEvent> claimed = new ArrayList<>(jdbcTemplate.query(CLAIM_EXPIRED_SQL, ROW_MAPPER,
+                Timestamp.valueOf(now.minus(lease)), limit));
+        if (claimed.size() < limit) {
+            claimed.addAll(jdbcTemplate.query(CLAIM_PENDING_SQL, ROW_MAPPER, limit - claimed.size()));
+        }
+        if (claimed.isEmpty()) {
+            return claimed;
+        }
+
+        List<UUID> ids = claimed.stream().map(OrderEvent::getId).toList();
+        List<Object> params = new ArrayList<>(ids.size() + 1);
+        params.add(Timestamp.valueOf(now));
+        ids.forEach(id -> params.add(toBytes(id)));
+        jdbcTemplate.update("UPDATE order_event SET status = 'PROCESSING', updated_at = ? WHERE id IN ("
+                + placeholders(ids.size()) + ")", params.toArray());
+        return claimed;
+    }
+
+    @Override
+    public int deleteCompletedBefore(LocalDateTime before, int limit) {
+        return jdbcTemplate.update(DELETE_COMPLETED_SQL, Timestamp.valueOf(before), limit);
     }
 
     @Override
-    public List<OrderEvent> findPendingEvents() {
-        return List.of();
+    public void markCompleted(Collection<UUID> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        List<Object> params = new ArrayList<>(ids.size() + 1);
+        params.add(Timestamp.valueOf(LocalDateTime.now()));
+        ids.forEach(id -> params.add(toBytes(id)));
+        jdbcTemplate.update("UPDATE order_event SET status = 'COMPLETED', updated_at = ? WHERE id IN ("
+                + placeholders(ids.size()) + ")", params.toArray());
     }
 
     @Override
-    public void markAsSent(UUID id) {
+    public void markFailed(Collection<UUID> ids, int maxRetries) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        List<Object> params = new ArrayList<>(ids.size() + 2);
+        params.add(maxRetries);
+        params.add(Timestamp.valueOf(LocalDateTime.now()));
+        ids.forEach(id -> params.add(toBytes(id)));
+        jdbcTemplate.update("UPDATE order_event"
+                + " SET status = CASE WHEN retry_count + 1 >= ? THEN 'FAILED' ELSE 'PENDING' END,"
+                + " retry_count = retry_count + 1, updated_at = ?"
+                + " WHERE id IN (" + placeholders(ids.size()) + ")", params.toArray());
+    }
+
+    private static Object[] insertParams(OrderEvent event) {
+        return new Object[]{
+                toBytes(event.getId()),
+                event.getAggregateType(),
+                event.getEventType(),
+                event.getPayload(),
+                event.getStatus().name(),
+                event.getRetryCount(),
+                Timestamp.valueOf(event.getCreatedAt()),
+                event.getUpdatedAt() == null ? null : Timestamp.valueOf(event.getUpdatedAt())
+        };
+    }
+
+    private static String placeholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+
+    private static byte[] toBytes(UUID id) {
+        return ByteBuffer.allocate(16)
+                .putLong(id.getMostSignificantBits())
+                .putLong(id.getLeastSignificantBits())
+                .array();
+    }
 
+    private static UUID toUuid(byte[] bytes) {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        return new UUID(buffer.getLong(), buffer.getLong());
     }
 }
@@ -4,9 +4,13 @@ import jakarta.persistence.LockModeType;
 import kr.hhplus.be.server.domain.order.Order;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface OrderJpaRepository extends JpaRepository<Order, String> {
@@ -18,4 +22,21 @@ public interface OrderJpaRepository extends JpaRepository<Order, String> {
     @Query("SELECT o FROM Order o JOIN FETCH o.items WHERE o.id = :orderId")
     Optional<Order> findByIdWithItems(@Param("orderId") String orderId);
 
+    @Query(value = "SELECT id FROM orders WHERE id IN (:ids) AND status = 'CREATED' FOR UPDATE", nativeQuery = true)
+    List<String> lockConfirmableIds(@Param("ids") Collection<String> ids);
+
+    @Modifying(clearAutomatically = true)
+    @Query(value = "UPDATE orders SET status = 'CONFIRMED' WHERE id IN (:ids) AND status = 'CREATED'", nativeQuery = true)
+    int confirmAll(@Param("ids") Collection<String> ids);
+
+    @Query("SELECT DISTINCT o FROM Order o JOIN FETCH o.items WHERE o.id IN :ids")
+    List<Order> findAllWithItems(@Param("ids") Collection<String> ids);
+
+    @Query(value = "SELECT o.id FROM orders o"
+            + " JOIN payment p ON p.order_id = o.id AND p.status = 'SUCCESS'"
+            + " WHERE o.status = 'CREATED' AND p.created_at < :paidBefore"
+            + " AND NOT EXISTS (SELECT 1 FROM order_confirmation_dead_letter d WHERE d.order_id = o.id)"
+            + " ORDER BY p.created_at LIMIT :limit", nativeQuery = true)
+    List<String> findPaidButUnconfirmedIds(@Param("paidBefore") LocalDateTime paidBefore, @Param("limit") int limit);
+
 }
@@ -5,7 +5,9 @@ import kr.hhplus.be.server.domain.order.OrderRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -43,4 +45,24 @@ public class OrderRepositoryImpl implements OrderRepository {
     public Optional<Order> findByIdWithItems(String orderId) {
         return jpaRepository.findByIdWithItems(orderId);
     }
+
+    @Override
+    public List<String> lockConfirmableIds(Collection<String> orderIds) {
+        return orderIds.isEmpty() ? List.of() : jpaRepository.lockConfirmableIds(orderIds);
+    }
+
+    @Override
+    public int confirmAll(Collection<String> orderIds) {
+        return orderIds.isEmpty() ? 0 : jpaRepository.confirmAll(orderIds);
+    }
+
+    @Override
+    public List<Order> findAllWithItems(Collection<String> orderIds) {
+        return orderIds.isEmpty() ? List.of() : jpaRepository.findAllWithItems(orderIds);
+    }
+
+    @Override
+    public List<String> findPaidButUnconfirmedIds(LocalDateTime paidBefore, int limit) {
+        return jpaRepository.findPaidButUnconfirmedIds(paidBefore, limit);
+    }
 }
@@ -1,6 +1,7 @@
 package kr.hhplus.be.server.infrastructure.payment;
 
 import kr.hhplus.be.server.domain.payment.Payment;
+import kr.hhplus.be.server.domain.payment.PaymentStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 import java.util.Optional;
@@ -8,4 +9,6 @@ import java.util.Optional;
 public interface PaymentJpaRepository extends JpaRepository<Payment, String> {
     Optional<Payment> findByOrderId(String orderId);
 
+    boolean existsByOrderIdAndStatus(String orderId, PaymentStatus status);
+
 }
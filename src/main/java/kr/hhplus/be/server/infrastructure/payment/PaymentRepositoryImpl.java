@@ -2,6 +2,7 @@ package kr.hhplus.be.server.infrastructure.payment;
 
 import kr.hhplus.be.server.domain.payment.Payment;
 import kr.hhplus.be.server.domain.payment.PaymentRepository;
+import kr.hhplus.be.server.domain.payment.PaymentStatus;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
@@ -27,4 +28,9 @@ public class PaymentRepositoryImpl implements PaymentRepository {
     public Optional<Payment> findByOrderId(String orderId) {
         return jpaRepository.findByOrderId(orderId);
     }
+
+    @Override
+    public boolean existsByOrderIdAndStatus(String orderId, PaymentStatus status) {
+        return jpaRepository.existsByOrderIdAndStatus(orderId, status);
+    }
 }
@@ -1,7 +1,49 @@
 package kr.hhplus.be.server.infrastructure.product;
 
 import kr.hhplus.be.server.domain.product.Product;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
 
 public interface ProductJpaRepository extends JpaRepository<Product, Long> {
+
+    // Slice 반환: size + 1건을 조회해 hasNext만 판단하고 COUNT 쿼리는 실행하지 않는다
+    Slice<Product> findSliceBy(Pageable pageable);
+
+    // 커서 기반 조회: (정렬 키, id) 복합 인덱스를 따라 읽고 Pageable은 LIMIT 용도로만 사용한다
+
+    @Query("SELECT p FROM Product p ORDER BY p.createdAt DESC, p.id DESC")
+    List<Product> findFirstByCreatedAtDesc(Pageable limit);
+
+    @Query("""
+            SELECT p FROM Product p
+             WHERE p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.id < :id)
+             ORDER BY p.createdAt DESC, p.id DESC
+            """)
+    List<Product> findNextByCreatedAtDesc(@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Pageable limit);
+
+    @Query("SELECT p FROM Product p ORDER BY p.price ASC, p.id ASC")
+    List<Product> findFirstByPriceAsc(Pageable limit);
+
+    @Query("""
+            SELECT p FROM Product p
+             WHERE p.price > :price OR (p.price = :price AND p.id > :id)
+             ORDER BY p.price ASC, p.id ASC
+            """)
+    List<Product> findNextByPriceAsc(@Param("price") Long price, @Param("id") Long id, Pageable limit);
+
+    @Query("SELECT p FROM Product p ORDER BY p.price DESC, p.id DESC")
+    List<Product> findFirstByPriceDesc(Pageable limit);
+
+    @Query("""
+            SELECT p FROM Product p
+             WHERE p.price < :price OR (p.price = :price AND p.id < :id)
+             ORDER BY p.price DESC, p.id DESC
+            """)
+    List<Product> findNextByPriceDesc(@Param("price") Long price, @Param("id") Long id, Pageable limit);
 }
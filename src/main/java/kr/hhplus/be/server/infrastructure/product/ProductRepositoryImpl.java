@@ -1,10 +1,14 @@
 package kr.hhplus.be.server.infrastructure.product;
 
 import kr.hhplus.be.server.domain.product.Product;
+import kr.hhplus.be.server.domain.product.ProductCursor;
 import kr.hhplus.be.server.domain.product.ProductRepository;
+import kr.hhplus.be.server.domain.product.ProductSortType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -21,6 +25,16 @@ public class ProductRepositoryImpl implements ProductRepository {
         return jpaRepository.findAll(pageable);
     }
 
+    @Override
+    public Slice<Product> findSlice(Pageable pageable) {
+        return jpaRepository.findSliceBy(pageable);
+    }
+
+    @Override
+    public long count() {
+        return jpaRepository.count();
+    }
+
     @Override
     public Product save(Product domain) {
         return jpaRepository.save(domain);
@@ -35,4 +49,21 @@ public class ProductRepositoryImpl implements ProductRepository {
     public List<Product> findAllById(List<Long> productIds) {
         return jpaRepository.findAllById(productIds);
     }
+
+    @Override
+    public List<Product> findAllByCursor(ProductSortType sortType, ProductCursor cursor, int limit) {
+        PageRequest page = PageRequest.of(0, limit);
+        if (cursor == null) {
+            return switch (sortType) {
+                case CREATED_AT_DESC -> jpaRepository.findFirstByCreatedAtDesc(page);
+                case PRICE_ASC -> jpaRepository.findFirstByPriceAsc(page);
+                case PRICE_DESC -> jpaRepository.findFirstByPriceDesc(page);
+            };
+        }
+        return switch (sortType) {
+            case CREATED_AT_DESC -> jpaRepository.findNextByCreatedAtDesc(cursor.createdAt(), cursor.id(), page);
+            case PRICE_ASC -> jpaRepository.findNextByPriceAsc(cursor.price(), cursor.id(), page);
+            case PRICE_DESC -> jpaRepository.findNextByPriceDesc(cursor.price(), cursor.id(), page);
+        };
+    }
 }
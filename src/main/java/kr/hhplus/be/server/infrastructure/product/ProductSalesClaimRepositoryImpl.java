@@ -0,0 +1,36 @@
+package kr.hhplus.be.server.infrastructure.product;
+
+import kr.hhplus.be.server.domain.productstatistics.ProductSalesClaimRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+@Repository
+@RequiredArgsConstructor
+public class ProductSalesClaimRepositoryImpl implements ProductSalesClaimRepository {
+
+    private static final String INSERT_SQL = "INSERT INTO product_sales_claim (claim_id, applied_at) VALUES (?, ?)";
+    private static final String EXISTS_SQL = "SELECT COUNT(*) FROM product_sales_claim WHERE claim_id = ?";
+    private static final String DELETE_SQL = "DELETE FROM product_sales_claim WHERE applied_at < ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void markApplied(String claimId) {
+        jdbcTemplate.update(INSERT_SQL, claimId, Timestamp.valueOf(LocalDateTime.now()));
+    }
+
+    @Override
+    public boolean isApplied(String claimId) {
+        Integer count = jdbcTemplate.queryForObject(EXISTS_SQL, Integer.class, claimId);
+        return count != null && count > 0;
+    }
+
+    @Override
+    public int deleteAppliedBefore(LocalDateTime appliedBefore) {
+        return jdbcTemplate.update(DELETE_SQL, Timestamp.valueOf(appliedBefore));
+    }
+}
@@ -1,12 +1,16 @@
 package kr.hhplus.be.server.infrastructure.product;
 
 import kr.hhplus.be.server.application.productstatistics.ProductSalesInfo;
+import kr.hhplus.be.server.domain.productstatistics.ProductSalesDelta;
 import kr.hhplus.be.server.domain.productstatistics.ProductStatistics;
 import kr.hhplus.be.server.domain.productstatistics.ProductStatisticsId;
 import kr.hhplus.be.server.domain.productstatistics.ProductStatisticsRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 
+import java.sql.Date;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
@@ -15,7 +19,16 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public class ProductStatisticRepositoryImpl implements ProductStatisticsRepository {
 
+    private static final String INCREASE_SQL = """
+            INSERT INTO product_statistics (product_id, stat_date, sales_count, sales_amount)
+            VALUES (?, ?, ?, ?)
+            ON DUPLICATE KEY UPDATE
+                sales_count = sales_count + VALUES(sales_count),
+                sales_amount = sales_amount + VALUES(sales_amount)
+            """;
+
     private final ProductStatisticsJpaRepository jpaRepository;
+    private final JdbcTemplate jdbcTemplate;
 
     @Override
     public Optional<ProductStatistics> findByProductIdAndStatDate(Long productId, LocalDate statDate) {
@@ -33,17 +46,16 @@ public class ProductStatisticRepositoryImpl implements ProductStatisticsReposito
     }
 
     @Override
-    public List<ProductSalesInfo> findTopSellingProducts(LocalDate from, LocalDate to, int limit) {
-        return jpaRepository.findByStatDateBetween(from, to).stream()
-                .collect(java.util.stream.Collectors.groupingBy(
-                        ProductStatistics::getProductId,
-                        java.util.stream.Collectors.summingInt(ProductStatistics::getSalesCount)
-                ))
-                .entrySet().stream()
-                .map(entry -> new ProductSalesInfo(entry.getKey(), (long) entry.getValue()))
-                .sorted(java.util.Comparator.comparing(ProductSalesInfo::salesCount).reversed())
-                .limit(limit)
+    public void increaseAll(List<ProductSalesDelta> deltas) {
+        List<Object[]> args = deltas.stream()
+                .map(d -> new Object[]{d.productId(), Date.valueOf(d.statDate()), d.salesCount(), d.salesAmount()})
                 .toList();
+        jdbcTemplate.batchUpdate(INCREASE_SQL, args);
+    }
+
+    @Override
+    public List<ProductSalesInfo> findTopSellingProducts(LocalDate from, LocalDate to, int limit) {
+        return jpaRepository.findTopSellingProducts(from, to, PageRequest.of(0, limit));
     }
 
     @Override
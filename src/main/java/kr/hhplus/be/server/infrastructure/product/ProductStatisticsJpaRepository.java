@@ -1,7 +1,9 @@
 package kr.hhplus.be.server.infrastructure.product;
 
+import kr.hhplus.be.server.application.productstatistics.ProductSalesInfo;
 import kr.hhplus.be.server.domain.productstatistics.ProductStatistics;
 import kr.hhplus.be.server.domain.productstatistics.ProductStatisticsId;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -22,4 +24,20 @@ public interface ProductStatisticsJpaRepository extends JpaRepository<ProductSta
             @Param("from") LocalDate from,
             @Param("to") LocalDate to
     );
+
+    /**
+     * 기간 내 상품별 판매량 합계 상위 N개. (stat_date, product_id, sales_count) 커버링 인덱스로 테이블 접근 없이 집계한다.
+     */
+    @Query("""
+        SELECT new kr.hhplus.be.server.application.productstatistics.ProductSalesInfo(ps.id.productId, SUM(ps.salesCount))
+        FROM ProductStatistics ps
+        WHERE ps.id.statDate BETWEEN :from AND :to
+        GROUP BY ps.id.productId
+        ORDER BY SUM(ps.salesCount) DESC
+        """)
+    List<ProductSalesInfo> findTopSellingProducts(
+            @Param("from") LocalDate from,
+            @Param("to") LocalDate to,
+            Pageable limit
+    );
 }
@@ -2,11 +2,15 @@ package kr.hhplus.be.server.infrastructure.product;
 
 import jakarta.persistence.LockModeType;
 import kr.hhplus.be.server.domain.product.ProductStock;
+import kr.hhplus.be.server.domain.product.ProductStockSummary;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -16,10 +20,31 @@ public interface ProductStockJpaRepository extends JpaRepository<ProductStock, L
 
     List<ProductStock> findAllByProductId(Long productId);
 
+    List<ProductStock> findAllByProductIdIn(Collection<Long> productIds);
+
+    @Query("""
+            SELECT new kr.hhplus.be.server.domain.product.ProductStockSummary(ps.productId, SUM(ps.stockQuantity))
+              FROM ProductStock ps
+             WHERE ps.productId IN :productIds
+             GROUP BY ps.productId
+            """)
+    List<ProductStockSummary> sumStockByProductIds(@Param("productIds") Collection<Long> productIds);
+
     @Lock(LockModeType.PESSIMISTIC_WRITE)
     @Query("SELECT ps FROM ProductStock ps WHERE ps.productId = :productId AND ps.size = :size")
     Optional<ProductStock> findByProductIdAndSizeForUpdate(@Param("productId") Long productId, @Param("size") int size);
 
+    @Modifying(clearAutomatically = true)
+    @Query("""
+            UPDATE ProductStock ps
+               SET ps.stockQuantity = ps.stockQuantity - :quantity, ps.updatedAt = :now
+             WHERE ps.productId = :productId AND ps.size = :size AND ps.stockQuantity >= :quantity
+            """)
+    int decreaseIfAvailable(@Param("productId") Long productId,
+                            @Param("size") int size,
+                            @Param("quantity") int quantity,
+                            @Param("now") LocalDateTime now);
+
 
 
 }
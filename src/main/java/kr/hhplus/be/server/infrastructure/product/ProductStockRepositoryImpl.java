@@ -2,9 +2,15 @@ package kr.hhplus.be.server.infrastructure.product;
 
 import kr.hhplus.be.server.domain.product.ProductStock;
 import kr.hhplus.be.server.domain.product.ProductStockRepository;
+import kr.hhplus.be.server.domain.product.ProductStockSummary;
+import kr.hhplus.be.server.domain.product.StockDeduction;
 import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -12,7 +18,20 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public class ProductStockRepositoryImpl implements ProductStockRepository {
 
+    private static final String DECREASE_STOCK_SQL = """
+            UPDATE product_stock
+               SET stock_quantity = stock_quantity - ?, updated_at = NOW()
+             WHERE product_id = ? AND size = ? AND stock_quantity >= ?
+            """;
+
+    private static final String RESTORE_STOCK_SQL = """
+            UPDATE product_stock
+               SET stock_quantity = stock_quantity + ?, updated_at = NOW()
+             WHERE product_id = ? AND size = ?
+            """;
+
     private final ProductStockJpaRepository jpaRepository;
+    private final JdbcTemplate jdbcTemplate;
 
     @Override
     public Optional<ProductStock> findByProductIdAndSize(Long productId, int size) {
@@ -29,6 +48,11 @@ public class ProductStockRepositoryImpl implements ProductStockRepository {
         return jpaRepository.findByProductId(id);
     }
 
+    @Override
+    public boolean decreaseIfAvailable(Long productId, int size, int quantity) {
+        return jpaRepository.decreaseIfAvailable(productId, size, quantity, LocalDateTime.now()) > 0;
+    }
+
     @Override
     public ProductStock save(ProductStock stock) {
         return jpaRepository.save(stock);
@@ -39,5 +63,49 @@ public class ProductStockRepositoryImpl implements ProductStockRepository {
         return jpaRepository.findAllByProductId(productId);
     }
 
+    @Override
+    public List<ProductStock> findAllByProductIds(Collection<Long> productIds) {
+        if (productIds.isEmpty()) {
+            return List.of();
+        }
+        return jpaRepository.findAllByProductIdIn(productIds);
+    }
+
+    @Override
+    public List<ProductStockSummary> sumStockByProductIds(Collection<Long> productIds) {
+        if (productIds.isEmpty()) {
+            return List.of();
+        }
+        return jpaRepository.sumStockByProductIds(productIds);
+    }
+
+    @Override
+    public int[] decreaseStocks(List<StockDeduction> deductions) {
+        List<Object[]> args = deductions.stream()
+                .map(d -> new Object[]{d.quantity(), d.productId(), d.size(), d.quantity()})
+                .toList();
+        return requireUpdateCounts(jdbcTemplate.batchUpdate(DECREASE_STOCK_SQL, args));
+    }
+
+    @Override
+    public int[] restoreStocks(List<StockDeduction> deductions) {
+        List<Object[]> args = deductions.stream()
+                .map(d -> new Object[]{d.quantity(), d.productId(), d.size()})
+                .toList();
+        return requireUpdateCounts(jdbcTemplate.batchUpdate(RESTORE_STOCK_SQL, args));
+    }
+
+    /**
+     * 드라이버가 행별 갱신 수 대신 SUCCESS_NO_INFO(-2)를 돌려주면(rewriteBatchedStatements 등)
+     * 어느 행이 반영됐는지 알 수 없으므로 예외로 트랜잭션을 롤백시킨다.
+     */
+    private static int[] requireUpdateCounts(int[] updated) {
+        for (int count : updated) {
+            if (count == Statement.SUCCESS_NO_INFO) {
+                throw new IllegalStateException("batch UPDATE 결과의 행별 갱신 수를 알 수 없음 (SUCCESS_NO_INFO)");
+            }
+        }
+        return updated;
+    }
 
 }
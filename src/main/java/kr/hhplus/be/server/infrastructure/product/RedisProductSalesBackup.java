@@ -0,0 +1,132 @@
+package kr.hhplus.be.server.infrastructure.product;
+
+import kr.hhplus.be.server.domain.productstatistics.ClaimedSales;
+import kr.hhplus.be.server.domain.productstatistics.ProductSalesBackup;
+import kr.hhplus.be.server.domain.productstatistics.ProductSalesDelta;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Redis Hash 기반 판매 통계 증분 보관소.
+ *
+ * <p>필드 {@code productId|yyyy-MM-dd|count}, {@code productId|yyyy-MM-dd|amount}에 HINCRBY로 누적하므로
+ * 여러 인스턴스가 동시에 보관해도 값이 합쳐진다. 꺼낼 때는 RENAME으로 키를 떼어낸 뒤 읽어 동시 보관과 섞이지 않게 하고,
+ * 떼어낸 키는 DB 반영이 커밋된 뒤에 지운다.
+ *
+ * <p>떼어낸 키 이름에 회수 시각을 넣어({@code product-statistics:pending:<epochMillis>:<uuid>}),
+ * 반영 도중 프로세스가 종료되어 남은 키를 SCAN으로 찾아 복구할 수 있게 한다.
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class RedisProductSalesBackup implements ProductSalesBackup {
+
+    private static final String PENDING_KEY = "product-statistics:pending";
+    private static final String DELIMITER = "|";
+    private static final String COUNT = "count";
+    private static final String AMOUNT = "amount";
+    private static final String CLAIM_KEY_PREFIX = PENDING_KEY + ":";
+    private static final Duration PROCESSING_TTL = Duration.ofDays(7);
+    private static final int SCAN_COUNT = 100;
+
+    /**
+     * 떼어낸 키의 필드를 보관 키에 HINCRBY로 더하고 떼어낸 키를 지운다. (KEYS[1]: 떼어낸 키, KEYS[2]: 보관 키)
+     */
+    private static final RedisScript<Long> RESTORE_SCRIPT = new DefaultRedisScript<>("""
+            local entries = redis.call('HGETALL', KEYS[1])
+            for i = 1, #entries, 2 do
+                redis.call('HINCRBY', KEYS[2], entries[i], entries[i + 1])
+            end
+            redis.call('DEL', KEYS[1])
+            return #entries / 2
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    @Override
+    public void save(List<ProductSalesDelta> deltas) {
+        for (ProductSalesDelta delta : deltas) {
+            String field = delta.productId() + DELIMITER + delta.statDate() + DELIMITER;
+            redisTemplate.opsForHash().increment(PENDING_KEY, field + COUNT, delta.salesCount());
+            redisTemplate.opsForHash().increment(PENDING_KEY, field + AMOUNT, delta.salesAmount());
+        }
+    }
+
+    @Override
+    public ClaimedSales claim() {
+        if (!Boolean.TRUE.equals(redisTemplate.hasKey(PENDING_KEY))) {
+            return ClaimedSales.empty();
+        }
+        String processingKey = CLAIM_KEY_PREFIX + System.currentTimeMillis() + ":" + UUID.randomUUID();
+        try {
+            redisTemplate.rename(PENDING_KEY, processingKey);
+        } catch (Exception e) {
+            // 다른 인스턴스가 먼저 회수한 경우
+            return ClaimedSales.empty();
+        }
+        // 복구 스케줄러마저 동작하지 않을 때 키가 무한히 쌓이지 않도록 보관 기한을 둔다
+        redisTemplate.expire(processingKey, PROCESSING_TTL);
+
+        Map<Object, Object> entries = redisTemplate.opsForHash().entries(processingKey);
+        List<ProductSalesDelta> deltas = new ArrayList<>();
+        entries.forEach((field, value) -> {
+            String[] parts = field.toString().split("\\|");
+            long increment = Long.parseLong(value.toString());
+            deltas.add(COUNT.equals(parts[2])
+                    ? new ProductSalesDelta(Long.valueOf(parts[0]), LocalDate.parse(parts[1]), increment, 0)
+                    : new ProductSalesDelta(Long.valueOf(parts[0]), LocalDate.parse(parts[1]), 0, increment));
+        });
+        log.info("[판매 통계 보관분 회수] {}건", deltas.size());
+        return new ClaimedSales(processingKey, deltas);
+    }
+
+    @Override
+    public void acknowledge(String claimId) {
+        redisTemplate.delete(claimId);
+    }
+
+    @Override
+    public void restore(String claimId) {
+        Long restored = redisTemplate.execute(RESTORE_SCRIPT, List.of(claimId, PENDING_KEY));
+        log.info("[판매 통계 보관분 복원] claimId={}, 필드 {}건", claimId, restored);
+    }
+
+    @Override
+    public List<String> findAbandonedClaimIds(Duration olderThan) {
+        long claimedBefore = System.currentTimeMillis() - olderThan.toMillis();
+        ScanOptions options = ScanOptions.scanOptions().match(CLAIM_KEY_PREFIX + "*").count(SCAN_COUNT).build();
+        List<String> abandoned = new ArrayList<>();
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            cursor.forEachRemaining(key -> {
+                Long claimedAt = claimedAtMillis(key);
+                if (claimedAt != null && claimedAt < claimedBefore) {
+                    abandoned.add(key);
+                }
+            });
+        }
+        return abandoned;
+    }
+
+    private static Long claimedAtMillis(String claimId) {
+        String[] parts = claimId.substring(CLAIM_KEY_PREFIX.length()).split(":");
+        try {
+            return Long.valueOf(parts[0]);
+        } catch (NumberFormatException e) {
+            // 회수 시각이 없는 키는 판단할 수 없으므로 보관 기한 만료에 맡긴다
+            return null;
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package kr.hhplus.be.server.infrastructure.product;
+
+import kr.hhplus.be.server.application.productstatistics.ProductSalesInfo;
+import kr.hhplus.be.server.domain.productstatistics.ProductSalesRanking;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.zset.Aggregate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Redis Sorted Set 기반 판매량 랭킹.
+ *
+ * <p>일자별 키({@code ranking:sales:yyyyMMdd})에 ZINCRBY로 누적하고,
+ * 기간 조회 시 ZUNIONSTORE로 합친 결과를 짧게 보관해 ZREVRANGE로 상위 N개를 읽는다.
+ * DB 적재는 기존 누적 값을 지우지 않도록 ZUNIONSTORE(AGGREGATE MAX)로 합친다.
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class RedisProductSalesRanking implements ProductSalesRanking {
+
+    private static final String KEY_PREFIX = "ranking:sales:";
+    private static final DateTimeFormatter KEY_DATE_FORMAT = DateTimeFormatter.BASIC_ISO_DATE;
+
+    // 일자 키는 최대 조회 기간보다 길게 유지한다
+    private static final Duration DAILY_TTL = Duration.ofDays(31);
+    // 합산 키는 조회가 몰릴 때 ZUNIONSTORE 반복을 줄이기 위한 용도
+    private static final Duration UNION_TTL = Duration.ofSeconds(10);
+
+    private final StringRedisTemplate redisTemplate;
+
+    @Override
+    public void increase(Long productId, LocalDate date, long quantity) {
+        String key = dailyKey(date);
+        redisTemplate.opsForZSet().incrementScore(key, String.valueOf(productId), quantity);
+        redisTemplate.expire(key, DAILY_TTL);
+    }
+
+    @Override
+    public List<LocalDate> findUnloadedDays(LocalDate from, LocalDate to) {
+        List<LocalDate> days = Stream.iterate(from, date -> !date.isAfter(to), date -> date.plusDays(1)).toList();
+        // 일자별 적재 표시를 MGET 한 번으로 확인한다
+        List<String> markers = redisTemplate.opsForValue().multiGet(days.stream().map(this::loadedKey).toList());
+        if (markers == null) {
+            return days;
+        }
+        return IntStream.range(0, days.size())
+                .filter(i -> markers.get(i) == null)
+                .mapToObj(days::get)
+                .toList();
+    }
+
+    @Override
+    public void load(LocalDate date, List<ProductSalesInfo> dailySales) {
+        String key = dailyKey(date);
+        Set<ZSetOperations.TypedTuple<String>> tuples = new HashSet<>();
+        dailySales.forEach(info -> tuples.add(ZSetOperations.TypedTuple.of(String.valueOf(info.productId()), info.salesCount().doubleValue())));
+
+        if (!tuples.isEmpty()) {
+            // DB는 쓰기 버퍼만큼 실시간 ZINCRBY보다 늦으므로 덮어쓰지 않고 상품별 큰 값으로 합친다
+            String snapshotKey = key + ":snapshot";
+            redisTemplate.opsForZSet().add(snapshotKey, tuples);
+            redisTemplate.opsForZSet().unionAndStore(key, List.of(snapshotKey), key, Aggregate.MAX);
+            redisTemplate.delete(snapshotKey);
+            redisTemplate.expire(key, DAILY_TTL);
+        }
+        redisTemplate.opsForValue().set(loadedKey(date), "1", DAILY_TTL);
+        log.info("[판매 랭킹 적재] date={}, products={}", date, tuples.size());
+    }
+
+    @Override
+    public List<ProductSalesInfo> findTop(LocalDate from, LocalDate to, int limit) {
+        String unionKey = KEY_PREFIX + "union:" + from.format(KEY_DATE_FORMAT) + ":" + to.format(KEY_DATE_FORMAT);
+
+        if (!Boolean.TRUE.equals(redisTemplate.hasKey(unionKey))) {
+            List<String> dailyKeys = Stream.iterate(from, date -> !date.isAfter(to), date -> date.plusDays(1))
+                    .map(this::dailyKey)
+                    .toList();
+            redisTemplate.opsForZSet().unionAndStore(dailyKeys.get(0), dailyKeys.subList(1, dailyKeys.size()), unionKey);
+            redisTemplate.expire(unionKey, UNION_TTL);
+        }
+
+        Set<ZSetOperations.TypedTuple<String>> top = redisTemplate.opsForZSet().reverseRangeWithScores(unionKey, 0, limit - 1);
+        if (top == null) {
+            return List.of();
+        }
+        return top.stream()
+                .filter(tuple -> tuple.getValue() != null && tuple.getScore() != null)
+                .map(tuple -> new ProductSalesInfo(Long.valueOf(tuple.getValue()), tuple.getScore().longValue()))
+                .toList();
+    }
+
+    private String dailyKey(LocalDate date) {
+        return KEY_PREFIX + date.format(KEY_DATE_FORMAT);
+    }
+
+    private String loadedKey(LocalDate date) {
+        return dailyKey(date) + ":loaded";
+    }
+}
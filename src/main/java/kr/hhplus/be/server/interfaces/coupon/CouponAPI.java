@@ -47,5 +47,29 @@ public interface CouponAPI {
             @Valid @RequestBody CouponRequest request
     );
 
+    @Operation(
+            summary = "한정 수량 쿠폰 선점 발급",
+            description = """
+            Redis에서 수량 차감과 중복 발급 체크를 원자적으로 처리하고 즉시 응답하는 발급 API입니다.
+            발급 이력은 비동기 배치로 저장되므로 응답의 `userCouponId`는 비어 있습니다.
+            
+            - 한정 수량 초과 시 `422 UNPROCESSABLE_ENTITY` 반환
+            - 이미 발급받은 사용자는 `422 UNPROCESSABLE_ENTITY` 반환
+            - 쿠폰이 존재하지 않으면 `404 NOT_FOUND` 반환
+            """,
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "쿠폰 선점 성공",
+                            content = @Content(schema = @Schema(implementation = CouponResponse.class))),
+                    @ApiResponse(responseCode = "404", description = "쿠폰이 존재하지 않음",
+                            content = @Content(schema = @Schema(implementation = ApiErrorResponse.class))),
+                    @ApiResponse(responseCode = "422", description = "발급 가능한 수량 초과 또는 중복 발급",
+                            content = @Content(schema = @Schema(implementation = ApiErrorResponse.class)))
+            }
+    )
+    @PostMapping("/limited-issue/reserve")
+    ResponseEntity<CustomApiResponse<CouponResponse>> reserveLimitedCoupon(
+            @Valid @RequestBody CouponRequest request
+    );
+
 }
 
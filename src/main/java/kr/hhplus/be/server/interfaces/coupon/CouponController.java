@@ -27,15 +27,24 @@ public class CouponController implements CouponAPI {
 
         CouponResult result = couponUseCase.issueLimitedCoupon(command);
 
-        return ResponseEntity.ok(CustomApiResponse.success(
-                new CouponResponse(
-                        result.userCouponId(),
-                        result.userId(),
-                        result.couponType(),
-                        result.discountRate(),
-                        result.issuedAt(),
-                        result.expiryDate()
-                )
-        ));
+        return ResponseEntity.ok(CustomApiResponse.success(toResponse(result)));
+    }
+
+    @Override
+    public ResponseEntity<CustomApiResponse<CouponResponse>> reserveLimitedCoupon(@Valid @RequestBody CouponRequest request) {
+        CouponResult result = couponUseCase.reserveLimitedCoupon(request.toCommand());
+
+        return ResponseEntity.ok(CustomApiResponse.success(toResponse(result)));
+    }
+
+    private CouponResponse toResponse(CouponResult result) {
+        return new CouponResponse(
+                result.userCouponId(),
+                result.userId(),
+                result.couponType(),
+                result.discountRate(),
+                result.issuedAt(),
+                result.expiryDate()
+        );
     }
 }
@@ -38,6 +38,30 @@ public interface ProductAPI {
             @RequestParam(defaultValue = "20") int size,
 
             @Parameter(description = "정렬 기준 (예: name,asc)", example = "name,asc")
+            @RequestParam(required = false) String sort,
+
+            @Parameter(description = "전체 상품 수 포함 여부 (주기적으로 갱신되는 근사값)", example = "false")
+            @RequestParam(defaultValue = "false") boolean withTotal
+    );
+
+    @Operation(summary = "상품 목록 커서 조회", description = "커서 기반으로 상품 목록을 조회합니다. 응답의 nextCursor를 다음 요청에 그대로 전달합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "성공",
+                    content = @Content(schema = @Schema(implementation = ProductResponse.ProductCursorListResponse.class))),
+            @ApiResponse(responseCode = "400", description = "잘못된 커서 또는 정렬",
+                    content = @Content(schema = @Schema(implementation = ApiErrorResponse.class))),
+            @ApiResponse(responseCode = "500", description = "서버 오류",
+                    content = @Content(schema = @Schema(implementation = ApiErrorResponse.class)))
+    })
+    @GetMapping("/cursor")
+    ResponseEntity<CustomApiResponse<ProductResponse.ProductCursorListResponse>> getProductsByCursor(
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)")
+            @RequestParam(required = false) String cursor,
+
+            @Parameter(description = "페이지 크기", example = "20")
+            @RequestParam(defaultValue = "20") int size,
+
+            @Parameter(description = "정렬 기준 (createdAt,desc | price,asc | price,desc)", example = "createdAt,desc")
             @RequestParam(required = false) String sort
     );
 
@@ -22,14 +22,16 @@ public class ProductController implements ProductAPI {
 
     private final ProductUseCase productUseCase;
     private final ProductFacade productFacade;
+    private final PopularProductCriteriaRegistry popularCriteriaRegistry;
 
-    @GetMapping
+    @Override
     public ResponseEntity<CustomApiResponse<ProductResponse.ProductListResponse>> getProducts(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "20") int size,
-            @RequestParam(required = false) String sort
+            @RequestParam(required = false) String sort,
+            @RequestParam(defaultValue = "false") boolean withTotal
     ) {
-        ProductRequest.ListRequest request = ProductRequest.ListRequest.of(page, size, sort);
+        ProductRequest.ListRequest request = ProductRequest.ListRequest.of(page, size, sort, withTotal);
         GetProductListCommand command = GetProductListCommand.fromRequest(request);
         ProductListResult result = productUseCase.getProductList(command);
 
@@ -38,6 +40,19 @@ public class ProductController implements ProductAPI {
         ));
     }
 
+    @Override
+    public ResponseEntity<CustomApiResponse<ProductResponse.ProductCursorListResponse>> getProductsByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) String sort
+    ) {
+        ProductRequest.CursorRequest request = ProductRequest.CursorRequest.of(cursor, size, sort);
+        ProductCursorListResult result = productUseCase.getProductListByCursor(GetProductCursorCommand.fromRequest(request));
+
+        return ResponseEntity.ok(CustomApiResponse.success(
+                ProductResponse.ProductCursorListResponse.from(result)
+        ));
+    }
 
     @Override
     public ResponseEntity<CustomApiResponse<ProductResponse.ProductDetailResponse>> getProduct(
@@ -56,6 +71,7 @@ public class ProductController implements ProductAPI {
     ) {
         ProductRequest.PopularRequest request = ProductRequest.PopularRequest.of(days, limit);
         PopularProductCriteria criteria = PopularProductCriteria.of(request);
+        popularCriteriaRegistry.record(criteria); // 웜업 대상 선정용 요청 빈도 기록
         List<PopularProductResult> result = productFacade.getPopularProducts(criteria);
 
         return ResponseEntity.ok(CustomApiResponse.success(
@@ -1,16 +1,48 @@
 package kr.hhplus.be.server.interfaces.product;
 
 import kr.hhplus.be.server.application.product.GetProductDetailCommand;
+import kr.hhplus.be.server.domain.product.ProductException;
 
 public class ProductRequest {
 
+    public static final int MAX_PAGE_SIZE = 100;
+
+    private static void validatePageSize(int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new ProductException.InvalidPageSizeException(MAX_PAGE_SIZE);
+        }
+    }
+
     public record ListRequest(
             int page,
             int size,
-            String sort
+            String sort,
+            boolean withTotal
     ) {
+        public ListRequest {
+            validatePageSize(size);
+        }
+
         public static ListRequest of(int page, int size, String sort) {
-            return new ListRequest(page, size, sort);
+            return new ListRequest(page, size, sort, false);
+        }
+
+        public static ListRequest of(int page, int size, String sort, boolean withTotal) {
+            return new ListRequest(page, size, sort, withTotal);
+        }
+    }
+
+    public record CursorRequest(
+            String cursor,
+            int size,
+            String sort
+    ) {
+        public CursorRequest {
+            validatePageSize(size);
+        }
+
+        public static CursorRequest of(String cursor, int size, String sort) {
+            return new CursorRequest(cursor, size, sort);
         }
     }
 
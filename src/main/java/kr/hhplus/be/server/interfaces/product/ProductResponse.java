@@ -1,5 +1,7 @@
 package kr.hhplus.be.server.interfaces.product;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+import kr.hhplus.be.server.application.product.ProductCursorListResult;
 import kr.hhplus.be.server.application.product.ProductDetailResult;
 import kr.hhplus.be.server.application.product.ProductInfo;
 import kr.hhplus.be.server.application.product.ProductListResult;
@@ -28,12 +30,30 @@ public class ProductResponse {
 
     }
 
-    public record ProductListResponse(List<ProductDTO> products) {
+    public record ProductListResponse(
+            List<ProductDTO> products,
+            boolean hasNext,
+            @JsonInclude(JsonInclude.Include.NON_NULL) Long totalCount
+    ) {
         public static ProductListResponse from(ProductListResult result) {
             return new ProductListResponse(
                     result.products().stream()
                             .map(ProductDTO::from)
-                            .toList()
+                            .toList(),
+                    result.hasNext(),
+                    result.totalCount()
+            );
+        }
+    }
+
+    public record ProductCursorListResponse(List<ProductDTO> products, String nextCursor, boolean hasNext) {
+        public static ProductCursorListResponse from(ProductCursorListResult result) {
+            return new ProductCursorListResponse(
+                    result.products().stream()
+                            .map(ProductDTO::from)
+                            .toList(),
+                    result.nextCursor(),
+                    result.hasNext()
             );
         }
     }
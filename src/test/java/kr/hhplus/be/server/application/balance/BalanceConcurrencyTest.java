@@ -16,25 +16,23 @@ import java.util.concurrent.atomic.AtomicInteger;
 import static org.assertj.core.api.Assertions.assertThat;
 
 /**
- * Redis 기반 분산락을 활용한 잔액 충전 동시성 테스트.
+ * 단일 UPDATE 기반 원자적 잔액 충전 동시성 테스트.
  *
  * <p>동일 사용자의 충전 요청이 동시에 발생할 때 Race Condition 없이 정확하게 처리되는지 검증한다.</p>
  *
  * <p><b>적용된 동시성 제어 전략:</b></p>
  * <ul>
- *   <li><b>Redisson 분산락</b> : key = "balance:charge:{userId}". 락 획득 후에만 충전 로직 진입</li>
- *   <li><b>트랜잭션 경계</b> : 락 획득 후 AOP를 통해 @Transactional(REQUIRES_NEW) 시작</li>
- *   <li><b>비즈니스 로직</b> : 잔액 조회 및 금액 충전 → 저장</li>
+ *   <li><b>원자적 UPDATE</b> : amount = amount + ? 한 문장으로 충전. 사용자 단위 락 없음</li>
+ *   <li><b>Redisson 분산락</b> : key = "balance:charge:request:{requestId}". 동일 요청의 중복 진입만 차단</li>
  *   <li><b>멱등성 보장</b> : requestId 기반으로 중복 요청 차단</li>
  *   <li><b>Rate Limiting</b> : InMemoryRateLimiter로 과도한 반복 요청 차단</li>
- *   <li><b>이벤트 발행</b> : 커밋 후 BalanceChargedEvent 발행 → 충전 이력 기록</li>
+ *   <li><b>충전 이력</b> : 충전 트랜잭션 안에서 이력을 INSERT IGNORE로 기록해 requestId 중복 충전 차단</li>
  * </ul>
  *
  * <p><b>검증 포인트:</b></p>
  * <ul>
  *   <li>모든 충전 요청이 정확히 한 번씩만 처리된다.</li>
  *   <li>최종 잔액 = 성공한 요청 수 × 충전 금액.</li>
- *   <li>로그를 통해 락 → 트랜잭션 → 로직 → 커밋 → 이벤트 → 락 해제 순서를 확인한다.</li>
  * </ul>
  */
 
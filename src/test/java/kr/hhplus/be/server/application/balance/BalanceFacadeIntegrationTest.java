@@ -46,4 +46,25 @@ class BalanceFacadeIntegrationTest {
         assertThat(updated.getAmount()).isEqualTo(beforeAmount + charge.value());
 
     }
+
+    @Test
+    @DisplayName("같은 requestId로 다시 충전하면 잔액은 한 번만 늘고 이력도 한 건만 남는다")
+    void charge_duplicateRequestId_chargesOnce() {
+        Long userId = 100L;
+        Money charge = Money.wons(5_000);
+        long beforeAmount = balanceRepository.findByUserId(userId).orElseThrow().getAmount();
+
+        String requestId = "REQ-" + UUID.randomUUID();
+        ChargeBalanceCriteria criteria = ChargeBalanceCriteria.of(userId, charge.value(), "충전 테스트", requestId);
+
+        balanceFacade.charge(criteria);
+        BalanceResult retried = balanceFacade.charge(criteria);
+
+        assertThat(retried.balance()).isEqualTo(beforeAmount + charge.value());
+        assertThat(balanceRepository.findByUserId(userId).orElseThrow().getAmount())
+                .isEqualTo(beforeAmount + charge.value());
+        assertThat(balanceHistoryRepository.findAllByUserId(userId))
+                .filteredOn(history -> requestId.equals(history.getRequestId()))
+                .hasSize(1);
+    }
 }
@@ -8,11 +8,9 @@ import kr.hhplus.be.server.common.vo.Money;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.context.ApplicationEventPublisher;
 
 
 import java.util.Optional;
@@ -28,7 +26,7 @@ class BalanceServiceTest {
     BalanceRepository balanceRepository;
 
     @Mock
-    ApplicationEventPublisher eventPublisher;
+    BalanceHistoryRepository balanceHistoryRepository;
 
     @InjectMocks
     BalanceService balanceService;
@@ -41,22 +39,59 @@ class BalanceServiceTest {
 
         String requestId = "REQ-" + UUID.randomUUID();
         // given
-        Balance existing = Balance.createNew( 100L, Money.wons(1000));
-        when(balanceRepository.findByUserId(100L)).thenReturn(Optional.of(existing));
-        when(balanceRepository.save(eq(existing))).thenReturn(existing); // eq로 명시적 비교
+        when(balanceHistoryRepository.saveIfAbsent(any())).thenReturn(true);
+        when(balanceRepository.increaseAmount(100L, 1000L)).thenReturn(Optional.of(2000L));
 
         ChargeBalanceCommand command = new ChargeBalanceCommand(100L, 1000, "충전 테스트", requestId);
 
-        doNothing().when(eventPublisher).publishEvent(any(BalanceChargedEvent.class));
-
         // when
         BalanceInfo info = balanceService.charge(command);
 
         // then
         assertThat(info.amount()).isEqualTo(2000L);
 
-        verify(balanceRepository).save(existing);
-        verify(eventPublisher).publishEvent(any(BalanceChargedEvent.class));
+        verify(balanceRepository, never()).findByUserId(any());
+        verify(balanceRepository, never()).save(any());
+        verify(balanceHistoryRepository).saveIfAbsent(argThat(history ->
+                history.getRequestId().equals(requestId) && history.isChargeHistory()));
+
+    }
+
+    @Test
+    @DisplayName("이미 처리된 requestId면 잔액을 늘리지 않고 현재 잔액을 돌려준다")
+    void charge_duplicateRequest_doesNotChargeAgain() {
+        Balance existing = Balance.createNew(100L, Money.wons(2000));
+        when(balanceHistoryRepository.saveIfAbsent(any())).thenReturn(false);
+        when(balanceRepository.findByUserId(100L)).thenReturn(Optional.of(existing));
+
+        BalanceInfo info = balanceService.charge(new ChargeBalanceCommand(100L, 1000, "충전 테스트", "REQ-DUP"));
+
+        assertThat(info.amount()).isEqualTo(2000L);
+        verify(balanceRepository, never()).increaseAmount(any(), anyLong());
+    }
+
+    @Test
+    @DisplayName("최소 충전 금액 미만이면 UPDATE 없이 예외가 발생한다")
+    void charge_fail_below_minimum() {
+        ChargeBalanceCommand command = new ChargeBalanceCommand(100L, 500, "충전 테스트", "REQ-MIN");
+
+        assertThatThrownBy(() -> balanceService.charge(command))
+                .isInstanceOf(BalanceException.MinimumChargeAmountException.class);
+
+        verify(balanceRepository, never()).increaseAmount(any(), anyLong());
+        verify(balanceHistoryRepository, never()).saveIfAbsent(any());
+    }
+
+    @Test
+    @DisplayName("잔액 행이 없으면 충전 시 예외가 발생한다")
+    void charge_fail_not_found() {
+        when(balanceHistoryRepository.saveIfAbsent(any())).thenReturn(true);
+        when(balanceRepository.increaseAmount(100L, 1000L)).thenReturn(Optional.empty());
+
+        ChargeBalanceCommand command = new ChargeBalanceCommand(100L, 1000, "충전 테스트", "REQ-NF");
+
+        assertThatThrownBy(() -> balanceService.charge(command))
+                .isInstanceOf(BalanceException.NotFoundException.class);
 
     }
 
@@ -65,9 +100,7 @@ class BalanceServiceTest {
     @DisplayName("잔액을 차감할 수 있다")
     void decreaseSuccess() {
         // given
-        Balance existing = Balance.createNew(100L, Money.wons(1000));
-        when(balanceRepository.findByUserId(100L)).thenReturn(Optional.of(existing));
-        when(balanceRepository.save(eq(existing))).thenReturn(existing);
+        when(balanceRepository.decreaseAmountIfEnough(100L, 500L)).thenReturn(Optional.of(500L));
 
         DecreaseBalanceCommand command = new DecreaseBalanceCommand(100L, 500);
 
@@ -77,18 +110,16 @@ class BalanceServiceTest {
         // then
         assertThat(result).isTrue();
 
-        ArgumentCaptor<Balance> captor = ArgumentCaptor.forClass(Balance.class);
-        verify(balanceRepository).save(captor.capture());
-
-        Balance saved = captor.getValue();
-        assertThat(saved.getAmount()).isEqualTo(500); // 1000 - 500 = 500
+        verify(balanceRepository).decreaseAmountIfEnough(100L, 500L);
+        verify(balanceRepository, never()).findByUserId(any());
     }
 
     @Test
     @DisplayName("잔액이 부족하면 예외가 발생한다")
     void decrease_fail_not_enough_balance() {
-        // givena
+        // given
         Balance existing = Balance.createNew( 100L, Money.wons(300));
+        when(balanceRepository.decreaseAmountIfEnough(100L, 500L)).thenReturn(Optional.empty());
         when(balanceRepository.findByUserId(100L)).thenReturn(Optional.of(existing));
 
         DecreaseBalanceCommand command = new DecreaseBalanceCommand(100L, 500);
@@ -99,6 +130,16 @@ class BalanceServiceTest {
 
         verify(balanceRepository, never()).save(any());
     }
+
+    @Test
+    @DisplayName("잔액 행이 없으면 차감 시 NotFound 예외가 발생한다")
+    void decrease_fail_not_found() {
+        when(balanceRepository.decreaseAmountIfEnough(100L, 500L)).thenReturn(Optional.empty());
+        when(balanceRepository.findByUserId(100L)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> balanceService.decreaseBalance(new DecreaseBalanceCommand(100L, 500)))
+                .isInstanceOf(BalanceException.NotFoundException.class);
+    }
     @Test
     @DisplayName("잔액을 조회할 수 있다")
     void getBalance_success() {
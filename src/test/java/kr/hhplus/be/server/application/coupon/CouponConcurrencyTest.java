@@ -120,4 +120,43 @@ public class CouponConcurrencyTest {
                 .isLessThanOrEqualTo(TOTAL_QUANTITY);
     }
 
+    @Test
+    @DisplayName("Redis 선점 방식으로 동시에 요청해도 수량만큼만 발급되고, 발급 이력은 비동기로 저장된다")
+    void reserve_should_issue_exactly_total_quantity_when_multiple_users_request_concurrently() throws Exception {
+        String couponCode = "RESERVE1000-" + UUID.randomUUID();
+        couponRepository.save(Coupon.createLimitedFixed(couponCode, 1000, TOTAL_QUANTITY,
+                LocalDateTime.now().minusDays(1), LocalDateTime.now().plusDays(30)));
+
+        ExecutorService executor = Executors.newFixedThreadPool(CONCURRENCY);
+        CountDownLatch latch = new CountDownLatch(CONCURRENCY);
+        List<Long> successUsers = new CopyOnWriteArrayList<>();
+
+        for (int i = 0; i < CONCURRENCY; i++) {
+            long userId = 1000L + i;
+            executor.execute(() -> {
+                try {
+                    couponService.reserveLimitedCoupon(new IssueLimitedCouponCommand(userId, couponCode));
+                    successUsers.add(userId);
+                } catch (Exception e) {
+                    System.out.printf("사용자 %d → 선점 실패 (%s)\n", userId, e.getClass().getSimpleName());
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await();
+
+        assertThat(successUsers).hasSize(TOTAL_QUANTITY);
+
+        // 쓰기 버퍼 flush 대기
+        long deadline = System.currentTimeMillis() + 3_000;
+        while (couponIssueRepository.countByCouponCode(couponCode) < TOTAL_QUANTITY
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(100);
+        }
+
+        assertThat(couponIssueRepository.countByCouponCode(couponCode)).isEqualTo(TOTAL_QUANTITY);
+        assertThat(couponRepository.findByCode(couponCode).getRemainingQuantity()).isZero();
+    }
+
 }
@@ -13,9 +13,11 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.Clock;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
+import java.util.List;
 import java.util.concurrent.Callable;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
@@ -24,6 +26,9 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
@@ -35,6 +40,12 @@ class CouponServiceTest {
     @Mock
     private CouponIssueRepository couponIssueRepository;
 
+    @Mock
+    private CouponIssueReservation couponIssueReservation;
+
+    @Mock
+    private CouponIssueWriter couponIssueWriter;
+
     private CouponService couponService;
 
     private Clock fixedClock;
@@ -45,7 +56,7 @@ class CouponServiceTest {
     @BeforeEach
     void setUp() {
         fixedClock = Clock.fixed(Instant.parse("2025-04-27T00:00:00Z"), ZoneId.of("UTC"));
-        couponService = new CouponService(couponRepository, couponIssueRepository, fixedClock);
+        couponService = new CouponService(couponRepository, couponIssueRepository, couponIssueReservation, couponIssueWriter, fixedClock);
 
     }
 
@@ -160,6 +171,95 @@ class CouponServiceTest {
                 couponService.applyCoupon(new ApplyCouponCommand(userId, couponCode, Money.wons(10000))));
     }
 
+    @Test
+    @DisplayName("선점 발급 성공 - Redis 선점 후 쓰기 버퍼에 적재한다")
+    void reserveCoupon_success() {
+        Coupon coupon = createValidCoupon();
+        given(couponRepository.findByCode(couponCode)).willReturn(coupon);
+        given(couponIssueReservation.reserve(coupon.getId(), userId))
+                .willReturn(CouponIssueReservation.Result.RESERVED);
+
+        CouponResult result = couponService.reserveLimitedCoupon(new IssueLimitedCouponCommand(userId, couponCode));
+
+        assertThat(result.userId()).isEqualTo(userId);
+
+        ArgumentCaptor<ReservedCouponIssue> captor = ArgumentCaptor.forClass(ReservedCouponIssue.class);
+        verify(couponIssueWriter).write(captor.capture());
+        assertThat(captor.getValue().couponId()).isEqualTo(coupon.getId());
+        assertThat(captor.getValue().userId()).isEqualTo(userId);
+        verify(couponIssueRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("선점 발급은 쿠폰 정보를 캐시해 요청마다 조회하지 않는다")
+    void reserveCoupon_cachesCouponLookup() {
+        Coupon coupon = createValidCoupon();
+        given(couponRepository.findByCode(couponCode)).willReturn(coupon);
+        given(couponIssueReservation.reserve(eq(coupon.getId()), any()))
+                .willReturn(CouponIssueReservation.Result.RESERVED);
+
+        couponService.reserveLimitedCoupon(new IssueLimitedCouponCommand(1L, couponCode));
+        couponService.reserveLimitedCoupon(new IssueLimitedCouponCommand(2L, couponCode));
+
+        verify(couponRepository, times(1)).findByCode(couponCode);
+    }
+
+    @Test
+    @DisplayName("선점 저장소가 비어 있으면 DB 기준으로 초기화 후 다시 선점한다")
+    void reserveCoupon_initializeWhenEmpty() {
+        Coupon coupon = createValidCoupon();
+        given(couponRepository.findByCode(couponCode)).willReturn(coupon);
+        given(couponIssueRepository.findUserIdsByCouponId(coupon.getId())).willReturn(List.of(99L));
+        given(couponIssueReservation.reserve(coupon.getId(), userId))
+                .willReturn(CouponIssueReservation.Result.NOT_INITIALIZED, CouponIssueReservation.Result.RESERVED);
+
+        couponService.reserveLimitedCoupon(new IssueLimitedCouponCommand(userId, couponCode));
+
+        verify(couponIssueReservation).initialize(eq(coupon.getId()), eq(100), eq(List.of(99L)), any(Duration.class));
+        verify(couponIssueWriter).write(any(ReservedCouponIssue.class));
+    }
+
+    @Test
+    @DisplayName("선점 발급 실패 - 이미 발급받은 사용자")
+    void reserveCoupon_fail_ifAlreadyIssued() {
+        Coupon coupon = createValidCoupon();
+        given(couponRepository.findByCode(couponCode)).willReturn(coupon);
+        given(couponIssueReservation.reserve(coupon.getId(), userId))
+                .willReturn(CouponIssueReservation.Result.ALREADY_ISSUED);
+
+        assertThrows(CouponException.AlreadyIssuedException.class, () ->
+                couponService.reserveLimitedCoupon(new IssueLimitedCouponCommand(userId, couponCode)));
+        verify(couponIssueWriter, never()).write(any());
+    }
+
+    @Test
+    @DisplayName("선점 발급 실패 - 수량 소진")
+    void reserveCoupon_fail_ifExhausted() {
+        Coupon coupon = createValidCoupon();
+        given(couponRepository.findByCode(couponCode)).willReturn(coupon);
+        given(couponIssueReservation.reserve(coupon.getId(), userId))
+                .willReturn(CouponIssueReservation.Result.EXHAUSTED);
+
+        assertThrows(CouponException.AlreadyExhaustedException.class, () ->
+                couponService.reserveLimitedCoupon(new IssueLimitedCouponCommand(userId, couponCode)));
+        verify(couponIssueWriter, never()).write(any());
+    }
+
+    @Test
+    @DisplayName("선점 발급 실패 - 쓰기 버퍼가 가득 차면 선점을 되돌린다")
+    void reserveCoupon_fail_ifWriterBufferFull() {
+        Coupon coupon = createValidCoupon();
+        given(couponRepository.findByCode(couponCode)).willReturn(coupon);
+        given(couponIssueReservation.reserve(coupon.getId(), userId))
+                .willReturn(CouponIssueReservation.Result.RESERVED);
+        doThrow(new CouponException.IssueBufferFullException())
+                .when(couponIssueWriter).write(any(ReservedCouponIssue.class));
+
+        assertThrows(CouponException.IssueBufferFullException.class, () ->
+                couponService.reserveLimitedCoupon(new IssueLimitedCouponCommand(userId, couponCode)));
+        verify(couponIssueReservation).release(coupon.getId(), userId);
+    }
+
     private Coupon createValidCoupon() {
         LocalDateTime now = LocalDateTime.now(fixedClock);
         return Coupon.create(
@@ -0,0 +1,133 @@
+package kr.hhplus.be.server.application.order;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.hhplus.be.server.common.lock.AopForTransaction;
+import kr.hhplus.be.server.domain.order.OrderConfirmationDeadLetterRepository;
+import kr.hhplus.be.server.domain.order.OrderRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class OrderConfirmationWorkerTest {
+
+    private OrderRepository orderRepository;
+    private OrderEventUseCase orderEventUseCase;
+    private OrderConfirmationDeadLetterRepository deadLetterRepository;
+    private AopForTransaction aopForTransaction;
+    private SimpleMeterRegistry meterRegistry;
+    private OrderConfirmationWorker worker;
+
+    @BeforeEach
+    void setUp() {
+        orderRepository = mock(OrderRepository.class);
+        orderEventUseCase = mock(OrderEventUseCase.class);
+        deadLetterRepository = mock(OrderConfirmationDeadLetterRepository.class);
+        aopForTransaction = mock(AopForTransaction.class);
+        when(aopForTransaction.run(any()))
+                .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(0).get());
+        meterRegistry = new SimpleMeterRegistry();
+
+        when(orderRepository.lockConfirmableIds(anyCollection()))
+                .thenAnswer(invocation -> new ArrayList<>(invocation.<Collection<String>>getArgument(0)));
+        when(orderRepository.findAllWithItems(anyCollection())).thenReturn(List.of());
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        if (worker != null) {
+            worker.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("적재된 주문을 모아 UPDATE 한 번으로 확정하고 outbox를 기록한다")
+    void enqueuedOrders_areConfirmedInOneBatch() throws InterruptedException {
+        worker = create(10, 3, 10_000);
+        worker.enqueue("ORDER-1");
+        worker.enqueue("ORDER-2");
+        worker.enqueue("ORDER-3");
+
+        worker.start();
+
+        verify(orderRepository, timeout(2000)).confirmAll(List.of("ORDER-1", "ORDER-2", "ORDER-3"));
+        verify(orderEventUseCase, timeout(2000)).recordPaymentCompletedEvents(anyCollection());
+        worker.stop();
+        verify(deadLetterRepository, never()).save(anyString(), anyInt(), anyString());
+        assertThat(meterRegistry.get("order.confirmation.confirmed").counter().count()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("이미 확정된 주문은 다시 확정하지도 outbox를 남기지도 않는다")
+    void alreadyConfirmedOrders_areSkipped() {
+        doReturn(List.of()).when(orderRepository).lockConfirmableIds(anyCollection());
+        worker = create(10, 3, 10_000);
+        worker.enqueue("ORDER-1");
+
+        worker.start();
+
+        verify(orderRepository, timeout(2000)).lockConfirmableIds(List.of("ORDER-1"));
+        verify(orderRepository, after(200).never()).confirmAll(anyCollection());
+        verify(orderEventUseCase, never()).recordPaymentCompletedEvents(anyCollection());
+    }
+
+    @Test
+    @DisplayName("재시도 후에도 실패한 배치는 주문별로 다시 시도하고 실패한 주문만 데드레터에 남긴다")
+    void failingOrder_isIsolatedToDeadLetter() {
+        doAnswer(invocation -> {
+            Collection<String> ids = invocation.getArgument(0);
+            if (ids.contains("BROKEN")) {
+                throw new IllegalStateException("lock wait timeout");
+            }
+            return new ArrayList<>(ids);
+        }).when(orderRepository).lockConfirmableIds(anyCollection());
+        worker = create(10, 2, 10_000);
+        worker.enqueue("ORDER-1");
+        worker.enqueue("BROKEN");
+        worker.enqueue("ORDER-2");
+
+        worker.start();
+
+        verify(deadLetterRepository, timeout(3000)).save(eq("BROKEN"), eq(3), anyString());
+        verify(orderRepository, timeout(3000)).confirmAll(List.of("ORDER-1"));
+        verify(orderRepository, timeout(3000)).confirmAll(List.of("ORDER-2"));
+        verify(deadLetterRepository, never()).save(eq("ORDER-1"), anyInt(), anyString());
+        assertThat(meterRegistry.get("order.confirmation.retried").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("order.confirmation.dead_letter").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("큐가 가득 차면 기다리지 않고 거절만 기록한다")
+    void enqueue_rejectsWhenQueueIsFull() {
+        OrderConfirmationWorker notStarted = create(10, 3, 1);
+
+        assertThat(notStarted.enqueue("ORDER-1")).isTrue();
+        assertThat(notStarted.enqueue("ORDER-2")).isFalse();
+        assertThat(meterRegistry.get("order.confirmation.rejected").counter().count()).isEqualTo(1);
+    }
+
+    private OrderConfirmationWorker create(int batchSize, int maxAttempts, int queueCapacity) {
+        return new OrderConfirmationWorker(orderRepository, orderEventUseCase, deadLetterRepository,
+                aopForTransaction, meterRegistry, 1, batchSize, 20, queueCapacity, maxAttempts);
+    }
+}
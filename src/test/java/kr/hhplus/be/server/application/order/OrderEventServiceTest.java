@@ -2,6 +2,7 @@ package kr.hhplus.be.server.application.order;
 
 import kr.hhplus.be.server.domain.order.Order;
 import kr.hhplus.be.server.domain.order.OrderItem;
+import kr.hhplus.be.server.domain.orderexport.OrderExportPayload;
 import kr.hhplus.be.server.domain.outbox.EventStatus;
 import kr.hhplus.be.server.domain.outbox.OrderEvent;
 import kr.hhplus.be.server.domain.outbox.OrderEventRepository;
@@ -49,6 +50,6 @@ class OrderEventServiceTest {
         assertThat(savedEvent.getAggregateType()).isEqualTo("ORDER");
         assertThat(savedEvent.getEventType()).isEqualTo("PAYMENT_COMPLETED");
         assertThat(savedEvent.getStatus()).isEqualTo(EventStatus.PENDING);
-        assertThat(savedEvent.getPayload()).contains(order.getId());
+        assertThat(savedEvent.decodePayload(OrderExportPayload.class).getOrderId()).isEqualTo(order.getId());
     }
 }
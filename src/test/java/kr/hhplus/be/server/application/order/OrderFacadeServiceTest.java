@@ -5,6 +5,7 @@ import kr.hhplus.be.server.common.vo.Money;
 import kr.hhplus.be.server.domain.order.Order;
 import kr.hhplus.be.server.domain.order.OrderItem;
 import kr.hhplus.be.server.domain.order.OrderStatus;
+import kr.hhplus.be.server.domain.product.ProductException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -12,12 +13,13 @@ import org.junit.jupiter.api.Test;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
 class OrderFacadeServiceTest {
 
     private OrderUseCase orderService;
-    private OrderEventUseCase orderEventService;
     private CouponUseCase couponUseCase;
     private OrderItemCreator orderItemCreator;
     private OrderCompensationService compensationService;
@@ -27,7 +29,6 @@ class OrderFacadeServiceTest {
     @BeforeEach
     void setUp() {
         orderService = mock(OrderUseCase.class);
-        orderEventService = mock(OrderEventUseCase.class);
         couponUseCase = mock(CouponUseCase.class);
         orderItemCreator = mock(OrderItemCreator.class);
         compensationService = mock(OrderCompensationService.class);
@@ -35,14 +36,13 @@ class OrderFacadeServiceTest {
         orderFacadeService = new OrderFacadeService(
                 orderItemCreator,
                 orderService,
-                orderEventService,
                 couponUseCase,
                 compensationService
         );
     }
 
     @Test
-    @DisplayName("쿠폰을 적용하여 주문을 생성하고 이벤트를 발행한다")
+    @DisplayName("쿠폰을 적용하여 주문을 생성한다")
     void createOrder_withCoupon_success() {
         // given
         Long userId = 1L;
@@ -79,7 +79,37 @@ class OrderFacadeServiceTest {
         verify(orderItemCreator).createOrderItems(command.items());
         verify(couponUseCase).calculateDiscountedTotal(command, orderItems);
         verify(orderService).createOrder(userId, orderItems, discountedTotal);
-        verify(orderEventService).recordPaymentCompletedEvent(order);
         verifyNoInteractions(compensationService);
     }
+
+    @Test
+    @DisplayName("재고 일괄 차감이 실패하면 차감된 재고가 없으므로 보상하지 않는다")
+    void createOrder_stockDecreaseFails_noCompensation() {
+        CreateOrderCommand command = new CreateOrderCommand(1L,
+                List.of(new CreateOrderCommand.OrderItemCommand(1001L, 2, 270)), null);
+        when(orderItemCreator.createOrderItems(command.items()))
+                .thenThrow(new ProductException.InsufficientStockException());
+
+        assertThatThrownBy(() -> orderFacadeService.createOrder(command))
+                .isInstanceOf(ProductException.InsufficientStockException.class);
+
+        verifyNoInteractions(compensationService, couponUseCase, orderService);
+    }
+
+    @Test
+    @DisplayName("재고 차감 이후 단계가 실패하면 차감한 재고 전체를 보상한다")
+    void createOrder_couponFails_compensatesStock() {
+        CreateOrderCommand command = new CreateOrderCommand(1L,
+                List.of(new CreateOrderCommand.OrderItemCommand(1001L, 2, 270)), "EXPIRED");
+        List<OrderItem> orderItems = List.of(OrderItem.of(1001L, 2, 270, Money.wons(5000)));
+        when(orderItemCreator.createOrderItems(command.items())).thenReturn(orderItems);
+        when(couponUseCase.calculateDiscountedTotal(command, orderItems))
+                .thenThrow(new IllegalStateException("쿠폰 만료"));
+
+        assertThatThrownBy(() -> orderFacadeService.createOrder(command))
+                .isInstanceOf(IllegalStateException.class);
+
+        verify(compensationService).compensateStock(command.items());
+        verify(compensationService, never()).markOrderAsFailed(anyString());
+    }
 }
@@ -0,0 +1,128 @@
+package kr.hhplus.be.server.application.orderexport;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.hhplus.be.server.common.lock.AopForTransaction;
+import kr.hhplus.be.server.domain.order.Order;
+import kr.hhplus.be.server.domain.order.OrderItem;
+import kr.hhplus.be.server.domain.outbox.OrderEvent;
+import kr.hhplus.be.server.domain.outbox.OrderEventRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+import static kr.hhplus.be.server.common.vo.Money.wons;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class OrderEventRelayTest {
+
+    private OrderEventRepository repository;
+    private OrderExportUseCase exportUseCase;
+    private SimpleMeterRegistry meterRegistry;
+    private OrderEventRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(OrderEventRepository.class);
+        exportUseCase = mock(OrderExportUseCase.class);
+        AopForTransaction aopForTransaction = mock(AopForTransaction.class);
+        when(aopForTransaction.run(any()))
+                .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(0).get());
+        meterRegistry = new SimpleMeterRegistry();
+
+        relay = new OrderEventRelay(repository, exportUseCase, aopForTransaction, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("선점한 이벤트를 전송하고 성공/실패를 각각 한 번에 반영한다")
+    void relayBatch_marksSucceededAndFailed() {
+        OrderEvent ok = OrderEvent.paymentCompleted(order(1L));
+        OrderEvent broken = OrderEvent.paymentCompleted(order(2L));
+        when(repository.claimPending(eq(100), any(Duration.class))).thenReturn(List.of(ok, broken));
+        when(exportUseCase.exportAsync(any())).thenAnswer(invocation -> {
+            OrderExportCommand command = invocation.getArgument(0);
+            return command.payload().getUserId().equals(2L)
+                    ? CompletableFuture.failedFuture(new IllegalStateException("외부 플랫폼 오류"))
+                    : CompletableFuture.completedFuture(null);
+        });
+
+        int sent = relay.relayBatch();
+
+        assertThat(sent).isEqualTo(1);
+        verify(exportUseCase, times(2)).exportAsync(any());
+        verify(repository).markCompleted(List.of(ok.getId()));
+        verify(repository).markFailed(List.of(broken.getId()), 5);
+        assertThat(meterRegistry.get("outbox.relay.sent").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("outbox.relay.failed").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("결과를 기다리는 중 인터럽트되면 멈추지 않고 미완료 이벤트를 실패로 반영한다")
+    void relayBatch_interruptedWhileWaiting_marksPendingAsFailed() {
+        OrderEvent ok = OrderEvent.paymentCompleted(order(1L));
+        OrderEvent stuck = OrderEvent.paymentCompleted(order(2L));
+        when(repository.claimPending(eq(100), any(Duration.class))).thenReturn(List.of(ok, stuck));
+        when(exportUseCase.exportAsync(any())).thenAnswer(invocation -> {
+            OrderExportCommand command = invocation.getArgument(0);
+            return command.payload().getUserId().equals(2L)
+                    ? new CompletableFuture<Void>()
+                    : CompletableFuture.completedFuture(null);
+        });
+
+        Thread.currentThread().interrupt();
+        int sent;
+        try {
+            sent = relay.relayBatch();
+        } finally {
+            assertThat(Thread.interrupted()).isTrue();
+        }
+
+        assertThat(sent).isEqualTo(1);
+        verify(repository).markCompleted(List.of(ok.getId()));
+        verify(repository).markFailed(List.of(stuck.getId()), 5);
+    }
+
+    @Test
+    @DisplayName("선점한 이벤트가 없으면 전송도 상태 변경도 하지 않는다")
+    void relayBatch_nothingClaimed() {
+        when(repository.claimPending(anyInt(), any(Duration.class))).thenReturn(List.of());
+
+        relay.relay();
+
+        verify(exportUseCase, never()).exportAsync(any());
+        verify(repository, never()).markCompleted(anyCollection());
+        verify(repository, never()).markFailed(anyCollection(), anyInt());
+    }
+
+    @Test
+    @DisplayName("적체가 계속돼도 한 주기에 max-batches-per-tick 배치까지만 처리한다")
+    void relay_capsBatchesPerTick() {
+        List<OrderEvent> fullBatch = IntStream.range(0, 100)
+                .mapToObj(i -> OrderEvent.paymentCompleted(order(1L)))
+                .toList();
+        when(repository.claimPending(eq(100), any(Duration.class))).thenReturn(fullBatch);
+        when(exportUseCase.exportAsync(any())).thenReturn(CompletableFuture.completedFuture(null));
+
+        relay.relay();
+
+        verify(repository, times(10)).claimPending(eq(100), any(Duration.class));
+    }
+
+    private Order order(Long userId) {
+        return Order.create(userId, List.of(OrderItem.of(100L, 1, 270, wons(10000))), wons(10000));
+    }
+}
@@ -8,7 +8,9 @@ import kr.hhplus.be.server.application.order.OrderResult;
 import kr.hhplus.be.server.common.vo.Money;
 import kr.hhplus.be.server.domain.balance.Balance;
 import kr.hhplus.be.server.domain.balance.BalanceRepository;
+import kr.hhplus.be.server.domain.order.OrderException;
 import kr.hhplus.be.server.domain.order.OrderRepository;
+import kr.hhplus.be.server.domain.payment.PaymentException;
 import kr.hhplus.be.server.domain.product.Product;
 import kr.hhplus.be.server.domain.product.ProductRepository;
 import kr.hhplus.be.server.domain.product.ProductStock;
@@ -36,11 +38,12 @@ import static org.assertj.core.api.Assertions.assertThat;
  * <p>결제 요청의 동시성 제어를 검증하는 테스트 클래스.</p>
  *
  * <p>하나의 주문(orderId)에 대해 여러 요청자가 동시에 결제를 시도할 때,
- * Redis 기반 분산락을 통해 중복 결제를 방지하는 로직이 제대로 작동하는지 검증한다.</p>
+ * userId 기준 순차 실행기를 통해 중복 결제를 방지하는 로직이 제대로 작동하는지 검증한다.</p>
  *
  * <h3>🛠 적용된 동시성 제어 방식</h3>
  * <ul>
- *   <li>Redisson 기반 분산락을 AOP로 적용: `@DistributedLock(key = "#command.orderId", prefix = "payment:order:")`</li>
+ *   <li>KeySequencedExecutor로 같은 사용자의 결제를 한 stripe 스레드에서 순서대로 실행</li>
+ *   <li>잔액 차감 전에 주문 행을 잠그고 CREATED 상태와 성공 결제 부재를 확인 (주문 확정은 커밋 후 비동기)</li>
  *   <li>결제 성공 기록, 잔액 차감, 후속 이벤트 발행을 하나의 트랜잭션 내에서 처리</li>
  * </ul>
  *
@@ -91,7 +94,7 @@ public class PaymentConcurrencyTest {
     @BeforeEach
     void setUp() {
         balanceRepository.save(Balance.createNew(userId, Money.wons(0L)));
-        balanceFacade.charge(ChargeBalanceCriteria.of(userId, PRICE, "초기 충전", "REQUEST-01"));
+        balanceFacade.charge(ChargeBalanceCriteria.of(userId, PRICE, "초기 충전", "REQUEST-" + userId));
 
         Product product = productRepository.save(
                 Product.create("테스트 상품", "브랜드", Money.wons(PRICE), LocalDate.now().minusDays(1), null, null)
@@ -145,4 +148,41 @@ public class PaymentConcurrencyTest {
         assertThat(balance.getAmount()).isEqualTo(0L);
         assertThat(failures.size()).isEqualTo(CONCURRENCY - 1);
     }
+
+    @Test
+    @DisplayName("잔액이 두 번 결제할 만큼 있어도 같은 주문의 두 번째 결제는 거절되고 잔액은 한 번만 차감된다")
+    void should_reject_second_payment_even_when_balance_covers_it() throws InterruptedException {
+        balanceFacade.charge(ChargeBalanceCriteria.of(userId, PRICE, "추가 충전", "REQUEST-" + userId + "-2"));
+
+        int CONCURRENCY = 5;
+        ExecutorService executor = Executors.newFixedThreadPool(CONCURRENCY);
+        CountDownLatch latch = new CountDownLatch(CONCURRENCY);
+
+        List<PaymentResult> successes = new CopyOnWriteArrayList<>();
+        List<Throwable> failures = new CopyOnWriteArrayList<>();
+
+        for (int i = 0; i < CONCURRENCY; i++) {
+            executor.execute(() -> {
+                try {
+                    successes.add(paymentFacadeService.requestPayment(
+                            new RequestPaymentCommand(orderId, userId, PRICE, "BALANCE")));
+                } catch (Exception e) {
+                    failures.add(e);
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+
+        latch.await();
+
+        Balance balance = balanceRepository.findByUserId(userId).orElseThrow();
+
+        assertThat(successes).hasSize(1);
+        assertThat(balance.getAmount()).isEqualTo(PRICE);
+        assertThat(failures).hasSize(CONCURRENCY - 1)
+                .allSatisfy(e -> assertThat(e).isInstanceOfAny(
+                        PaymentException.AlreadyPaidException.class,
+                        OrderException.InvalidStateException.class));
+    }
 }
@@ -2,17 +2,24 @@ package kr.hhplus.be.server.application.payment;
 
 import kr.hhplus.be.server.application.balance.BalanceService;
 import kr.hhplus.be.server.application.balance.DecreaseBalanceCommand;
+import kr.hhplus.be.server.application.order.OrderUseCase;
 import kr.hhplus.be.server.application.order.PaymentCompletedEvent;
 import kr.hhplus.be.server.common.lock.AopForTransaction;
-import kr.hhplus.be.server.common.lock.DistributedLockExecutor;
+import kr.hhplus.be.server.common.sequencer.KeySequencedExecutor;
 import kr.hhplus.be.server.common.vo.Money;
+import kr.hhplus.be.server.domain.order.OrderException;
+import kr.hhplus.be.server.domain.order.OrderStatus;
 import kr.hhplus.be.server.domain.payment.Payment;
+import kr.hhplus.be.server.domain.payment.PaymentException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.context.ApplicationEventPublisher;
 
+import java.util.function.Supplier;
+
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.*;
 
 class PaymentFacadeServiceTest {
@@ -20,12 +27,20 @@ class PaymentFacadeServiceTest {
     private BalanceService balanceService;
     private PaymentFacadeService facadeService;
     private PaymentService paymentService;
+    private OrderUseCase orderUseCase;
 
     @BeforeEach
     void setUp() {
         balanceService = mock(BalanceService.class);
         paymentService = mock(PaymentService.class);
-        facadeService = new PaymentFacadeService(balanceService, paymentService);
+        orderUseCase = mock(OrderUseCase.class);
+        KeySequencedExecutor keySequencedExecutor = mock(KeySequencedExecutor.class);
+        AopForTransaction aopForTransaction = mock(AopForTransaction.class);
+        when(keySequencedExecutor.execute(any(), any()))
+                .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(1).get());
+        when(aopForTransaction.run(any()))
+                .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(0).get());
+        facadeService = new PaymentFacadeService(balanceService, paymentService, orderUseCase, keySequencedExecutor, aopForTransaction);
     }
 
     @Test
@@ -50,6 +65,8 @@ class PaymentFacadeServiceTest {
         PaymentResult result = facadeService.requestPayment(command);
 
         // Then
+        verify(orderUseCase).getOrderForPaymentWithLock(orderId);
+        verify(paymentService).validateNotPaid(orderId);
         verify(balanceService).decreaseBalance(new DecreaseBalanceCommand(userId, amount));
         verify(paymentService).recordSuccess(new PaymentCommand(orderId, Money.from(amount), method));
 
@@ -57,4 +74,32 @@ class PaymentFacadeServiceTest {
         assertThat(result.amount()).isEqualTo(amount);
         assertThat(result.status()).isEqualTo("SUCCESS");
     }
+
+    @Test
+    @DisplayName("이미 결제된 주문이면 잔액을 차감하지 않고 거절한다")
+    void requestPayment_alreadyPaid() {
+        RequestPaymentCommand command = new RequestPaymentCommand("ORDER-123", 1L, 10000L, "BALANCE");
+        doThrow(new PaymentException.AlreadyPaidException("ORDER-123"))
+                .when(paymentService).validateNotPaid("ORDER-123");
+
+        assertThatThrownBy(() -> facadeService.requestPayment(command))
+                .isInstanceOf(PaymentException.AlreadyPaidException.class);
+
+        verify(balanceService, never()).decreaseBalance(any());
+        verify(paymentService, never()).recordSuccess(any());
+    }
+
+    @Test
+    @DisplayName("CREATED가 아닌 주문이면 잔액을 차감하지 않고 거절한다")
+    void requestPayment_orderNotPayable() {
+        RequestPaymentCommand command = new RequestPaymentCommand("ORDER-123", 1L, 10000L, "BALANCE");
+        when(orderUseCase.getOrderForPaymentWithLock("ORDER-123"))
+                .thenThrow(new OrderException.InvalidStateException(OrderStatus.CANCELLED, "payment"));
+
+        assertThatThrownBy(() -> facadeService.requestPayment(command))
+                .isInstanceOf(OrderException.InvalidStateException.class);
+
+        verify(balanceService, never()).decreaseBalance(any());
+        verify(paymentService, never()).recordSuccess(any());
+    }
 }
@@ -0,0 +1,64 @@
+package kr.hhplus.be.server.application.product;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PopularProductCriteriaRegistryTest {
+
+    private final PopularProductCriteriaRegistry registry = new PopularProductCriteriaRegistry();
+
+    @Test
+    @DisplayName("요청 빈도가 높은 순으로 상위 K개 조건을 반환한다")
+    void topK_ordersByFrequency() {
+        record(new PopularProductCriteria(7, 10), 30);
+        record(new PopularProductCriteria(3, 5), 20);
+        record(new PopularProductCriteria(1, 5), 10);
+        record(new PopularProductCriteria(30, 20), 1);
+
+        assertThat(registry.topK(3)).containsExactly(
+                new PopularProductCriteria(7, 10),
+                new PopularProductCriteria(3, 5),
+                new PopularProductCriteria(1, 5)
+        );
+    }
+
+    @Test
+    @DisplayName("빈도 추정치는 실제 요청 수보다 작지 않다")
+    void frequency_neverUnderestimates() {
+        IntStream.rangeClosed(1, 200).forEach(days -> record(new PopularProductCriteria(days, 5), days));
+
+        IntStream.rangeClosed(1, 200).forEach(days ->
+                assertThat(registry.frequencyOf(new PopularProductCriteria(days, 5))).isGreaterThanOrEqualTo(days));
+    }
+
+    @Test
+    @DisplayName("감쇠 후 더 이상 요청되지 않는 조건은 후보에서 빠진다")
+    void decay_dropsColdCriteria() {
+        record(new PopularProductCriteria(7, 10), 4);
+        record(new PopularProductCriteria(30, 20), 1);
+
+        registry.decay();
+
+        assertThat(registry.topK(10)).containsExactly(new PopularProductCriteria(7, 10));
+        assertThat(registry.frequencyOf(new PopularProductCriteria(7, 10))).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("후보 조건 수는 상한을 넘지 않는다")
+    void candidates_areBounded() {
+        IntStream.rangeClosed(1, PopularProductCriteriaRegistry.MAX_CANDIDATES + 100)
+                .forEach(days -> registry.record(new PopularProductCriteria(days, 5)));
+
+        assertThat(registry.topK(Integer.MAX_VALUE)).hasSize(PopularProductCriteriaRegistry.MAX_CANDIDATES);
+    }
+
+    private void record(PopularProductCriteria criteria, int times) {
+        for (int i = 0; i < times; i++) {
+            registry.record(criteria);
+        }
+    }
+}
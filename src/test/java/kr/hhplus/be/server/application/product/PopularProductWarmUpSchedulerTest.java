@@ -1,6 +1,7 @@
 package kr.hhplus.be.server.application.product;
 
 import kr.hhplus.be.server.config.TestRedisCacheConfig;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -24,6 +25,12 @@ class PopularProductWarmUpSchedulerTest {
     @Autowired
     CacheManager cacheManager;
 
+    @Autowired
+    PopularProductCriteriaRegistry criteriaRegistry;
+
+    @Autowired
+    MeterRegistry meterRegistry;
+
     @BeforeEach
     void setUp() {
         // 캐시 비우기
@@ -48,4 +55,24 @@ class PopularProductWarmUpSchedulerTest {
         System.out.println("캐시 키 = " + cacheKey + ", 값 = " + cached);
     }
 
+    @Test
+    @DisplayName("실제 요청된 조건도 웜업 대상에 포함되고 계산 시간이 기록된다")
+    void warmUpPopularProducts_includesRequestedCriteria() {
+        // given
+        PopularProductCriteria requested = new PopularProductCriteria(7, 10);
+        for (int i = 0; i < 5; i++) {
+            criteriaRegistry.record(requested);
+        }
+
+        // when
+        scheduler.warmUpPopularProducts();
+
+        // then
+        Cache cache = cacheManager.getCache("popularProducts");
+        assertThat(cache.get("popular:7:10", Object.class)).isNotNull();
+        assertThat(meterRegistry.get("product.popular.warmup.compute").tag("criteria", "7:10").timer().count())
+                .isGreaterThanOrEqualTo(1L);
+        assertThat(meterRegistry.get("product.popular.warmup.duration").timer().count())
+                .isGreaterThanOrEqualTo(1L);
+    }
 }
@@ -0,0 +1,117 @@
+package kr.hhplus.be.server.application.product;
+
+import kr.hhplus.be.server.domain.product.Product;
+import kr.hhplus.be.server.domain.product.ProductRepository;
+import kr.hhplus.be.server.domain.product.ProductStock;
+import kr.hhplus.be.server.domain.product.ProductStockRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+class ProductBatchLoaderTest {
+
+    private ProductRepository productRepository;
+    private ProductStockRepository productStockRepository;
+    private ProductBatchLoader loader;
+
+    @BeforeEach
+    void setUp() {
+        productRepository = mock(ProductRepository.class);
+        productStockRepository = mock(ProductStockRepository.class);
+        loader = new ProductBatchLoader(productRepository, productStockRepository);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    @DisplayName("여러 상품 ID는 한 번의 쿼리로 조회되고 요청 동안 메모이즈된다")
+    void loadMany_resolvesIdsInSingleQuery() {
+        List<Product> products = List.of(product(1L), product(2L), product(3L));
+        when(productRepository.findAllById(anyList())).thenReturn(products);
+
+        loader.loadMany(List.of(1L, 2L, 3L));
+        for (long id = 1; id <= 3; id++) {
+            assertThat(loader.load(id)).isPresent();
+        }
+
+        verify(productRepository, times(1)).findAllById(List.of(1L, 2L, 3L));
+    }
+
+    @Test
+    @DisplayName("이미 조회한 상품은 다시 조회하지 않고 없는 상품도 메모이즈한다")
+    void loadMany_queriesOnlyMissingIds() {
+        Product product1 = product(1L);
+        Product product2 = product(2L);
+        when(productRepository.findAllById(List.of(1L, 99L))).thenReturn(List.of(product1));
+        when(productRepository.findAllById(List.of(2L))).thenReturn(List.of(product2));
+
+        Map<Long, Product> first = loader.loadMany(List.of(1L, 99L));
+        Map<Long, Product> second = loader.loadMany(List.of(1L, 2L, 99L));
+
+        assertThat(first).containsOnlyKeys(1L);
+        assertThat(second).containsOnlyKeys(1L, 2L);
+        verify(productRepository).findAllById(List.of(1L, 99L));
+        verify(productRepository).findAllById(List.of(2L));
+        verifyNoMoreInteractions(productRepository);
+    }
+
+    @Test
+    @DisplayName("재고는 상품 단위로 모든 사이즈를 한 번에 적재한다")
+    void loadStock_loadsAllSizesOfProductsOnce() {
+        when(productStockRepository.findAllByProductIds(anyCollection())).thenReturn(List.of(
+                ProductStock.of(1L, 260, 5), ProductStock.of(1L, 270, 7)));
+
+        assertThat(loader.loadStock(1L, 260)).get().extracting(ProductStock::getStockQuantity).isEqualTo(5);
+        assertThat(loader.loadStock(1L, 270)).get().extracting(ProductStock::getStockQuantity).isEqualTo(7);
+        assertThat(loader.loadStock(1L, 280)).isEmpty();
+        verify(productStockRepository, times(1)).findAllByProductIds(List.of(1L));
+    }
+
+    @Test
+    @DisplayName("재고 변경 후에는 해당 상품의 재고를 다시 조회한다")
+    void forgetStock_reloadsProduct() {
+        when(productStockRepository.findAllByProductIds(List.of(1L)))
+                .thenReturn(List.of(ProductStock.of(1L, 260, 5)))
+                .thenReturn(List.of(ProductStock.of(1L, 260, 2)));
+
+        loader.loadStock(1L, 260);
+        loader.forgetStock(1L);
+
+        assertThat(loader.loadStock(1L, 260)).get().extracting(ProductStock::getStockQuantity).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("웹 요청 밖에서는 호출마다 조회한다")
+    void outsideRequest_doesNotMemoize() {
+        RequestContextHolder.resetRequestAttributes();
+        Product product = product(1L);
+        when(productRepository.findAllById(List.of(1L))).thenReturn(List.of(product));
+
+        loader.load(1L);
+        loader.load(1L);
+
+        verify(productRepository, times(2)).findAllById(List.of(1L));
+    }
+
+    private static Product product(Long id) {
+        Product product = mock(Product.class);
+        when(product.getId()).thenReturn(id);
+        return product;
+    }
+}
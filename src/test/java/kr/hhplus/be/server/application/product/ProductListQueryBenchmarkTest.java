@@ -0,0 +1,133 @@
+package kr.hhplus.be.server.application.product;
+
+import jakarta.persistence.EntityManagerFactory;
+import kr.hhplus.be.server.common.vo.Money;
+import kr.hhplus.be.server.domain.product.Product;
+import kr.hhplus.be.server.domain.product.ProductRepository;
+import kr.hhplus.be.server.domain.product.ProductStock;
+import kr.hhplus.be.server.domain.product.ProductStockRepository;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 상품 목록 조회 쿼리 수 / 지연시간 비교.
+ *
+ * <ul>
+ *   <li><b>기존</b>: 상품 페이지 조회 후 상품마다 findAllByProductId (N+1)</li>
+ *   <li><b>개선</b>: 상품 페이지 조회 후 GROUP BY 집계 한 번</li>
+ * </ul>
+ *
+ * <p>Hibernate Statistics로 실행된 SQL 수를 세고, 반복 호출의 p99를 출력한다.</p>
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class ProductListQueryBenchmarkTest {
+
+    private static final int PAGE_SIZE = 20;
+    private static final int ITERATIONS = 200;
+
+    @Autowired
+    ProductService productService;
+
+    @Autowired
+    ProductRepository productRepository;
+
+    @Autowired
+    ProductStockRepository productStockRepository;
+
+    @Autowired
+    EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            Product product = productRepository.save(Product.create("벤치마크 상품 " + i, "Brand",
+                    Money.wons(10_000), LocalDate.now().minusDays(1), null, null));
+            for (int size : new int[]{260, 270, 280}) {
+                productStockRepository.save(ProductStock.of(product.getId(), size, 10));
+            }
+        }
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    @DisplayName("집계 쿼리 경로는 페이지 크기와 무관하게 쿼리 수가 고정된다")
+    void aggregatedStockQuery_reducesQueryCount() {
+        GetProductListCommand command = new GetProductListCommand(0, PAGE_SIZE, "id,desc");
+
+        long legacyQueries = countQueries(() -> legacyProductList(command));
+        long aggregatedQueries = countQueries(() -> productService.getProductList(command));
+
+        long legacyP99 = p99Micros(() -> legacyProductList(command));
+        long aggregatedP99 = p99Micros(() -> productService.getProductList(command));
+
+        System.out.printf("[N+1] 쿼리 %d개, p99 %dus%n", legacyQueries, legacyP99);
+        System.out.printf("[GROUP BY] 쿼리 %d개, p99 %dus%n", aggregatedQueries, aggregatedP99);
+
+        // 상품 페이지(+count) 조회 외에 재고 집계 한 번만 실행된다
+        assertThat(aggregatedQueries).isLessThanOrEqualTo(3);
+        assertThat(legacyQueries).isGreaterThanOrEqualTo(PAGE_SIZE);
+        assertThat(productService.getProductList(command).products())
+                .allSatisfy(info -> assertThat(info.stockQuantity()).isEqualTo(30));
+    }
+
+    @Test
+    @DisplayName("Slice 조회는 COUNT 쿼리 없이 한 번의 쿼리로 다음 페이지 여부를 판단한다")
+    void sliceQuery_skipsCountQuery() {
+        PageRequest pageRequest = PageRequest.of(0, PAGE_SIZE, Sort.by(Sort.Order.desc("id")));
+
+        long pageQueries = countQueries(() -> productRepository.findAll(pageRequest));
+        long sliceQueries = countQueries(() -> productRepository.findSlice(pageRequest));
+
+        long pageP99 = p99Micros(() -> productRepository.findAll(pageRequest));
+        long sliceP99 = p99Micros(() -> productRepository.findSlice(pageRequest));
+
+        System.out.printf("[Page] 쿼리 %d개, p99 %dus%n", pageQueries, pageP99);
+        System.out.printf("[Slice] 쿼리 %d개, p99 %dus%n", sliceQueries, sliceP99);
+
+        assertThat(pageQueries).isEqualTo(2);
+        assertThat(sliceQueries).isEqualTo(1);
+        assertThat(productRepository.findSlice(pageRequest).hasNext()).isTrue();
+    }
+
+    private List<ProductInfo> legacyProductList(GetProductListCommand command) {
+        return productRepository.findAll(PageRequest.of(command.page(), command.size(), Sort.by(Sort.Order.desc("id"))))
+                .getContent().stream()
+                .map(product -> ProductInfo.from(product, productStockRepository.findAllByProductId(product.getId()).stream()
+                        .mapToInt(ProductStock::getStockQuantity)
+                        .sum()))
+                .toList();
+    }
+
+    private long countQueries(Supplier<?> action) {
+        statistics.clear();
+        action.get();
+        return statistics.getPrepareStatementCount();
+    }
+
+    private long p99Micros(Supplier<?> action) {
+        long[] elapsed = new long[ITERATIONS];
+        for (int i = 0; i < ITERATIONS; i++) {
+            long start = System.nanoTime();
+            action.get();
+            elapsed[i] = (System.nanoTime() - start) / 1_000;
+        }
+        Arrays.sort(elapsed);
+        return elapsed[(int) Math.ceil(ITERATIONS * 0.99) - 1];
+    }
+}
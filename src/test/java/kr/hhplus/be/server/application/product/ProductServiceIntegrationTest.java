@@ -8,6 +8,9 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.List;
+
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
@@ -24,6 +27,12 @@ class ProductServiceIntegrationTest {
     @Autowired
     ProductService productService;
 
+    @Autowired
+    ProductCatalogReader productCatalogReader;
+
+    @Autowired
+    StockService stockService;
+
     @BeforeEach
     void setUp() {
         // 테스트 시작 시 재고를 50으로 보정
@@ -39,6 +48,8 @@ class ProductServiceIntegrationTest {
                 productStockRepository.save(stock);
             }
         });
+        // 저장소를 직접 수정했으므로 재고 캐시도 비운다
+        productCatalogReader.evictStock(productId, size);
     }
 
     @Test
@@ -66,6 +77,22 @@ class ProductServiceIntegrationTest {
         assertThat(result.products().get(0).stockQuantity()).isGreaterThanOrEqualTo(0);
     }
 
+    @Test
+    @DisplayName("커서 조회로 전체 상품을 중복 없이 정렬 순서대로 순회한다")
+    void getProductListByCursor_shouldWalkAllPagesInOrder() {
+        List<ProductInfo> walked = new ArrayList<>();
+        String cursor = null;
+        do {
+            ProductCursorListResult page = productService.getProductListByCursor(
+                    new GetProductCursorCommand(cursor, 2, "price,asc"));
+            walked.addAll(page.products());
+            cursor = page.nextCursor();
+        } while (cursor != null);
+
+        assertThat(walked).extracting(ProductInfo::id).doesNotHaveDuplicates();
+        assertThat(walked).extracting(ProductInfo::price).isSorted();
+    }
+
     @Test
     @DisplayName("상품 재고 차감이 성공하면 실제 수량이 줄어든다")
     void decreaseStock_shouldDeductStockQuantity() {
@@ -101,4 +128,20 @@ class ProductServiceIntegrationTest {
                 productService.decreaseStock(new DecreaseStockCommand(productId, size, 1)))
                 .isInstanceOf(ProductException.NotReleasedException.class);
     }
+
+    @Test
+    @DisplayName("재고가 변경되면 커밋 후 재고 캐시가 무효화되어 상세 조회에 반영된다")
+    void getProductDetail_reflectsStockChangeAfterInvalidation() {
+        Long productId = 1L;
+        int size = 270;
+
+        int before = productService.getProductDetail(new GetProductDetailCommand(productId, size))
+                .product().stockQuantity();
+
+        stockService.increase(new IncreaseStockCommand(productId, size, 5));
+
+        int after = productService.getProductDetail(new GetProductDetailCommand(productId, size))
+                .product().stockQuantity();
+        assertThat(after).isEqualTo(before + 5);
+    }
 }
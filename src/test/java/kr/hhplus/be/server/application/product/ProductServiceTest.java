@@ -8,8 +8,9 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.domain.PageImpl;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -25,6 +26,14 @@ class ProductServiceTest {
     ProductRepository productRepository;
     @Mock
     ProductStockRepository productStockRepository;
+    @Mock
+    ProductCatalogReader productCatalogReader;
+    @Mock
+    ProductBatchLoader productBatchLoader;
+    @Mock
+    ProductCountCache productCountCache;
+    @Mock
+    ApplicationEventPublisher eventPublisher;
 
     @InjectMocks
     ProductService productService;
@@ -36,14 +45,11 @@ class ProductServiceTest {
         Product product = Product.create("Jordan 1", "Nike", Money.wons(200_000),
                 LocalDate.of(2024, 1, 1), "image.jpg", "best seller");
 
-        when(productRepository.findAll(any(PageRequest.class)))
-                .thenReturn(new PageImpl<>(List.of(product)));
+        when(productRepository.findSlice(any(PageRequest.class)))
+                .thenReturn(new SliceImpl<>(List.of(product), PageRequest.of(0, 10), false));
 
-        when(productStockRepository.findAllByProductId(product.getId()))
-                .thenReturn(List.of(
-                        ProductStock.of(product.getId(), 270, 5),
-                        ProductStock.of(product.getId(), 280, 3)
-                ));
+        when(productStockRepository.sumStockByProductIds(anyList()))
+                .thenReturn(List.of(new ProductStockSummary(product.getId(), 8L)));
 
         // when
         ProductListResult result = productService.getProductList(new GetProductListCommand(0, 10, null));
@@ -51,29 +57,88 @@ class ProductServiceTest {
         // then
         assertThat(result.products()).hasSize(1);
         assertThat(result.products().get(0).name()).isEqualTo("Jordan 1");
+        assertThat(result.products().get(0).stockQuantity()).isEqualTo(8);
+        assertThat(result.hasNext()).isFalse();
+        assertThat(result.totalCount()).isNull();
+        verify(productStockRepository, never()).findAllByProductId(any());
+        verify(productRepository, never()).findAll(any(PageRequest.class));
+        verifyNoInteractions(productCountCache);
+    }
+
+    @Test
+    @DisplayName("전체 수를 요청하면 COUNT 쿼리 대신 캐시된 근사값을 반환한다")
+    void getProductList_withTotal_usesCachedCount() {
+        // given
+        Product product = Product.create("Jordan 1", "Nike", Money.wons(200_000),
+                LocalDate.of(2024, 1, 1), "image.jpg", "best seller");
+        when(productRepository.findSlice(any(PageRequest.class)))
+                .thenReturn(new SliceImpl<>(List.of(product), PageRequest.of(0, 1), true));
+        when(productStockRepository.sumStockByProductIds(anyList())).thenReturn(List.of());
+        when(productCountCache.approximateTotal()).thenReturn(1_000L);
+
+        // when
+        ProductListResult result = productService.getProductList(new GetProductListCommand(0, 1, null, true));
+
+        // then
+        assertThat(result.hasNext()).isTrue();
+        assertThat(result.totalCount()).isEqualTo(1_000L);
+        verify(productRepository, never()).count();
     }
 
 
 
+    @Test
+    @DisplayName("커서 조회 - 한 건 더 조회되면 다음 커서를 반환한다")
+    void getProductListByCursor_hasNext() {
+        // given
+        Product first = Product.create("Jordan 1", "Nike", Money.wons(100_000), LocalDate.of(2024, 1, 1), null, null);
+        Product second = Product.create("Jordan 3", "Nike", Money.wons(200_000), LocalDate.of(2024, 1, 1), null, null);
+        when(productRepository.findAllByCursor(ProductSortType.PRICE_ASC, null, 2))
+                .thenReturn(List.of(first, second));
+        when(productStockRepository.sumStockByProductIds(anyList())).thenReturn(List.of());
+
+        // when
+        ProductCursorListResult result = productService.getProductListByCursor(new GetProductCursorCommand(null, 1, "price,asc"));
+
+        // then
+        assertThat(result.products()).hasSize(1);
+        assertThat(result.hasNext()).isTrue();
+        ProductCursor next = ProductCursor.decode(result.nextCursor());
+        assertThat(next.sortType()).isEqualTo(ProductSortType.PRICE_ASC);
+        assertThat(next.price()).isEqualTo(100_000L);
+    }
+
+    @Test
+    @DisplayName("커서 조회 - 커서의 정렬과 요청 정렬이 다르면 예외가 발생한다")
+    void getProductListByCursor_sortMismatch() {
+        String cursor = new ProductCursor(ProductSortType.PRICE_ASC, null, 100_000L, 1L).encode();
+
+        assertThatThrownBy(() ->
+                productService.getProductListByCursor(new GetProductCursorCommand(cursor, 10, "price,desc")))
+                .isInstanceOf(ProductException.InvalidCursorException.class);
+    }
+
     @Test
     @DisplayName("상품 상세 조회 성공")
     void getProductDetail_success() {
         // given
-        Product product = Product.create( "Jordan 1", "Nike", Money.wons(200_000),LocalDate.of(2024, 1, 1), "image.jpg", "best seller");
-        when(productRepository.findById(1L)).thenReturn(Optional.of(product));
+        when(productCatalogReader.getProduct(1L)).thenReturn(new ProductSnapshot(1L, "Jordan 1", 200_000L));
+        when(productCatalogReader.getStockQuantity(1L, 260)).thenReturn(7);
 
         // when
         ProductDetailResult result = productService.getProductDetail(new GetProductDetailCommand(1L, 260));
 
         // then
         assertThat(result.product().name()).isEqualTo("Jordan 1");
+        assertThat(result.product().stockQuantity()).isEqualTo(7);
+        verifyNoInteractions(productRepository, productStockRepository);
     }
 
     @Test
     @DisplayName("상품 상세 조회 실패 - 존재하지 않는 상품")
     void getProductDetail_fail() {
         // given
-        when(productRepository.findById(99L)).thenReturn(Optional.empty());
+        when(productCatalogReader.getProduct(99L)).thenThrow(new ProductException.NotFoundException(99L));
 
         // when & then
         assertThatThrownBy(() -> productService.getProductDetail(new GetProductDetailCommand(99L,260)))
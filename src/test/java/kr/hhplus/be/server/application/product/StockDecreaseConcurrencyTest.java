@@ -0,0 +1,113 @@
+package kr.hhplus.be.server.application.product;
+
+import kr.hhplus.be.server.common.vo.Money;
+import kr.hhplus.be.server.domain.product.Product;
+import kr.hhplus.be.server.domain.product.ProductRepository;
+import kr.hhplus.be.server.domain.product.ProductStock;
+import kr.hhplus.be.server.domain.product.ProductStockRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDate;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 재고 차감 경로 비교 테스트.
+ *
+ * <p>동일 SKU에 동시 요청이 몰릴 때 두 경로의 정합성과 처리 시간을 비교한다.</p>
+ * <ul>
+ *   <li><b>decrease</b>: Redisson 분산락 → 조회 → Java 검증 → save</li>
+ *   <li><b>decreaseConditionally</b>: 락 없이 {@code UPDATE ... WHERE stock_quantity >= ?} 한 번</li>
+ * </ul>
+ *
+ * <p>검증 포인트: 두 경로 모두 초과 차감이 없어야 하며, 소요 시간은 로그로 비교한다.</p>
+ */
+@SpringBootTest
+class StockDecreaseConcurrencyTest {
+
+    private static final int INITIAL_STOCK = 50;
+    private static final int REQUEST_COUNT = 100;
+    private static final int THREAD_COUNT = 20;
+    private static final int SIZE = 270;
+
+    @Autowired
+    StockService stockService;
+
+    @Autowired
+    ProductRepository productRepository;
+
+    @Autowired
+    ProductStockRepository productStockRepository;
+
+    @Test
+    @DisplayName("분산락 경로 - 동시 차감 시 재고를 초과해 차감하지 않는다")
+    void decrease_withDistributedLock() throws InterruptedException {
+        Long productId = createProductWithStock();
+
+        Result result = runConcurrently(productId, stockService::decrease);
+
+        assertNoOversell(productId, result);
+        System.out.printf("[분산락] 성공 %d건, 소요 %dms%n", result.success(), result.elapsedMillis());
+    }
+
+    @Test
+    @DisplayName("조건부 UPDATE 경로 - 동시 차감 시 재고를 초과해 차감하지 않는다")
+    void decrease_withConditionalUpdate() throws InterruptedException {
+        Long productId = createProductWithStock();
+
+        Result result = runConcurrently(productId, stockService::decreaseConditionally);
+
+        assertNoOversell(productId, result);
+        System.out.printf("[조건부 UPDATE] 성공 %d건, 소요 %dms%n", result.success(), result.elapsedMillis());
+    }
+
+    private Long createProductWithStock() {
+        Product product = productRepository.save(
+                Product.create("재고 비교 상품", "Brand", Money.wons(10000), LocalDate.now().minusDays(1), null, null));
+        productStockRepository.save(ProductStock.of(product.getId(), SIZE, INITIAL_STOCK));
+        return product.getId();
+    }
+
+    private Result runConcurrently(Long productId, Consumer<DecreaseStockCommand> decrease) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch latch = new CountDownLatch(REQUEST_COUNT);
+        AtomicInteger success = new AtomicInteger();
+
+        long start = System.nanoTime();
+        for (int i = 0; i < REQUEST_COUNT; i++) {
+            executor.execute(() -> {
+                try {
+                    decrease.accept(DecreaseStockCommand.of(productId, SIZE, 1));
+                    success.incrementAndGet();
+                } catch (Exception ignored) {
+                    // 재고 부족 또는 락 획득 실패
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await();
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        executor.shutdown();
+
+        return new Result(success.get(), elapsedMillis);
+    }
+
+    private void assertNoOversell(Long productId, Result result) {
+        ProductStock stock = productStockRepository.findByProductIdAndSize(productId, SIZE).orElseThrow();
+        assertThat(stock.getStockQuantity()).isGreaterThanOrEqualTo(0);
+        assertThat(result.success()).isEqualTo(INITIAL_STOCK - stock.getStockQuantity());
+    }
+
+    private record Result(int success, long elapsedMillis) {
+    }
+}
@@ -0,0 +1,167 @@
+package kr.hhplus.be.server.application.product;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.hhplus.be.server.common.lock.AopForTransaction;
+import kr.hhplus.be.server.domain.product.ProductStockRepository;
+import kr.hhplus.be.server.domain.product.StockDeduction;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class StockReservationLedgerTest {
+
+    @Mock
+    ProductStockRepository productStockRepository;
+
+    @Mock
+    AopForTransaction aopForTransaction;
+
+    @Mock
+    ApplicationEventPublisher eventPublisher;
+
+    SimpleMeterRegistry meterRegistry;
+    StockReservationLedger ledger;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        ledger = new StockReservationLedger(productStockRepository, aopForTransaction, eventPublisher, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("동시 선점 시 DB 조건부 차감에 성공한 수량까지만 선점한다")
+    void reserve_concurrently_neverOversell() throws InterruptedException {
+        doAnswer(inv -> ((Supplier<?>) inv.getArgument(0)).get()).when(aopForTransaction).run(any());
+        // DB 재고 100을 조건부 UPDATE로 표현
+        AtomicInteger dbStock = new AtomicInteger(100);
+        when(productStockRepository.decreaseIfAvailable(eq(1L), eq(270), anyInt())).thenAnswer(inv -> {
+            int quantity = inv.getArgument(2);
+            synchronized (dbStock) {
+                if (dbStock.get() < quantity) {
+                    return false;
+                }
+                dbStock.addAndGet(-quantity);
+                return true;
+            }
+        });
+
+        int threadCount = 500;
+        ExecutorService executor = Executors.newFixedThreadPool(32);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+        AtomicInteger success = new AtomicInteger();
+
+        for (int i = 0; i < threadCount; i++) {
+            executor.submit(() -> {
+                try {
+                    if (ledger.reserve(1L, 270, 1)) {
+                        success.incrementAndGet();
+                    }
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await();
+        executor.shutdown();
+
+        assertThat(success.get()).isEqualTo(100);
+        assertThat(dbStock.get()).isZero();
+        assertThat(ledger.allotment(1L, 270)).isZero();
+        // chunk(20) 단위로 떼어 오므로 성공한 DB 차감은 5번뿐이다
+        verify(productStockRepository, atLeast(5)).decreaseIfAvailable(eq(1L), eq(270), eq(20));
+    }
+
+    @Test
+    @DisplayName("DB 재고가 chunk보다 적으면 필요한 수량만 떼어 오고, 그마저 부족하면 선점하지 않는다")
+    void reserve_acquiresOnlyWhatIsNeededWhenStockIsLow() {
+        doAnswer(inv -> ((Supplier<?>) inv.getArgument(0)).get()).when(aopForTransaction).run(any());
+        when(productStockRepository.decreaseIfAvailable(1L, 270, 20)).thenReturn(false);
+        when(productStockRepository.decreaseIfAvailable(1L, 270, 3)).thenReturn(true, false);
+
+        assertThat(ledger.reserve(1L, 270, 3)).isTrue();
+        assertThat(ledger.allotment(1L, 270)).isZero();
+        assertThat(ledger.reserve(1L, 270, 3)).isFalse();
+        verify(eventPublisher, times(1)).publishEvent(StockChangedEvent.of(1L, 270));
+    }
+
+    @Test
+    @DisplayName("flush 시 한 주기 동안 쓰이지 않은 할당량만 batch UPDATE로 DB에 돌려준다")
+    void flush_returnsIdleAllotments() {
+        doAnswer(inv -> ((Supplier<?>) inv.getArgument(0)).get()).when(aopForTransaction).run(any());
+        when(productStockRepository.decreaseIfAvailable(1L, 270, 20)).thenReturn(true);
+        when(productStockRepository.restoreStocks(anyList())).thenReturn(new int[]{1});
+
+        ledger.reserve(1L, 270, 5);
+
+        // 방금 선점이 있었으므로 이번 주기에는 돌려주지 않는다
+        ledger.flush();
+        verify(productStockRepository, never()).restoreStocks(anyList());
+        assertThat(ledger.allotment(1L, 270)).isEqualTo(15);
+
+        ledger.flush();
+        verify(productStockRepository).restoreStocks(List.of(StockDeduction.of(1L, 270, 15)));
+        assertThat(ledger.allotment(1L, 270)).isZero();
+        assertThat(meterRegistry.get("stock.ledger.allotment").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("반환에 실패하면 할당량을 유지했다가 다음 주기에 다시 돌려준다")
+    void flush_keepsAllotmentOnFailure() {
+        when(aopForTransaction.run(any()))
+                .thenAnswer(inv -> ((Supplier<?>) inv.getArgument(0)).get())
+                .thenThrow(new IllegalStateException("batch UPDATE 결과의 행별 갱신 수를 알 수 없음 (SUCCESS_NO_INFO)"))
+                .thenAnswer(inv -> ((Supplier<?>) inv.getArgument(0)).get());
+        when(productStockRepository.decreaseIfAvailable(1L, 270, 20)).thenReturn(true);
+        when(productStockRepository.restoreStocks(anyList())).thenReturn(new int[]{1});
+
+        ledger.reserve(1L, 270, 4);
+        ledger.flush();
+        ledger.flush();
+        assertThat(ledger.allotment(1L, 270)).isEqualTo(16);
+
+        ledger.flush();
+        verify(productStockRepository).restoreStocks(List.of(StockDeduction.of(1L, 270, 16)));
+        assertThat(ledger.allotment(1L, 270)).isZero();
+    }
+
+    @Test
+    @DisplayName("선점 취소분은 할당량으로 돌아가고, 종료 시 남은 할당량을 모두 DB에 돌려준다")
+    void release_and_shutdown_returnEverything() {
+        doAnswer(inv -> ((Supplier<?>) inv.getArgument(0)).get()).when(aopForTransaction).run(any());
+        when(productStockRepository.decreaseIfAvailable(1L, 270, 20)).thenReturn(true);
+        when(productStockRepository.restoreStocks(anyList())).thenReturn(new int[]{1});
+
+        ledger.reserve(1L, 270, 5);
+        ledger.release(1L, 270, 5);
+        assertThat(ledger.allotment(1L, 270)).isEqualTo(20);
+
+        ledger.shutdown();
+        verify(productStockRepository).restoreStocks(List.of(StockDeduction.of(1L, 270, 20)));
+    }
+
+    @Test
+    @DisplayName("선점 이력이 없는 SKU는 취소할 수 없다")
+    void release_unknownSku_throws() {
+        assertThatThrownBy(() -> ledger.release(1L, 270, 1))
+                .isInstanceOf(IllegalStateException.class);
+    }
+}
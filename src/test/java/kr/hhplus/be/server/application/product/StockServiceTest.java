@@ -1,5 +1,7 @@
 package kr.hhplus.be.server.application.product;
 
+import kr.hhplus.be.server.common.lock.AopForTransaction;
+import kr.hhplus.be.server.common.lock.DistributedLockExecutor;
 import kr.hhplus.be.server.domain.product.*;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -8,8 +10,13 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.function.Supplier;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -21,6 +28,18 @@ class StockServiceTest {
     @Mock
     ProductStockRepository productStockRepository;
 
+    @Mock
+    StockReservationLedger stockReservationLedger;
+
+    @Mock
+    DistributedLockExecutor lockExecutor;
+
+    @Mock
+    AopForTransaction aopForTransaction;
+
+    @Mock
+    ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     StockService stockService;
 
@@ -43,6 +62,7 @@ class StockServiceTest {
         // then
         assertThat(stock.getStockQuantity()).isEqualTo(7); // 10 - 3
         verify(productStockRepository).save(stock);
+        verify(eventPublisher).publishEvent(StockChangedEvent.of(productId, size));
     }
 
     @Test
@@ -84,4 +104,120 @@ class StockServiceTest {
                 stockService.decrease(DecreaseStockCommand.of(productId, size, quantity)))
                 .isInstanceOf(ProductException.InsufficientStockException.class);
     }
+
+    @Test
+    @DisplayName("재고 선점 성공 - 같은 SKU는 합쳐서 원장에서 선점하고 DB는 직접 갱신하지 않는다")
+    void reserveAll_success() {
+        when(stockReservationLedger.reserve(1L, 270, 5)).thenReturn(true);
+        when(stockReservationLedger.reserve(2L, 260, 1)).thenReturn(true);
+
+        stockService.reserveAll(List.of(
+                DecreaseStockCommand.of(1L, 270, 3),
+                DecreaseStockCommand.of(2L, 260, 1),
+                DecreaseStockCommand.of(1L, 270, 2)));
+
+        verify(stockReservationLedger, never()).release(anyLong(), anyInt(), anyInt());
+        verify(productStockRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("재고 선점 실패 - 한 라인이 부족하면 앞서 선점한 라인을 원장에 되돌린다")
+    void reserveAll_fail_releasesReserved() {
+        when(stockReservationLedger.reserve(1L, 270, 3)).thenReturn(true);
+        when(stockReservationLedger.reserve(2L, 260, 1)).thenReturn(false);
+        when(productStockRepository.findByProductIdAndSize(2L, 260))
+                .thenReturn(Optional.of(ProductStock.of(2L, 260, 0)));
+
+        assertThatThrownBy(() -> stockService.reserveAll(List.of(
+                DecreaseStockCommand.of(1L, 270, 3),
+                DecreaseStockCommand.of(2L, 260, 1))))
+                .isInstanceOf(ProductException.InsufficientStockException.class);
+
+        verify(stockReservationLedger).release(1L, 270, 3);
+        verify(stockReservationLedger, never()).release(2L, 260, 1);
+    }
+
+    @Test
+    @DisplayName("조건부 차감 성공 - 엔티티 조회 없이 UPDATE 한 번으로 차감한다")
+    void decreaseConditionally_success() {
+        when(productStockRepository.decreaseIfAvailable(1L, 270, 3)).thenReturn(true);
+
+        stockService.decreaseConditionally(DecreaseStockCommand.of(1L, 270, 3));
+
+        verify(productStockRepository, never()).findByProductIdAndSize(anyLong(), anyInt());
+        verify(productStockRepository, never()).save(any());
+        verify(eventPublisher).publishEvent(StockChangedEvent.of(1L, 270));
+    }
+
+    @Test
+    @DisplayName("조건부 차감 실패 - 재고 부족")
+    void decreaseConditionally_fail_insufficient() {
+        when(productStockRepository.decreaseIfAvailable(1L, 270, 5)).thenReturn(false);
+        when(productStockRepository.findByProductIdAndSize(1L, 270))
+                .thenReturn(Optional.of(ProductStock.of(1L, 270, 2)));
+
+        assertThatThrownBy(() ->
+                stockService.decreaseConditionally(DecreaseStockCommand.of(1L, 270, 5)))
+                .isInstanceOf(ProductException.InsufficientStockException.class);
+    }
+
+    @Test
+    @DisplayName("조건부 차감 실패 - 재고 없음")
+    void decreaseConditionally_fail_stock_not_found() {
+        when(productStockRepository.decreaseIfAvailable(1L, 270, 1)).thenReturn(false);
+        when(productStockRepository.findByProductIdAndSize(1L, 270)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() ->
+                stockService.decreaseConditionally(DecreaseStockCommand.of(1L, 270, 1)))
+                .isInstanceOf(ProductException.NotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("일괄 차감 성공 - 모든 SKU를 한 번에 잠그고 같은 SKU는 수량을 합쳐 차감한다")
+    void decreaseAll_success() {
+        givenLockAndTransactionPassThrough();
+        when(productStockRepository.decreaseStocks(anyList())).thenReturn(new int[]{1, 1});
+
+        stockService.decreaseAll(List.of(
+                DecreaseStockCommand.of(1L, 270, 1),
+                DecreaseStockCommand.of(2L, 260, 2),
+                DecreaseStockCommand.of(1L, 270, 3)
+        ));
+
+        verify(lockExecutor).executeAll(argThat((Collection<String> keys) ->
+                keys.size() == 2 && keys.containsAll(List.of("stock:decrease:1:270", "stock:decrease:2:260"))), any());
+        verify(productStockRepository).decreaseStocks(argThat(deductions ->
+                deductions.size() == 2 && deductions.contains(StockDeduction.of(1L, 270, 4))));
+    }
+
+    @Test
+    @DisplayName("일괄 차감 실패 - 한 라인이라도 재고가 부족하면 예외가 발생한다")
+    void decreaseAll_fail_insufficient() {
+        givenLockAndTransactionPassThrough();
+        when(productStockRepository.decreaseStocks(anyList())).thenReturn(new int[]{0});
+        when(productStockRepository.findByProductIdAndSize(1L, 270)).thenReturn(Optional.of(ProductStock.of(1L, 270, 3)));
+
+        assertThatThrownBy(() ->
+                stockService.decreaseAll(List.of(DecreaseStockCommand.of(1L, 270, 5))))
+                .isInstanceOf(ProductException.InsufficientStockException.class);
+    }
+
+    @Test
+    @DisplayName("일괄 차감 실패 - 재고 행이 없으면 상품 없음 예외가 발생한다")
+    void decreaseAll_fail_stock_not_found() {
+        givenLockAndTransactionPassThrough();
+        when(productStockRepository.decreaseStocks(anyList())).thenReturn(new int[]{0});
+        when(productStockRepository.findByProductIdAndSize(1L, 270)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() ->
+                stockService.decreaseAll(List.of(DecreaseStockCommand.of(1L, 270, 5))))
+                .isInstanceOf(ProductException.NotFoundException.class);
+    }
+
+    private void givenLockAndTransactionPassThrough() {
+        when(lockExecutor.executeAll(anyCollection(), any()))
+                .thenAnswer(inv -> ((Callable<?>) inv.getArgument(1)).call());
+        when(aopForTransaction.run(any()))
+                .thenAnswer(inv -> ((Supplier<?>) inv.getArgument(0)).get());
+    }
 }
@@ -0,0 +1,145 @@
+package kr.hhplus.be.server.application.productstatistics;
+
+import kr.hhplus.be.server.common.lock.AopForTransaction;
+import kr.hhplus.be.server.domain.productstatistics.ClaimedSales;
+import kr.hhplus.be.server.domain.productstatistics.ProductSalesBackup;
+import kr.hhplus.be.server.domain.productstatistics.ProductSalesClaimRepository;
+import kr.hhplus.be.server.domain.productstatistics.ProductSalesDelta;
+import kr.hhplus.be.server.domain.productstatistics.ProductStatisticsRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProductStatisticsAccumulatorTest {
+
+    @Mock
+    ProductStatisticsRepository repository;
+
+    @Mock
+    ProductSalesClaimRepository claimRepository;
+
+    @Mock
+    ProductSalesBackup backup;
+
+    @Mock
+    AopForTransaction aopForTransaction;
+
+    ProductStatisticsAccumulator accumulator;
+
+    private final LocalDate today = LocalDate.now();
+
+    @BeforeEach
+    void setUp() {
+        accumulator = new ProductStatisticsAccumulator(repository, claimRepository, backup, aopForTransaction);
+        lenient().when(aopForTransaction.run(any()))
+                .thenAnswer(inv -> ((Supplier<?>) inv.getArgument(0)).get());
+    }
+
+    @Test
+    @DisplayName("같은 상품/일자의 판매는 한 건의 증분으로 합쳐 반영한다")
+    void flush_coalescesSales() {
+        when(backup.claim()).thenReturn(ClaimedSales.empty());
+
+        accumulator.add(1L, today, 2, 20_000);
+        accumulator.add(1L, today, 3, 30_000);
+        accumulator.add(2L, today, 1, 5_000);
+        accumulator.flush();
+
+        verify(repository).increaseAll(argThat(deltas -> deltas.size() == 2
+                && deltas.contains(new ProductSalesDelta(1L, today, 5, 50_000))
+                && deltas.contains(new ProductSalesDelta(2L, today, 1, 5_000))));
+
+        // 반영된 증분은 다시 보내지 않는다
+        accumulator.flush();
+        verify(repository, times(1)).increaseAll(anyList());
+    }
+
+    @Test
+    @DisplayName("보관소에 남은 증분도 함께 반영하고, 반영 기록과 함께 커밋된 뒤에 보관분을 지운다")
+    void flush_includesBackup() {
+        ClaimedSales claimed = new ClaimedSales("claim-1", List.of(
+                new ProductSalesDelta(1L, today, 4, 0),
+                new ProductSalesDelta(1L, today, 0, 40_000)
+        ));
+        when(backup.claim()).thenReturn(claimed);
+
+        accumulator.add(1L, today, 1, 10_000);
+        accumulator.flush();
+
+        InOrder inOrder = inOrder(repository, claimRepository, backup);
+        inOrder.verify(repository).increaseAll(List.of(new ProductSalesDelta(1L, today, 5, 50_000)));
+        inOrder.verify(claimRepository).markApplied("claim-1");
+        inOrder.verify(backup).acknowledge("claim-1");
+    }
+
+    @Test
+    @DisplayName("DB 반영에 실패하면 떼어낸 보관분은 원자적으로 되돌리고 메모리 누적분만 새로 보관한다")
+    void flush_restoresClaimedBackupOnFailure() {
+        ClaimedSales claimed = new ClaimedSales("claim-1", List.of(new ProductSalesDelta(1L, today, 4, 40_000)));
+        when(backup.claim()).thenReturn(claimed);
+        doThrow(new RuntimeException("DB down")).when(repository).increaseAll(anyList());
+
+        accumulator.add(2L, today, 1, 5_000);
+        accumulator.flush();
+
+        verify(backup).save(List.of(new ProductSalesDelta(2L, today, 1, 5_000)));
+        verify(backup).restore("claim-1");
+        verify(backup, never()).acknowledge(anyString());
+    }
+
+    @Test
+    @DisplayName("확인되지 않은 보관분은 반영 기록이 있으면 지우고, 없으면 보관소에 되돌린다")
+    void recoverAbandonedBackup() {
+        when(backup.findAbandonedClaimIds(any())).thenReturn(List.of("applied", "unapplied"));
+        when(claimRepository.isApplied("applied")).thenReturn(true);
+        when(claimRepository.isApplied("unapplied")).thenReturn(false);
+
+        accumulator.recoverAbandonedBackup();
+
+        verify(backup).acknowledge("applied");
+        verify(backup, never()).restore("applied");
+        verify(backup).restore("unapplied");
+        verify(backup, never()).acknowledge("unapplied");
+        verify(claimRepository).deleteAppliedBefore(any());
+    }
+
+    @Test
+    @DisplayName("DB 반영에 실패하면 증분을 보관소로 옮긴다")
+    void flush_movesToBackupOnFailure() {
+        when(backup.claim()).thenReturn(ClaimedSales.empty());
+        doThrow(new RuntimeException("DB down")).when(repository).increaseAll(anyList());
+
+        accumulator.add(1L, today, 2, 20_000);
+        accumulator.flush();
+
+        verify(backup).save(List.of(new ProductSalesDelta(1L, today, 2, 20_000)));
+    }
+
+    @Test
+    @DisplayName("보관소마저 실패하면 메모리에 남겨 다음 주기에 다시 반영한다")
+    void flush_keepsInMemoryWhenBackupFails() {
+        when(backup.claim()).thenReturn(ClaimedSales.empty());
+        doThrow(new RuntimeException("DB down")).doNothing().when(repository).increaseAll(anyList());
+        doThrow(new RuntimeException("redis down")).when(backup).save(anyList());
+
+        accumulator.add(1L, today, 2, 20_000);
+        accumulator.flush();
+        accumulator.flush();
+
+        verify(repository, times(2)).increaseAll(List.of(new ProductSalesDelta(1L, today, 2, 20_000)));
+    }
+}
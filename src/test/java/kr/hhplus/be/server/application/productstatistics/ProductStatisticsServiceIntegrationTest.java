@@ -28,6 +28,9 @@ class ProductStatisticsServiceIntegrationTest {
     @Autowired
     ProductStatisticsRepository repository;
 
+    @Autowired
+    ProductStatisticsAccumulator accumulator;
+
     @Test
     @DisplayName("오늘자 통계가 없을 경우 새로 생성되어 저장된다")
     void record_createsNewStatistics() {
@@ -43,6 +46,7 @@ class ProductStatisticsServiceIntegrationTest {
 
         // when
         service.record(new RecordSalesCommand(productId, quantity, unitAmount));
+        accumulator.flush();
 
         // then
         ProductStatistics stats = repository.findByProductIdAndStatDate(productId, today)
@@ -68,6 +72,7 @@ class ProductStatisticsServiceIntegrationTest {
 
         // when
         service.record(new RecordSalesCommand(productId, 2, 5000L));
+        accumulator.flush();
 
         // then
         ProductStatistics stats = repository.findByProductIdAndStatDate(productId, today).orElseThrow();
@@ -102,5 +107,27 @@ class ProductStatisticsServiceIntegrationTest {
         });
     }
 
+    @Test
+    @DisplayName("기간 내 상품별 판매량 합계 상위 N개를 DB에서 집계해 조회한다")
+    void findTopSellingProducts_aggregatesInDatabase() {
+        // given: 다른 테스트 데이터와 겹치지 않는 과거 기간
+        LocalDate from = LocalDate.of(2000, 1, 1);
+        LocalDate to = from.plusDays(1);
+        repository.saveAll(List.of(
+                new ProductStatistics(new ProductStatisticsId(1L, from), 3, Money.wons(0)),
+                new ProductStatistics(new ProductStatisticsId(1L, to), 4, Money.wons(0)),
+                new ProductStatistics(new ProductStatisticsId(2L, from), 10, Money.wons(0)),
+                new ProductStatistics(new ProductStatisticsId(3L, to), 1, Money.wons(0)),
+                new ProductStatistics(new ProductStatisticsId(4L, to.plusDays(1)), 100, Money.wons(0)) // 기간 밖
+        ));
 
+        // when
+        List<ProductSalesInfo> result = repository.findTopSellingProducts(from, to, 2);
+
+        // then
+        assertThat(result).containsExactly(
+                new ProductSalesInfo(2L, 10L),
+                new ProductSalesInfo(1L, 7L)
+        );
+    }
 }
@@ -1,6 +1,7 @@
 package kr.hhplus.be.server.application.productstatistics;
 
-import kr.hhplus.be.server.domain.productstatistics.ProductStatistics;
+import kr.hhplus.be.server.application.product.PopularProductCriteria;
+import kr.hhplus.be.server.domain.productstatistics.ProductSalesRanking;
 import kr.hhplus.be.server.domain.productstatistics.ProductStatisticsRepository;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -10,10 +11,15 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDate;
-import java.util.Optional;
+import java.util.List;
 
-import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
-import static org.mockito.ArgumentMatchers.argThat;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -23,49 +29,85 @@ class ProductStatisticsServiceTest {
     @Mock
     ProductStatisticsRepository repository;
 
+    @Mock
+    ProductSalesRanking salesRanking;
+
+    @Mock
+    ProductStatisticsAccumulator statisticsAccumulator;
+
     @InjectMocks
     ProductStatisticsService service;
 
     @Test
-    @DisplayName("오늘자 통계가 존재하지 않으면 새로 생성 후 저장한다")
-    void record_createsNewStatsIfNotExist() {
+    @DisplayName("판매 기록은 DB에 바로 쓰지 않고 누산기와 랭킹에 누적한다")
+    void record_accumulatesWithoutDatabaseRoundTrip() {
         // given
         Long productId = 1L;
         int quantity = 3;
         long amount = 10000;
         LocalDate today = LocalDate.now();
 
-        when(repository.findByProductIdAndStatDate(productId, today)).thenReturn(Optional.empty());
-
         // when
         service.record(new RecordSalesCommand(productId, quantity, amount));
 
         // then
-        verify(repository).save(argThat(stats ->
-                stats.getProductId().equals(productId) &&
-                        stats.getSalesCount() == quantity &&
-                        stats.getSalesAmount() == amount * quantity
-        ));
+        verify(statisticsAccumulator).add(productId, today, quantity, amount * quantity);
+        verify(salesRanking).increase(productId, today, quantity);
+        verify(repository, never()).save(any());
+        verify(repository, never()).findByProductIdAndStatDate(any(), any());
     }
 
     @Test
-    @DisplayName("오늘자 통계가 존재하면 누적 후 저장한다")
-    void record_updatesExistingStats() {
+    @DisplayName("랭킹 누적에 실패해도 판매 기록은 누산기에 남는다")
+    void record_keepsAccumulatingWhenRankingFails() {
+        // given
+        LocalDate today = LocalDate.now();
+        doThrow(new IllegalStateException("redis down")).when(salesRanking).increase(1L, today, 2);
+
+        // when
+        service.record(new RecordSalesCommand(1L, 2, 5000));
+
+        // then
+        verify(statisticsAccumulator).add(1L, today, 2, 10000L);
+    }
+
+    @Test
+    @DisplayName("인기 상품은 랭킹에서 조회하고, 적재되지 않은 일자만 DB에서 채운다")
+    void getTopSellingProducts_readsFromRanking() {
         // given
-        Long productId = 1L;
-        int quantity = 2;
-        long amount = 5000;
         LocalDate today = LocalDate.now();
+        LocalDate from = today.minusDays(1);
+        List<ProductSalesInfo> ranked = List.of(new ProductSalesInfo(1L, 10L), new ProductSalesInfo(2L, 5L));
 
-        ProductStatistics existing = ProductStatistics.create(productId, today);
-        when(repository.findByProductIdAndStatDate(productId, today)).thenReturn(Optional.of(existing));
+        when(salesRanking.findUnloadedDays(from, today)).thenReturn(List.of(today));
+        when(repository.findTopSellingProducts(today, today, Integer.MAX_VALUE))
+                .thenReturn(List.of(new ProductSalesInfo(1L, 3L)));
+        when(salesRanking.findTop(from, today, 5)).thenReturn(ranked);
 
         // when
-        service.record(new RecordSalesCommand(productId, quantity, amount));
+        List<ProductSalesInfo> result = service.getTopSellingProducts(new PopularProductCriteria(1, 5));
+
+        // then
+        assertThat(result).isEqualTo(ranked);
+        verify(salesRanking).load(today, List.of(new ProductSalesInfo(1L, 3L)));
+        verify(salesRanking, never()).load(eq(from), any());
+    }
+
+    @Test
+    @DisplayName("랭킹 조회에 실패하면 DB 집계로 대체한다")
+    void getTopSellingProducts_fallbackToDatabase() {
+        // given
+        LocalDate today = LocalDate.now();
+        List<ProductSalesInfo> fromDb = List.of(new ProductSalesInfo(3L, 7L));
+
+        when(salesRanking.findUnloadedDays(any(), any())).thenThrow(new IllegalStateException("redis down"));
+        when(repository.findTopSellingProducts(today.minusDays(3), today, 5)).thenReturn(fromDb);
+
+        // when
+        List<ProductSalesInfo> result = service.getTopSellingProducts(new PopularProductCriteria(3, 5));
 
         // then
-        assertThat(existing.getSalesCount()).isEqualTo(quantity);
-        assertThat(existing.getSalesAmount()).isEqualTo(quantity * amount);
-        verify(repository).save(existing);
+        assertThat(result).isEqualTo(fromDb);
+        verify(repository, times(1)).findTopSellingProducts(any(), any(), anyInt());
     }
 }
@@ -0,0 +1,96 @@
+package kr.hhplus.be.server.common.cache;
+
+import kr.hhplus.be.server.application.product.PopularProductResult;
+import kr.hhplus.be.server.config.CacheValueCodecs;
+import kr.hhplus.be.server.config.RedisCacheConfig;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 인기 상품 캐시 값 직렬화 비교.
+ *
+ * <ul>
+ *   <li><b>기존</b>: {@code @class} 타입 정보를 포함한 Jackson JSON</li>
+ *   <li><b>개선</b>: 타입 ID 테이블 기반 바이너리 포맷</li>
+ * </ul>
+ *
+ * <p>엔트리당 바이트 수와 직렬화/역직렬화 ns/op를 출력한다.</p>
+ */
+class CacheValueSerializerBenchmarkTest {
+
+    private static final int WARM_UP = 20_000;
+    private static final int ITERATIONS = 50_000;
+
+    private final RedisSerializer<Object> json = RedisCacheConfig.jsonValueSerializer(new Jackson2ObjectMapperBuilder());
+    private final RedisSerializer<Object> binary = new BinaryRedisSerializer(CacheValueCodecs.registry(), json);
+
+    @Test
+    @DisplayName("바이너리 포맷은 인기 상품 목록을 동일하게 복원하면서 JSON보다 작다")
+    void binarySerializer_isSmallerThanJson() {
+        List<PopularProductResult> value = popularProducts(5);
+
+        byte[] jsonBytes = json.serialize(value);
+        byte[] binaryBytes = binary.serialize(value);
+
+        assertThat(binary.deserialize(binaryBytes)).isEqualTo(value);
+        assertThat(json.deserialize(jsonBytes)).isEqualTo(value);
+        assertThat(binaryBytes.length).isLessThan(jsonBytes.length);
+
+        System.out.printf("[JSON] %d bytes, ser %d ns/op, deser %d ns/op%n",
+                jsonBytes.length, serializeNanos(json, value), deserializeNanos(json, jsonBytes));
+        System.out.printf("[BINARY] %d bytes, ser %d ns/op, deser %d ns/op%n",
+                binaryBytes.length, serializeNanos(binary, value), deserializeNanos(binary, binaryBytes));
+    }
+
+    @Test
+    @DisplayName("전환 이전에 저장된 JSON 값도 바이너리 직렬화기로 읽을 수 있다")
+    void binarySerializer_readsLegacyJson() {
+        List<PopularProductResult> value = popularProducts(3);
+
+        assertThat(binary.deserialize(json.serialize(value))).isEqualTo(value);
+    }
+
+    @Test
+    @DisplayName("등록되지 않은 타입은 JSON으로 기록한다")
+    void unregisteredType_fallsBackToJson() {
+        byte[] bytes = binary.serialize("plain");
+
+        assertThat(bytes[0]).isNotEqualTo(BinaryRedisSerializer.MAGIC);
+        assertThat(binary.deserialize(bytes)).isEqualTo("plain");
+    }
+
+    private static List<PopularProductResult> popularProducts(int size) {
+        return LongStream.rangeClosed(1, size)
+                .mapToObj(id -> new PopularProductResult(id, "인기 상품 " + id, 129_000L, 1_000L - id))
+                .toList();
+    }
+
+    private static long serializeNanos(RedisSerializer<Object> serializer, Object value) {
+        for (int i = 0; i < WARM_UP; i++) {
+            serializer.serialize(value);
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            serializer.serialize(value);
+        }
+        return (System.nanoTime() - start) / ITERATIONS;
+    }
+
+    private static long deserializeNanos(RedisSerializer<Object> serializer, byte[] bytes) {
+        for (int i = 0; i < WARM_UP; i++) {
+            serializer.deserialize(bytes);
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            serializer.deserialize(bytes);
+        }
+        return (System.nanoTime() - start) / ITERATIONS;
+    }
+}
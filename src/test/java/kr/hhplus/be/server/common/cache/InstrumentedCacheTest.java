@@ -0,0 +1,96 @@
+package kr.hhplus.be.server.common.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class InstrumentedCacheTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private ConcurrentMapCache target;
+    private InstrumentedCache cache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        target = spy(new ConcurrentMapCache("popularProducts"));
+        cache = new InstrumentedCache(target, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("sync 조회는 로더 실행 여부로 hit/miss를 기록하고 원본 캐시는 한 번만 조회한다")
+    void syncGet_recordsMissThenHit() {
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.get("popular:3:5", () -> "v" + loads.incrementAndGet());
+        cache.get("popular:3:5", () -> "v" + loads.incrementAndGet());
+
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(requestCount("miss")).isEqualTo(1);
+        assertThat(requestCount("hit")).isEqualTo(1);
+        assertThat(meterRegistry.get("cache.loader").tag("result", "success").timer().count()).isEqualTo(1);
+        verify(target, times(2)).get(eq("popular:3:5"), any(Callable.class));
+    }
+
+    @Test
+    @DisplayName("일반 조회는 값 존재 여부로 hit/miss를 기록한다")
+    void get_recordsHitAndMiss() {
+        cache.get("k");
+        cache.put("k", "v");
+        cache.get("k");
+
+        assertThat(requestCount("miss")).isEqualTo(1);
+        assertThat(requestCount("hit")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("로더 실패는 failure로 기록된다")
+    void loaderFailure_isRecorded() {
+        assertThatThrownBy(() -> cache.get("k", () -> {
+            throw new IllegalStateException("DB 장애");
+        })).isInstanceOf(Cache.ValueRetrievalException.class);
+
+        assertThat(meterRegistry.get("cache.loader").tag("result", "failure").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("삭제는 키 단위와 전체 단위를 구분해 기록한다")
+    void evict_recordsScope() {
+        cache.put("k", "v");
+        cache.evict("k");
+        cache.clear();
+
+        assertThat(meterRegistry.get("cache.evict").tag("scope", "key").counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("cache.evict").tag("scope", "all").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("CacheManager는 같은 이름에 같은 계측 캐시를 돌려준다")
+    void cacheManager_reusesInstrumentedCache() {
+        InstrumentedCacheManager manager = new InstrumentedCacheManager(
+                new ConcurrentMapCacheManager("popularProducts"), meterRegistry);
+
+        assertThat(manager.getCache("popularProducts"))
+                .isInstanceOf(InstrumentedCache.class)
+                .isSameAs(manager.getCache("popularProducts"));
+    }
+
+    private long requestCount(String result) {
+        return meterRegistry.get("cache.request").tag("cache", "popularProducts").tag("result", result).timer().count();
+    }
+}
@@ -0,0 +1,148 @@
+package kr.hhplus.be.server.common.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RefreshAheadCacheTest {
+
+    private static final Duration SOFT_TTL = Duration.ofMinutes(10);
+
+    private ConcurrentMapCache remote;
+    private MutableClock clock;
+    private List<Runnable> scheduledRefreshes;
+    private boolean leaseAvailable;
+    private RefreshAheadCache cache;
+
+    @BeforeEach
+    void setUp() {
+        remote = new ConcurrentMapCache("popularProducts");
+        clock = new MutableClock(Instant.parse("2025-01-01T00:00:00Z"));
+        scheduledRefreshes = new ArrayList<>();
+        leaseAvailable = true;
+        // beta = 0 이면 XFetch 조기 만료 없이 논리 TTL 기준으로만 판단한다
+        cache = new RefreshAheadCache(remote, RefreshAheadSpec.of(SOFT_TTL, 0.0, Duration.ofSeconds(30)),
+                (key, ttl) -> leaseAvailable, scheduledRefreshes::add, clock);
+    }
+
+    @Test
+    @DisplayName("콜드 미스는 동기 로딩 후 envelope으로 저장한다")
+    void coldMiss_loadsSynchronously() {
+        String value = cache.get("k", () -> "v1");
+
+        assertThat(value).isEqualTo("v1");
+        assertThat(remote.get("k").get()).isInstanceOf(CacheEnvelope.class);
+        assertThat(cache.get("k").get()).isEqualTo("v1");
+    }
+
+    @Test
+    @DisplayName("논리 TTL 이전에는 갱신하지 않는다")
+    void beforeSoftExpiry_doesNotRefresh() {
+        cache.get("k", () -> "v1");
+        clock.advance(SOFT_TTL.minusSeconds(1));
+
+        cache.get("k", () -> "v2");
+
+        assertThat(scheduledRefreshes).isEmpty();
+    }
+
+    @Test
+    @DisplayName("논리 TTL이 지나면 기존 값을 응답하고 백그라운드에서 한 번만 갱신한다")
+    void afterSoftExpiry_servesStaleAndRefreshesOnce() {
+        AtomicInteger loads = new AtomicInteger();
+        cache.get("k", () -> "v" + loads.incrementAndGet());
+        clock.advance(SOFT_TTL.plusSeconds(1));
+
+        String first = cache.get("k", () -> "v" + loads.incrementAndGet());
+        String second = cache.get("k", () -> "v" + loads.incrementAndGet());
+
+        assertThat(first).isEqualTo("v1");
+        assertThat(second).isEqualTo("v1");
+        assertThat(scheduledRefreshes).hasSize(1);
+
+        scheduledRefreshes.get(0).run();
+
+        assertThat(cache.get("k", () -> "unused")).isEqualTo("v2");
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("다른 노드가 리스를 잡고 있으면 갱신하지 않고 기존 값을 응답한다")
+    void leaseHeldByOtherNode_skipsRefresh() {
+        cache.get("k", () -> "v1");
+        clock.advance(SOFT_TTL.plusSeconds(1));
+        leaseAvailable = false;
+
+        assertThat(cache.get("k", () -> "v2")).isEqualTo("v1");
+        assertThat(scheduledRefreshes).isEmpty();
+    }
+
+    @Test
+    @DisplayName("갱신이 실패해도 기존 값을 유지하고 다음 요청에서 다시 시도한다")
+    void refreshFailure_keepsStaleValue() {
+        cache.get("k", () -> "v1");
+        clock.advance(SOFT_TTL.plusSeconds(1));
+
+        cache.get("k", () -> {
+            throw new IllegalStateException("DB 장애");
+        });
+        scheduledRefreshes.get(0).run();
+
+        assertThat(cache.get("k").get()).isEqualTo("v1");
+        cache.get("k", () -> "v2");
+        assertThat(scheduledRefreshes).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("XFetch는 계산 비용이 클수록 논리 TTL 이전에 갱신 대상이 된다")
+    void xfetch_refreshesEarlierForExpensiveEntries() {
+        long now = 1_000_000L;
+        CacheEnvelope cheap = new CacheEnvelope("v", 10, now + 1_000);
+        CacheEnvelope expensive = new CacheEnvelope("v", 5_000, now + 1_000);
+
+        // random = e^-1 → 조기 만료 폭 = delta * beta
+        double random = Math.exp(-1);
+
+        assertThat(cheap.shouldRefresh(now, 1.0, random)).isFalse();
+        assertThat(expensive.shouldRefresh(now, 1.0, random)).isTrue();
+    }
+
+    private static class MutableClock extends Clock {
+
+        private Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(java.time.ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
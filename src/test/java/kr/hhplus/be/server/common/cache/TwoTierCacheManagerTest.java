@@ -0,0 +1,97 @@
+package kr.hhplus.be.server.common.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TwoTierCacheManagerTest {
+
+    private ConcurrentMapCacheManager remoteCacheManager;
+    private List<String> published;
+    private TwoTierCacheManager cacheManager;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        remoteCacheManager = new ConcurrentMapCacheManager("popularProducts", "other");
+        published = new ArrayList<>();
+        meterRegistry = new SimpleMeterRegistry();
+        cacheManager = new TwoTierCacheManager(
+                remoteCacheManager,
+                Map.of("popularProducts", LocalCacheSpec.of(100, Duration.ofMinutes(1))),
+                (cacheName, key) -> published.add(cacheName + ":" + key),
+                meterRegistry
+        );
+    }
+
+    @Test
+    @DisplayName("로컬 설정이 없는 캐시는 원격 캐시를 그대로 반환한다")
+    void getCache_withoutLocalSpec_returnsRemote() {
+        assertThat(cacheManager.getCache("other")).isSameAs(remoteCacheManager.getCache("other"));
+        assertThat(cacheManager.getCache("popularProducts")).isInstanceOf(TwoTierCache.class);
+    }
+
+    @Test
+    @DisplayName("로컬에 적재된 뒤에는 원격 값이 사라져도 로컬에서 응답한다")
+    void get_servesFromLocalAfterFirstRead() {
+        Cache remote = remoteCacheManager.getCache("popularProducts");
+        remote.put("popular:3:5", "value");
+        Cache cache = cacheManager.getCache("popularProducts");
+
+        assertThat(cache.get("popular:3:5").get()).isEqualTo("value");
+        remote.evict("popular:3:5");
+
+        assertThat(cache.get("popular:3:5").get()).isEqualTo("value");
+        assertThat(meterRegistry.get("cache.gets").tag("result", "hit").functionCounter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("sync 로딩은 로컬/원격 모두 비어 있을 때만 한 번 계산한다")
+    void getWithLoader_loadsOnce() {
+        Cache cache = cacheManager.getCache("popularProducts");
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.get("k", () -> "v" + loads.incrementAndGet());
+        cache.get("k", () -> "v" + loads.incrementAndGet());
+
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(remoteCacheManager.getCache("popularProducts").get("k").get()).isEqualTo("v1");
+    }
+
+    @Test
+    @DisplayName("쓰기/삭제는 원격에 반영하고 다른 노드에 무효화를 전파한다")
+    void putAndEvict_publishInvalidation() {
+        Cache cache = cacheManager.getCache("popularProducts");
+
+        cache.put("k", "v");
+        cache.evict("k");
+        cache.clear();
+
+        assertThat(remoteCacheManager.getCache("popularProducts").get("k")).isNull();
+        assertThat(published).containsExactly("popularProducts:k", "popularProducts:k", "popularProducts:null");
+    }
+
+    @Test
+    @DisplayName("다른 노드의 무효화 메시지를 받으면 로컬 계층만 비운다")
+    void evictLocal_dropsOnlyLocalCopy() {
+        Cache remote = remoteCacheManager.getCache("popularProducts");
+        Cache cache = cacheManager.getCache("popularProducts");
+        cache.put("k", "old");
+        remote.put("k", "new"); // 다른 노드가 원격 값을 갱신한 상황
+
+        cacheManager.evictLocal("popularProducts", "k");
+
+        assertThat(cache.get("k").get()).isEqualTo("new");
+    }
+}
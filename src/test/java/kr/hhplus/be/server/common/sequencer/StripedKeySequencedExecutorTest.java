@@ -0,0 +1,186 @@
+package kr.hhplus.be.server.common.sequencer;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class StripedKeySequencedExecutorTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private StripedKeySequencedExecutor executor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        executor = new StripedKeySequencedExecutor(4, 1000, 3000, meterRegistry);
+        executor.start();
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        executor.stop();
+    }
+
+    @Test
+    @DisplayName("같은 키의 작업은 동시에 실행되지 않는다")
+    void sameKey_isSerialized() throws Exception {
+        int requests = 200;
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        int[] counter = {0};
+
+        ExecutorService callers = Executors.newFixedThreadPool(16);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < requests; i++) {
+            futures.add(callers.submit(() -> executor.execute(1L, () -> {
+                maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                counter[0]++;
+                inFlight.decrementAndGet();
+                return null;
+            })));
+        }
+        for (Future<?> future : futures) {
+            future.get(5, TimeUnit.SECONDS);
+        }
+        callers.shutdown();
+
+        assertThat(maxInFlight.get()).isEqualTo(1);
+        assertThat(counter[0]).isEqualTo(requests);
+        assertThat(meterRegistry.get("sequencer.wait").timer().count()).isEqualTo(requests);
+    }
+
+    @Test
+    @DisplayName("다른 stripe의 키는 병렬로 실행된다")
+    void differentStripes_runInParallel() throws Exception {
+        CountDownLatch bothStarted = new CountDownLatch(2);
+        ExecutorService callers = Executors.newFixedThreadPool(2);
+
+        // 0과 1은 서로 다른 stripe로 배정된다
+        Future<Boolean> first = callers.submit(() -> executor.execute(0L, () -> awaitOther(bothStarted)));
+        Future<Boolean> second = callers.submit(() -> executor.execute(1L, () -> awaitOther(bothStarted)));
+
+        assertThat(first.get(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(second.get(5, TimeUnit.SECONDS)).isTrue();
+        callers.shutdown();
+    }
+
+    @Test
+    @DisplayName("작업의 RuntimeException은 호출자에게 그대로 전파된다")
+    void exception_isPropagated() {
+        assertThatThrownBy(() -> executor.execute(1L, () -> {
+            throw new IllegalArgumentException("잔액 부족");
+        }))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("잔액 부족");
+
+        // 예외 이후에도 stripe 스레드는 계속 동작한다
+        assertThat(executor.execute(1L, () -> "ok")).isEqualTo("ok");
+    }
+
+    @Test
+    @DisplayName("같은 stripe 안에서 다시 제출하면 교착 없이 바로 실행된다")
+    void nestedSubmit_runsInline() {
+        String result = executor.execute(1L, () -> executor.execute(1L, () -> "nested"));
+
+        assertThat(result).isEqualTo("nested");
+    }
+
+    @Test
+    @DisplayName("큐가 가득 차면 거절하고 rejected 카운터를 올린다")
+    void fullQueue_rejects() throws Exception {
+        SimpleMeterRegistry smallRegistry = new SimpleMeterRegistry();
+        StripedKeySequencedExecutor small = new StripedKeySequencedExecutor(1, 1, 3000, smallRegistry);
+        small.start();
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch running = new CountDownLatch(1);
+        ExecutorService callers = Executors.newFixedThreadPool(2);
+
+        try {
+            callers.submit(() -> small.execute(1L, () -> {
+                running.countDown();
+                return await(release);
+            }));
+            running.await(5, TimeUnit.SECONDS);
+            callers.submit(() -> small.execute(1L, () -> true)); // 큐의 유일한 자리를 차지
+            waitUntilQueued(smallRegistry);
+
+            assertThatThrownBy(() -> small.execute(1L, () -> true))
+                    .isInstanceOf(IllegalStateException.class);
+            assertThat(smallRegistry.get("sequencer.rejected").counter().count()).isEqualTo(1);
+        } finally {
+            release.countDown();
+            callers.shutdown();
+            small.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("결과를 제한 시간 안에 받지 못하면 타임아웃 예외를 던지고, 시작 전 작업은 실행하지 않는다")
+    void slowStripe_timesOutAndCancelsQueuedTask() throws Exception {
+        SimpleMeterRegistry timeoutRegistry = new SimpleMeterRegistry();
+        StripedKeySequencedExecutor slow = new StripedKeySequencedExecutor(1, 10, 100, timeoutRegistry);
+        slow.start();
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch running = new CountDownLatch(1);
+        AtomicInteger executed = new AtomicInteger();
+        ExecutorService callers = Executors.newFixedThreadPool(1);
+
+        try {
+            Future<?> blocking = callers.submit(() -> slow.execute(1L, () -> {
+                running.countDown();
+                return await(release);
+            }));
+            running.await(5, TimeUnit.SECONDS);
+
+            assertThatThrownBy(() -> slow.execute(1L, executed::incrementAndGet))
+                    .isInstanceOfSatisfying(SequencerTimeoutException.class,
+                            e -> assertThat(e.isCancelled()).isTrue());
+
+            release.countDown();
+            assertThatThrownBy(() -> blocking.get(5, TimeUnit.SECONDS))
+                    .hasCauseInstanceOf(SequencerTimeoutException.class);
+            assertThat(slow.execute(1L, () -> "ok")).isEqualTo("ok");
+            assertThat(executed.get()).isZero();
+            assertThat(timeoutRegistry.get("sequencer.timeout").counter().count()).isEqualTo(2);
+        } finally {
+            release.countDown();
+            callers.shutdown();
+            slow.stop();
+        }
+    }
+
+    private boolean awaitOther(CountDownLatch bothStarted) {
+        bothStarted.countDown();
+        return await(bothStarted);
+    }
+
+    private boolean await(CountDownLatch latch) {
+        try {
+            return latch.await(3, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void waitUntilQueued(SimpleMeterRegistry registry) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (registry.get("sequencer.queue.depth").gauge().value() < 1 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+}
@@ -5,6 +5,8 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.jsontype.BasicPolymorphicTypeValidator;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.MeterRegistry;
+import kr.hhplus.be.server.common.cache.InstrumentedCacheManager;
 import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.cache.CacheManager;
 import org.springframework.context.annotation.Bean;
@@ -38,7 +40,8 @@ public class TestRedisCacheConfig {
 
     @Bean
     @Primary
-    public CacheManager testRedisCacheManager(RedisConnectionFactory redisConnectionFactory, Jackson2ObjectMapperBuilder builder) {
+    public CacheManager testRedisCacheManager(RedisConnectionFactory redisConnectionFactory, Jackson2ObjectMapperBuilder builder,
+                                              MeterRegistry meterRegistry) {
 
         ObjectMapper objectMapper = builder
             .modules(new JavaTimeModule())
@@ -66,10 +69,12 @@ public class TestRedisCacheConfig {
                         .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(serializer))
         );
 
-        return RedisCacheManager.builder(redisConnectionFactory)
+        RedisCacheManager redisCacheManager = RedisCacheManager.builder(redisConnectionFactory)
                 .cacheDefaults(defaultCacheConfig)
                 .withInitialCacheConfigurations(cacheConfigurations)
                 .build();
+        redisCacheManager.afterPropertiesSet();
+        return new InstrumentedCacheManager(redisCacheManager, meterRegistry);
     }
 }
 
@@ -0,0 +1,74 @@
+package kr.hhplus.be.server.domain.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kr.hhplus.be.server.domain.orderexport.OrderExportPayload;
+import kr.hhplus.be.server.domain.orderexport.OrderExportPayload.OrderItemPayload;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static kr.hhplus.be.server.domain.outbox.OrderEventPayloadCodecs.PAYMENT_COMPLETED;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class OutboxPayloadSerializerTest {
+
+    private final OutboxPayloadSerializer serializer = OrderEventPayloadCodecs.serializer();
+
+    @Test
+    @DisplayName("작은 payload는 압축 없이 기록하고 그대로 복원한다")
+    void smallPayload_roundTripWithoutCompression() {
+        OrderExportPayload payload = cart(2);
+
+        byte[] bytes = serializer.serialize(PAYMENT_COMPLETED, payload);
+        OrderExportPayload restored = serializer.deserialize(PAYMENT_COMPLETED, bytes, OrderExportPayload.class);
+
+        assertThat(bytes[0]).isEqualTo(OutboxPayloadSerializer.MAGIC);
+        assertThat(bytes[1] & OutboxPayloadSerializer.FLAG_DEFLATE).isZero();
+        assertThat(restored).usingRecursiveComparison().isEqualTo(payload);
+    }
+
+    @Test
+    @DisplayName("큰 장바구니는 압축해 기록하고 JSON보다 훨씬 작다")
+    void largePayload_isCompressedAndSmallerThanJson() throws Exception {
+        OrderExportPayload payload = cart(200);
+
+        byte[] bytes = serializer.serialize(PAYMENT_COMPLETED, payload);
+        byte[] json = new ObjectMapper().writeValueAsBytes(payload);
+        OrderExportPayload restored = serializer.deserialize(PAYMENT_COMPLETED, bytes, OrderExportPayload.class);
+
+        System.out.printf("JSON %d bytes, binary %d bytes%n", json.length, bytes.length);
+        assertThat(bytes[1] & OutboxPayloadSerializer.FLAG_DEFLATE).isNotZero();
+        assertThat(bytes.length).isLessThan(json.length / 4);
+        assertThat(restored).usingRecursiveComparison().isEqualTo(payload);
+    }
+
+    @Test
+    @DisplayName("전환 전에 JSON으로 기록된 행도 읽을 수 있다")
+    void legacyJson_isStillReadable() throws Exception {
+        OrderExportPayload payload = cart(3);
+        byte[] json = new ObjectMapper().writeValueAsString(payload).getBytes(StandardCharsets.UTF_8);
+
+        OrderExportPayload restored = serializer.deserialize(PAYMENT_COMPLETED, json, OrderExportPayload.class);
+
+        assertThat(restored).usingRecursiveComparison().isEqualTo(payload);
+    }
+
+    @Test
+    @DisplayName("코덱이 등록되지 않은 이벤트 타입은 기록할 수 없다")
+    void unknownEventType_isRejected() {
+        assertThatThrownBy(() -> serializer.serialize("ORDER_CANCELLED", cart(1)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private OrderExportPayload cart(int itemCount) {
+        List<OrderItemPayload> items = new ArrayList<>();
+        for (int i = 0; i < itemCount; i++) {
+            items.add(OrderItemPayload.of(1000L + i, 1 + i % 3, 250 + (i % 10) * 5, 89_000L));
+        }
+        return OrderExportPayload.of("ORD-20250414-0001", 42L, items, 89_000L * itemCount);
+    }
+}
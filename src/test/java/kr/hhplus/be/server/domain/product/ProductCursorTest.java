@@ -0,0 +1,50 @@
+package kr.hhplus.be.server.domain.product;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ProductCursorTest {
+
+    @Test
+    @DisplayName("생성일 커서를 인코딩 후 디코딩하면 같은 위치를 가리킨다")
+    void encodeDecode_createdAt() {
+        ProductCursor cursor = new ProductCursor(ProductSortType.CREATED_AT_DESC,
+                LocalDateTime.of(2025, 4, 14, 13, 9, 24, 187_936_000), null, 42L);
+
+        ProductCursor decoded = ProductCursor.decode(cursor.encode());
+
+        assertThat(decoded).isEqualTo(cursor);
+    }
+
+    @Test
+    @DisplayName("가격 커서를 인코딩 후 디코딩하면 같은 위치를 가리킨다")
+    void encodeDecode_price() {
+        ProductCursor cursor = new ProductCursor(ProductSortType.PRICE_DESC, null, 199_000L, 7L);
+
+        ProductCursor decoded = ProductCursor.decode(cursor.encode());
+
+        assertThat(decoded).isEqualTo(cursor);
+        assertThat(cursor.encode()).doesNotContain("|");
+    }
+
+    @Test
+    @DisplayName("변조된 커서는 예외가 발생한다")
+    void decode_invalidToken() {
+        assertThatThrownBy(() -> ProductCursor.decode("not-a-cursor"))
+                .isInstanceOf(ProductException.InvalidCursorException.class);
+    }
+
+    @Test
+    @DisplayName("지원하지 않는 정렬은 예외가 발생한다")
+    void sortType_unsupported() {
+        assertThat(ProductSortType.from(null)).isEqualTo(ProductSortType.CREATED_AT_DESC);
+        assertThat(ProductSortType.from("price,desc")).isEqualTo(ProductSortType.PRICE_DESC);
+        assertThatThrownBy(() -> ProductSortType.from("name,asc"))
+                .isInstanceOf(ProductException.InvalidCursorException.class);
+    }
+}
@@ -0,0 +1,122 @@
+package kr.hhplus.be.server.infrastructure.coupon;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.hhplus.be.server.common.lock.AopForTransaction;
+import kr.hhplus.be.server.domain.coupon.CouponException;
+import kr.hhplus.be.server.domain.coupon.CouponIssueDeadLetterRepository;
+import kr.hhplus.be.server.domain.coupon.ReservedCouponIssue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CouponIssueWriterImplTest {
+
+    private static final String INSERT = "INSERT IGNORE INTO coupon_issue";
+    private static final String DECREASE = "UPDATE coupon SET remaining_quantity";
+
+    private JdbcTemplate jdbcTemplate;
+    private AopForTransaction aopForTransaction;
+    private CouponIssueDeadLetterRepository deadLetterRepository;
+    private SimpleMeterRegistry meterRegistry;
+    private CouponIssueWriterImpl writer;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        aopForTransaction = mock(AopForTransaction.class);
+        when(aopForTransaction.run(any()))
+                .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(0).get());
+        deadLetterRepository = mock(CouponIssueDeadLetterRepository.class);
+        meterRegistry = new SimpleMeterRegistry();
+        writer = new CouponIssueWriterImpl(jdbcTemplate, aopForTransaction, deadLetterRepository, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        writer.stop();
+    }
+
+    @Test
+    @DisplayName("모인 발급을 쿠폰별 INSERT IGNORE로 저장하고 저장된 행 수만큼만 수량을 차감한다")
+    void write_flushesBatchAndDecreasesByInsertedRows() throws InterruptedException {
+        // 쿠폰 1의 두 건 중 한 건은 이미 발급된 중복
+        doAnswer(invocation -> {
+            Object[] params = invocation.getArgument(1);
+            return params[1].equals(1L) ? 1 : params.length / 4;
+        }).when(jdbcTemplate).update(startsWith(INSERT), any(Object[].class));
+        writer.write(issue(1L, 100L));
+        writer.write(issue(1L, 101L));
+        writer.write(issue(2L, 100L));
+
+        writer.start();
+        verify(jdbcTemplate, timeout(2000).times(2)).update(startsWith(DECREASE), any(Object[].class));
+        writer.stop();
+
+        verify(jdbcTemplate, times(2)).update(startsWith(INSERT), any(Object[].class));
+        verify(jdbcTemplate).update(startsWith(DECREASE), eq(1), eq(1L));
+        verify(jdbcTemplate).update(startsWith(DECREASE), eq(1), eq(2L));
+        verify(deadLetterRepository, never()).save(any(), anyString());
+        assertThat(meterRegistry.get("coupon.issue.writer.duplicate").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("재시도까지 실패한 배치는 발급별로 다시 저장하고 실패한 발급만 데드레터에 남긴다")
+    void failingIssue_isIsolatedToDeadLetter() throws InterruptedException {
+        doAnswer(invocation -> {
+            Object[] params = invocation.getArgument(1);
+            if (Arrays.asList(params).contains(999L)) {
+                throw new IllegalStateException("data too long");
+            }
+            return params.length / 4;
+        }).when(jdbcTemplate).update(startsWith(INSERT), any(Object[].class));
+        ReservedCouponIssue broken = issue(1L, 999L);
+        writer.write(issue(1L, 100L));
+        writer.write(broken);
+        writer.write(issue(1L, 101L));
+
+        writer.start();
+        verify(deadLetterRepository, timeout(3000)).save(eq(broken), anyString());
+        writer.stop();
+
+        // 배치 3회 + 발급별 3회
+        verify(jdbcTemplate, times(6)).update(startsWith(INSERT), any(Object[].class));
+        verify(jdbcTemplate, times(2)).update(startsWith(DECREASE), eq(1), eq(1L));
+        verify(deadLetterRepository, times(1)).save(any(), anyString());
+        assertThat(meterRegistry.get("coupon.issue.writer.dead_letter").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("종료된 버퍼는 발급을 받지 않고 거절한다")
+    void write_rejectsAfterStop() throws InterruptedException {
+        writer.stop();
+
+        assertThatThrownBy(() -> writer.write(issue(1L, 100L)))
+                .isInstanceOf(CouponException.IssueBufferFullException.class);
+        assertThat(meterRegistry.get("coupon.issue.writer.rejected").counter().count()).isEqualTo(1);
+        verify(jdbcTemplate, never()).update(anyString(), any(Object[].class));
+    }
+
+    private ReservedCouponIssue issue(Long couponId, Long userId) {
+        return new ReservedCouponIssue(couponId, userId, LocalDateTime.of(2025, 1, 1, 10, 0));
+    }
+}
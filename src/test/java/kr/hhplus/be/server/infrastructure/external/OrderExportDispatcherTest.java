@@ -0,0 +1,152 @@
+package kr.hhplus.be.server.infrastructure.external;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.hhplus.be.server.domain.orderexport.OrderExportPayload;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class OrderExportDispatcherTest {
+
+    private OrderExportDispatcher dispatcher;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        if (dispatcher != null) {
+            dispatcher.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("동시에 들어온 주문을 batch-size 단위로 묶어 한 번에 전송한다")
+    void submit_groupsPayloadsIntoBatches() throws Exception {
+        RecordingClient client = new RecordingClient(Set.of());
+        dispatcher = start(client, 10, 200);
+
+        List<CompletableFuture<Void>> results = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            results.add(dispatcher.submit(payload("ORDER-" + i)));
+        }
+        CompletableFuture.allOf(results.toArray(CompletableFuture[]::new)).get(5, TimeUnit.SECONDS);
+
+        assertThat(client.batches).hasSize(3);
+        assertThat(client.batches).allSatisfy(batch -> assertThat(batch).hasSize(10));
+    }
+
+    @Test
+    @DisplayName("일부 주문만 실패하면 해당 주문의 future만 실패한다")
+    void submit_partialFailure() throws Exception {
+        dispatcher = start(new RecordingClient(Set.of("ORDER-2")), 10, 50);
+
+        CompletableFuture<Void> ok = dispatcher.submit(payload("ORDER-1"));
+        CompletableFuture<Void> broken = dispatcher.submit(payload("ORDER-2"));
+
+        ok.get(5, TimeUnit.SECONDS);
+        assertThatThrownBy(() -> broken.get(5, TimeUnit.SECONDS))
+                .hasCauseInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("ORDER-2");
+    }
+
+    @Test
+    @DisplayName("일괄 호출 자체가 실패하면 배치의 모든 future가 실패한다")
+    void submit_wholeBatchFailure() {
+        ExternalPlatformClient failing = new ExternalPlatformClient() {
+            @Override
+            public void sendOrder(OrderExportPayload payload) {
+            }
+
+            @Override
+            public OrderExportBatchResult sendOrders(List<OrderExportPayload> payloads) {
+                throw new IllegalStateException("연결 실패");
+            }
+        };
+        dispatcher = start(failing, 10, 20);
+
+        CompletableFuture<Void> result = dispatcher.submit(payload("ORDER-1"));
+
+        assertThatThrownBy(() -> result.get(5, TimeUnit.SECONDS))
+                .hasCauseInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("linger 대기 중 종료되어도 이미 꺼낸 주문을 전송해 future를 완료한다")
+    void stop_completesDrainedPayloads() throws Exception {
+        RecordingClient client = new RecordingClient(Set.of());
+        dispatcher = start(client, 10, 5_000);
+
+        List<CompletableFuture<Void>> results = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            results.add(dispatcher.submit(payload("ORDER-" + i)));
+        }
+        dispatcher.stop();
+
+        CompletableFuture.allOf(results.toArray(CompletableFuture[]::new)).get(1, TimeUnit.SECONDS);
+        assertThat(client.batches.stream().mapToInt(List::size).sum()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("호출당 지연이 큰 플랫폼에서는 일괄 전송이 건별 전송보다 빠르다")
+    void batching_beatsPerItemCalls() throws Exception {
+        int orders = 40;
+        FakeExternalPlatformClient fake = new FakeExternalPlatformClient(20, 0, 0.0);
+
+        long perItemStart = System.nanoTime();
+        for (int i = 0; i < orders; i++) {
+            fake.sendOrder(payload("ORDER-" + i));
+        }
+        long perItemMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - perItemStart);
+
+        dispatcher = start(fake, 20, 20);
+        long batchedStart = System.nanoTime();
+        List<CompletableFuture<Void>> results = new ArrayList<>();
+        for (int i = 0; i < orders; i++) {
+            results.add(dispatcher.submit(payload("ORDER-" + i)));
+        }
+        CompletableFuture.allOf(results.toArray(CompletableFuture[]::new)).get(5, TimeUnit.SECONDS);
+        long batchedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - batchedStart);
+
+        System.out.printf("건별 전송 %dms, 일괄 전송 %dms%n", perItemMillis, batchedMillis);
+        assertThat(batchedMillis).isLessThan(perItemMillis);
+    }
+
+    private OrderExportDispatcher start(ExternalPlatformClient client, int batchSize, long lingerMillis) {
+        OrderExportDispatcher started = new OrderExportDispatcher(
+                client, new SimpleMeterRegistry(), batchSize, lingerMillis, 1);
+        started.start();
+        return started;
+    }
+
+    private OrderExportPayload payload(String orderId) {
+        return OrderExportPayload.of(orderId, 1L, List.of(), 10_000L);
+    }
+
+    private static class RecordingClient implements ExternalPlatformClient {
+        private final Set<String> failing;
+        private final List<List<OrderExportPayload>> batches = new CopyOnWriteArrayList<>();
+
+        private RecordingClient(Set<String> failing) {
+            this.failing = failing;
+        }
+
+        @Override
+        public void sendOrder(OrderExportPayload payload) {
+            sendOrders(List.of(payload));
+        }
+
+        @Override
+        public OrderExportBatchResult sendOrders(List<OrderExportPayload> payloads) {
+            batches.add(payloads);
+            return new OrderExportBatchResult(failing);
+        }
+    }
+}
@@ -31,6 +31,22 @@ class ProductControllerIntegrationTest {
                 .andExpect(jsonPath("$.data.products").isArray());
     }
 
+    @Test
+    @DisplayName("커서 목록 조회 실패 - 페이지 크기가 0이면 400")
+    void getProductsByCursor_zeroSize() throws Exception {
+        mockMvc.perform(get("/api/v1/products/cursor?size=0")
+                        .header("X-USER-ID", "100"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("상품 목록 조회 실패 - 페이지 크기가 음수면 400")
+    void getProducts_negativeSize() throws Exception {
+        mockMvc.perform(get("/api/v1/products?page=0&size=-1")
+                        .header("X-USER-ID", "100"))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     @DisplayName("상품 상세 조회 성공")
     void getProductDetail() throws Exception {